@@ -0,0 +1,120 @@
+package br.dev.leandro.spring.event.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compara um resultado JMH (JSON) com a linha de base e falha se algum benchmark piorar além do
+ * limite percentual.
+ * <p>
+ * São comparados o tempo por operação (ou a vazão, no modo {@code thrpt}) e os bytes alocados
+ * por operação ({@code gc.alloc.rate.norm}, do profiler de GC). Benchmarks ausentes em um dos
+ * arquivos são listados, mas não contam como regressão.
+ * </p>
+ * <pre>
+ * mvn -Pbenchmark -DskipTests verify                          # gera target/jmh-result.json
+ * cp target/jmh-result.json src/jmh/baselines/baseline.json   # promove a linha de base
+ * mvn -Pbenchmark exec:java@compare-benchmarks -Djmh.threshold=10
+ * </pre>
+ */
+public final class BenchmarkComparator {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: BenchmarkComparator <linha-de-base.json> <resultado.json> [limite-%]");
+            System.exit(2);
+        }
+        Path baselinePath = Path.of(args[0]);
+        if (!Files.exists(baselinePath)) {
+            System.err.println("Linha de base não encontrada: " + baselinePath
+                    + ". Copie um resultado do JMH para esse caminho para criá-la.");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(objectMapper.readTree(baselinePath.toFile()));
+        Map<String, JsonNode> current = index(objectMapper.readTree(Path.of(args[1]).toFile()));
+
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-90s %14s %14s %9s%n", "benchmark", "base", "atual", "delta");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "%-90s %14s%n", entry.getKey(), "(novo)");
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            boolean higherIsBetter = "thrpt".equals(after.path("mode").asText());
+            regressions += compare(entry.getKey(), before.path("primaryMetric"), after.path("primaryMetric"),
+                    higherIsBetter, threshold);
+
+            JsonNode allocationBefore = secondary(before, ALLOCATION_METRIC);
+            JsonNode allocationAfter = secondary(after, ALLOCATION_METRIC);
+            if (allocationBefore != null && allocationAfter != null) {
+                regressions += compare(entry.getKey() + " [" + ALLOCATION_METRIC + "]",
+                        allocationBefore, allocationAfter, false, threshold);
+            }
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf(Locale.ROOT, "%-90s %14s%n", key, "(removido)"));
+
+        if (regressions > 0) {
+            System.err.printf(Locale.ROOT, "%d regressão(ões) acima de %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+        System.out.printf(Locale.ROOT, "Nenhuma regressão acima de %.1f%%%n", threshold);
+    }
+
+    private static int compare(String name, JsonNode before, JsonNode after, boolean higherIsBetter,
+                               double threshold) {
+        double base = before.path("score").asDouble();
+        double now = after.path("score").asDouble();
+        double delta = base == 0 ? 0 : (now - base) / base * 100;
+        double worsening = higherIsBetter ? -delta : delta;
+        boolean regression = worsening > threshold;
+        System.out.printf(Locale.ROOT, "%-90s %14.2f %14.2f %+8.1f%% %s%s%n", name, base, now, delta,
+                after.path("scoreUnit").asText(), regression ? "  << REGRESSÃO" : "");
+        return regression ? 1 : 0;
+    }
+
+    private static JsonNode secondary(JsonNode result, String suffix) {
+        var fields = result.path("secondaryMetrics").fields();
+        while (fields.hasNext()) {
+            var field = fields.next();
+            if (field.getKey().endsWith(suffix)) {
+                return field.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indexa os resultados por benchmark, modo e parâmetros.
+     */
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+                    .append(" (").append(result.path("mode").asText()).append(')');
+            result.path("params").fields()
+                    .forEachRemaining(param -> key.append(' ').append(param.getKey()).append('=')
+                            .append(param.getValue().asText()));
+            byKey.put(key.toString(), result);
+        }
+        return byKey;
+    }
+}
@@ -0,0 +1,52 @@
+package br.dev.leandro.spring.event.benchmark;
+
+import br.dev.leandro.spring.event.filter.CorrelationIdFilter;
+import br.dev.leandro.spring.event.filter.CorrelationIdProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro de ID de correlação, executado em toda requisição.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CorrelationIdFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter(new CorrelationIdProperties());
+
+    private MockHttpServletRequest requestWithHeader;
+    private MockHttpServletRequest requestWithoutHeader;
+
+    @Setup
+    public void setUp() {
+        requestWithHeader = new MockHttpServletRequest("GET", "/events");
+        requestWithHeader.addHeader("X-Correlation-ID", "6785e97d-53d1-4be2-9233-3f8cfb549f63");
+        requestWithoutHeader = new MockHttpServletRequest("GET", "/events");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse existingCorrelationId() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(requestWithHeader, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse generatedCorrelationId() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(requestWithoutHeader, response, NO_OP_CHAIN);
+        return response;
+    }
+}
@@ -0,0 +1,96 @@
+package br.dev.leandro.spring.event.benchmark;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.search.EventIntervalIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas por janela de datas no {@link EventIntervalIndex} com {@code events} eventos
+ * espalhados por um ano (durações de 1 hora a 3 dias, alguns de até 30 dias). O modo
+ * {@code SampleTime} reporta a distribuição da latência, incluindo p50 e p99.
+ * <p>
+ * Cada consulta usa uma janela em posição aleatória e retorna a primeira página de 20 eventos com
+ * o total da janela, como {@code GET /events?from=&to=}. {@code update} mede o custo de uma
+ * escrita, que copia os vetores do índice.
+ * </p>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class EventIntervalIndexBenchmark {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final int DAYS = 365;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Param({"1000000"})
+    public int events;
+
+    private EventIntervalIndex index;
+    private LocalDateTime[] windowStarts;
+    private EventDto updated;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<EventDto> catalogue = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            LocalDateTime start = BASE.plusMinutes(random.nextLong(DAYS * 24L * 60));
+            long durationMinutes = random.nextInt(100) == 0
+                    ? random.nextLong(24 * 60, 30 * 24 * 60)
+                    : random.nextLong(60, 3 * 24 * 60);
+            catalogue.add(new EventDto(new UUID(random.nextLong(), random.nextLong()), "Evento " + i, null,
+                    start, start.plusMinutes(durationMinutes), "Local", EventStatus.ACTIVE, 0L));
+        }
+        index = new EventIntervalIndex();
+        index.putAll(catalogue);
+        updated = catalogue.get(events / 2);
+        windowStarts = new LocalDateTime[1024];
+        for (int i = 0; i < windowStarts.length; i++) {
+            windowStarts[i] = BASE.plusHours(random.nextLong((DAYS - 7) * 24L));
+        }
+    }
+
+    @Benchmark
+    public Page<EventDto> day() {
+        LocalDateTime from = nextWindowStart();
+        return index.overlapping(from, from.plusDays(1), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<EventDto> week() {
+        LocalDateTime from = nextWindowStart();
+        return index.overlapping(from, from.plusDays(7), FIRST_PAGE);
+    }
+
+    /**
+     * Atualização de um evento: copia os vetores do índice.
+     */
+    @Benchmark
+    public void update() {
+        LocalDateTime start = nextWindowStart();
+        updated = new EventDto(updated.id(), updated.name(), null, start, start.plusHours(2),
+                updated.location(), EventStatus.ACTIVE, updated.version() + 1);
+        index.put(updated);
+    }
+
+    private LocalDateTime nextWindowStart() {
+        next = (next + 1) & (windowStarts.length - 1);
+        return windowStarts[next];
+    }
+}
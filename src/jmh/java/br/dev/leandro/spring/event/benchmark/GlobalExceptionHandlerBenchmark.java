@@ -0,0 +1,71 @@
+package br.dev.leandro.spring.event.benchmark;
+
+import br.dev.leandro.spring.event.exception.ApiErrorResponse;
+import br.dev.leandro.spring.event.exception.ResourceNotFoundException;
+import br.dev.leandro.spring.event.exception.handler.GlobalExceptionHandler;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem das respostas de erro ({@code buildErrorResponse}), exercitada pelos tratadores
+ * públicos. O log do tratador é formatado por completo, incluindo a pilha da exceção, e descartado
+ * em um {@link OutputStream#nullOutputStream()}, para medir a formatação sem o I/O do console.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private MockHttpServletRequest request;
+    private ResourceNotFoundException notFound;
+    private IllegalArgumentException badRequest;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/events/6785e97d-53d1-4be2-9233-3f8cfb549f63");
+        notFound = new ResourceNotFoundException("Evento não encontrado!");
+        badRequest = new IllegalArgumentException("Cursor inválido.");
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        Logger logger = context.getLogger(GlobalExceptionHandler.class);
+        logger.setLevel(Level.ERROR);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> resourceNotFound() {
+        return handler.handleResourceNotFound(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> illegalArgument() {
+        return handler.handleIllegalArgumentException(badRequest, request);
+    }
+}
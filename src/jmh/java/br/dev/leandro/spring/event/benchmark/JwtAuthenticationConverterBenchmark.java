@@ -0,0 +1,59 @@
+package br.dev.leandro.spring.event.benchmark;
+
+import br.dev.leandro.spring.event.converter.CustomJwtAuthenticationConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extração de papéis do JWT, executada em toda requisição autenticada.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationConverterBenchmark {
+
+    private final CustomJwtAuthenticationConverter converter = new CustomJwtAuthenticationConverter("");
+
+    private Jwt resourceAccessJwt;
+    private Jwt realmAccessJwt;
+
+    @Setup
+    public void setUp() {
+        resourceAccessJwt = jwt(Map.of("resource_access",
+                Map.of("user-service", Map.of("roles", List.of("organizer", "user")))));
+        realmAccessJwt = jwt(Map.of("realm_access",
+                Map.of("roles", List.of("admin", "offline_access", "uma_authorization"))));
+    }
+
+    private static Jwt jwt(Map<String, Object> claims) {
+        Instant now = Instant.now();
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("6785e97d-53d1-4be2-9233-3f8cfb549f63")
+                .claim("preferred_username", "organizador")
+                .claims(map -> map.putAll(claims))
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(300))
+                .build();
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> resourceAccessRoles() {
+        return converter.convert(resourceAccessJwt);
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> realmAccessFallback() {
+        return converter.convert(realmAccessJwt);
+    }
+}
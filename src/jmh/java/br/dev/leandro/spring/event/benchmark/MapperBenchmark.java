@@ -0,0 +1,76 @@
+package br.dev.leandro.spring.event.benchmark;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.dto.OrganizerDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.Organizer;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.entity.enums.OrganizerStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.mapper.EventMapperImpl;
+import br.dev.leandro.spring.event.mapper.OrganizerMapper;
+import br.dev.leandro.spring.event.mapper.OrganizerMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões entidade/DTO feitas em toda leitura e escrita de eventos e organizadores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final EventMapper eventMapper = new EventMapperImpl();
+    private final OrganizerMapper organizerMapper = new OrganizerMapperImpl();
+
+    private Event event;
+    private EventDto eventDto;
+    private Organizer organizer;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        event = Event.builder()
+                .id(UUID.randomUUID())
+                .name("Festival de Inverno")
+                .description("Programação com shows, gastronomia e oficinas")
+                .location("Campos do Jordão")
+                .startDatetime(start)
+                .endDatetime(start.plusDays(3))
+                .status(EventStatus.ACTIVE)
+                .organizerId(UUID.randomUUID())
+                .build();
+        eventDto = eventMapper.toDto(event);
+        organizer = Organizer.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID().toString())
+                .organizationName("Produtora Exemplo")
+                .status(OrganizerStatus.ACTIVE)
+                .contactEmail("contato@exemplo.com")
+                .contactPhone("11999999999")
+                .documentNumber("12345678000199")
+                .build();
+    }
+
+    @Benchmark
+    public EventDto eventToDto() {
+        return eventMapper.toDto(event);
+    }
+
+    @Benchmark
+    public Event eventToEntity() {
+        return eventMapper.toEntity(eventDto);
+    }
+
+    @Benchmark
+    public OrganizerDto organizerToDto() {
+        return organizerMapper.toDto(organizer);
+    }
+}
@@ -0,0 +1,165 @@
+package br.dev.leandro.spring.event.benchmark;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.TicketType;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.mapper.EventMapperImpl;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Leitura de eventos por entidade + mapper contra leitura por projeção em DTO, em H2 em memória
+ * com uma fábrica de sessões do Hibernate sem contexto Spring.
+ * <p>
+ * {@code entity*} carrega as entidades em uma sessão somente leitura e as converte com o
+ * {@link EventMapper}, como {@code getAll}/{@code getById} faziam antes; {@code projection*} usa a
+ * mesma expressão construtora de {@code EventRepository.findDto*}. A página tem 20 eventos (sem a
+ * consulta de count, igual nos dois casos). A alocação por operação é reportada pelo
+ * {@code -prof gc} do perfil {@code benchmark}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadProjectionBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final String ENTITY_PAGE =
+            "from Event e where e.status = :status order by e.startDatetime, e.id";
+    private static final String PROJECTION_PAGE =
+            "select new br.dev.leandro.spring.event.dto.EventDto(e.id, e.name, e.description, e.startDatetime, "
+                    + "e.endDatetime, e.location, e.status, e.version) "
+                    + "from Event e where e.status = :status order by e.startDatetime, e.id";
+    private static final String ENTITY_BY_ID = "from Event e where e.id = :id and e.status = :status";
+    private static final String PROJECTION_BY_ID =
+            "select new br.dev.leandro.spring.event.dto.EventDto(e.id, e.name, e.description, e.startDatetime, "
+                    + "e.endDatetime, e.location, e.status, e.version) "
+                    + "from Event e where e.id = :id and e.status = :status";
+
+    @Param({"1000"})
+    public int events;
+
+    private final EventMapper eventMapper = new EventMapperImpl();
+
+    private SessionFactory sessionFactory;
+    private UUID[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Event.class)
+                .addAnnotatedClass(TicketType.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+                        "jdbc:h2:mem:projection;MODE=MySQL;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.JAKARTA_VALIDATION_MODE, "none")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .buildSessionFactory();
+
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<UUID> saved = new ArrayList<>(events);
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < events; i++) {
+                Event event = Event.builder()
+                        .name("Evento " + i)
+                        .description("Programação com shows, gastronomia e oficinas")
+                        .location("São Paulo")
+                        .startDatetime(base.plusHours(i))
+                        .endDatetime(base.plusHours(i + 4))
+                        .status(EventStatus.ACTIVE)
+                        .organizerId(UUID.randomUUID())
+                        .build();
+                session.persist(event);
+                for (String name : List.of("Pista", "Camarote")) {
+                    session.persist(TicketType.builder()
+                            .name(name)
+                            .price(BigDecimal.valueOf(120))
+                            .quantityAvailable(500)
+                            .event(event)
+                            .build());
+                }
+                saved.add(event.getId());
+            }
+        });
+        ids = saved.toArray(UUID[]::new);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<EventDto> entityPage() {
+        return readOnly(session -> session.createSelectionQuery(ENTITY_PAGE, Event.class)
+                .setParameter("status", EventStatus.ACTIVE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(eventMapper::toDto)
+                .toList());
+    }
+
+    @Benchmark
+    public List<EventDto> projectionPage() {
+        return readOnly(session -> session.createSelectionQuery(PROJECTION_PAGE, EventDto.class)
+                .setParameter("status", EventStatus.ACTIVE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+    }
+
+    @Benchmark
+    public EventDto entityById() {
+        UUID id = nextId();
+        return readOnly(session -> eventMapper.toDto(session.createSelectionQuery(ENTITY_BY_ID, Event.class)
+                .setParameter("id", id)
+                .setParameter("status", EventStatus.ACTIVE)
+                .getSingleResult()));
+    }
+
+    @Benchmark
+    public EventDto projectionById() {
+        UUID id = nextId();
+        return readOnly(session -> session.createSelectionQuery(PROJECTION_BY_ID, EventDto.class)
+                .setParameter("id", id)
+                .setParameter("status", EventStatus.ACTIVE)
+                .getSingleResult());
+    }
+
+    private UUID nextId() {
+        UUID id = ids[next];
+        next = (next + 1) % ids.length;
+        return id;
+    }
+
+    /**
+     * Executa a leitura em uma transação de sessão somente leitura, como
+     * {@code @Transactional(readOnly = true)}.
+     */
+    private <T> T readOnly(Function<Session, T> work) {
+        return sessionFactory.fromTransaction(session -> {
+            session.setDefaultReadOnly(true);
+            return work.apply(session);
+        });
+    }
+}
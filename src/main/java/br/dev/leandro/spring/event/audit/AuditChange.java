@@ -0,0 +1,29 @@
+package br.dev.leandro.spring.event.audit;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Alteração de um campo aguardando gravação no histórico.
+ *
+ * @param aggregateType Tipo do agregado ({@code event}, {@code organizer})
+ * @param aggregateId   Id do agregado
+ * @param version       Versão do agregado após a alteração
+ * @param field         Campo alterado
+ * @param oldValue      Valor anterior
+ * @param newValue      Novo valor
+ * @param changedBy     Usuário que fez a alteração
+ * @param changedAt     Data e hora da alteração
+ * @param correlationId ID de correlação da requisição
+ */
+public record AuditChange(
+        String aggregateType,
+        UUID aggregateId,
+        Long version,
+        String field,
+        String oldValue,
+        String newValue,
+        String changedBy,
+        LocalDateTime changedAt,
+        String correlationId
+) { }
@@ -0,0 +1,358 @@
+package br.dev.leandro.spring.event.audit;
+
+import br.dev.leandro.spring.event.config.AuditHistoryProperties;
+import br.dev.leandro.spring.event.utils.UuidBytes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Grava o histórico de auditoria em lotes JDBC, fora da thread da requisição.
+ * <p>
+ * As alterações entram numa fila sem bloqueio ({@link ConcurrentLinkedQueue}) limitada por um
+ * contador atômico a {@code capacity} itens, que inclui o lote em gravação. Uma thread dedicada
+ * grava lotes de até {@code batchSize} alterações, a cada {@code flushInterval} ou assim que um
+ * lote se completa. O histórico é trilha de conformidade, então nenhuma alteração é descartada:
+ * <ul>
+ *   <li>com a fila cheia, quem registra espera até {@code offerTimeout} por espaço e, esgotado o
+ *   prazo, grava as alterações restantes na própria thread; se essa gravação também falhar, espera
+ *   por espaço sem prazo (contrapressão sobre as escritas);</li>
+ *   <li>um lote com falha continua retido pela thread de gravação e é tentado de novo
+ *   indefinidamente, com espera dobrada a cada falha até {@code maxBackoff}; cada falha é
+ *   registrada em log de erro e em {@code audit.history.write.failures}, para alerta.</li>
+ * </ul>
+ * No encerramento, a fila é gravada antes de a aplicação parar; se o banco estiver indisponível,
+ * as alterações restantes são registradas uma a uma no log de erro, para recuperação manual.
+ * </p>
+ * <p>
+ * Métricas: {@code audit.history.queue.depth}, {@code audit.history.queue.capacity},
+ * {@code audit.history.recorded}, {@code audit.history.written}, {@code audit.history.sync}
+ * (gravadas na thread de quem registra), {@code audit.history.write.failures} (tentativas de
+ * gravação com falha), {@code audit.history.flush} (tempo por lote) e
+ * {@code audit.history.backpressure} (espera por espaço na fila).
+ * </p>
+ */
+@Slf4j
+@Component
+public class AuditHistoryWriter implements SmartInitializingSingleton, DisposableBean {
+
+    static final String INSERT = """
+            insert into audit_history
+                (aggregate_type, aggregate_id, version, field, old_value, new_value, changed_by, changed_at, correlation_id)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditHistoryProperties properties;
+    private final ConcurrentLinkedQueue<AuditChange> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final Counter recordedCounter;
+    private final Counter writtenCounter;
+    private final Counter syncCounter;
+    private final Counter failureCounter;
+    private final Timer flushTimer;
+    private final Timer backpressureTimer;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private List<AuditChange> retained = List.of();
+    private volatile Thread flusher;
+    private volatile boolean running;
+
+    public AuditHistoryWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              AuditHistoryProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.recordedCounter = Counter.builder("audit.history.recorded")
+                .description("Alterações aceitas na fila do histórico")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.history.written")
+                .description("Alterações gravadas no histórico")
+                .register(meterRegistry);
+        this.syncCounter = Counter.builder("audit.history.sync")
+                .description("Alterações gravadas na thread de quem registra, com a fila cheia")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("audit.history.write.failures")
+                .description("Tentativas de gravação do histórico com falha")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.history.flush")
+                .description("Tempo de gravação de um lote do histórico")
+                .register(meterRegistry);
+        this.backpressureTimer = Timer.builder("audit.history.backpressure")
+                .description("Espera por espaço na fila do histórico")
+                .register(meterRegistry);
+        Gauge.builder("audit.history.queue.depth", depth, AtomicInteger::get)
+                .description("Alterações aguardando gravação")
+                .register(meterRegistry);
+        Gauge.builder("audit.history.queue.capacity", properties, AuditHistoryProperties::getCapacity)
+                .description("Capacidade da fila do histórico")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira uma alteração; veja {@link #offerAll(List)}.
+     *
+     * @param change Alteração
+     */
+    public void offer(AuditChange change) {
+        offerAll(List.of(change));
+    }
+
+    /**
+     * Enfileira várias alterações, reservando espaço para todas de uma vez. Com a fila cheia,
+     * espera até {@code offerTimeout} e grava as restantes na thread de quem chama; se a gravação
+     * falhar, espera por espaço sem prazo.
+     *
+     * @param changes Alterações
+     */
+    public void offerAll(List<AuditChange> changes) {
+        int wanted = changes.size();
+        int reserved = tryReserve(wanted);
+        enqueue(changes, 0, reserved);
+        if (reserved == wanted) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + properties.getOfferTimeout().toNanos();
+        boolean writeAttempted = false;
+        while (reserved < wanted) {
+            if (!writeAttempted && System.nanoTime() >= deadline) {
+                writeAttempted = true;
+                if (writeDirectly(changes.subList(reserved, wanted))) {
+                    break;
+                }
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                // Sem como esperar: excede a capacidade em vez de descartar
+                depth.addAndGet(wanted - reserved);
+                enqueue(changes, reserved, wanted);
+                break;
+            }
+            wakeFlusher();
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+            int more = tryReserve(wanted - reserved);
+            enqueue(changes, reserved, reserved + more);
+            reserved += more;
+        }
+        backpressureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Grava tudo o que está na fila, parando no primeiro lote com falha, que fica retido para a
+     * próxima gravação.
+     *
+     * @return Alterações gravadas
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            int total = 0;
+            List<AuditChange> batch;
+            while (!(batch = next()).isEmpty()) {
+                if (!write(batch)) {
+                    break;
+                }
+                total += batch.size();
+            }
+            return total;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Alterações aguardando gravação.
+     *
+     * @return Tamanho da fila
+     */
+    public int depth() {
+        return depth.get();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        running = true;
+        flusher = Thread.ofPlatform().daemon().name("audit-history-writer").start(this::run);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        Thread thread = flusher;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(properties.getFlushInterval().toMillis() * 2);
+        }
+        int written = flush();
+        if (written > 0) {
+            log.info("Histórico de auditoria: {} alterações gravadas no encerramento", written);
+        }
+        if (depth.get() > 0) {
+            log.error("Histórico de auditoria: {} alterações não gravadas no encerramento; registradas a seguir "
+                    + "para recuperação", depth.get());
+            flushLock.lock();
+            try {
+                List<AuditChange> batch;
+                while (!(batch = next()).isEmpty()) {
+                    batch.forEach(change -> log.error("Alteração do histórico não gravada: {}", change));
+                    release(batch);
+                }
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    private void run() {
+        long interval = properties.getFlushInterval().toNanos();
+        long backoff = interval;
+        while (running) {
+            flushLock.lock();
+            List<AuditChange> batch;
+            boolean written;
+            try {
+                batch = next();
+                written = batch.isEmpty() || write(batch);
+            } finally {
+                flushLock.unlock();
+            }
+            if (!written) {
+                LockSupport.parkNanos(this, backoff);
+                backoff = Math.min(backoff * 2, properties.getMaxBackoff().toNanos());
+                continue;
+            }
+            backoff = interval;
+            if (batch.size() < properties.getBatchSize()) {
+                LockSupport.parkNanos(this, interval);
+            }
+        }
+    }
+
+    private int tryReserve(int wanted) {
+        int current;
+        int granted;
+        do {
+            current = depth.get();
+            granted = Math.min(wanted, properties.getCapacity() - current);
+            if (granted <= 0) {
+                return 0;
+            }
+        } while (!depth.compareAndSet(current, current + granted));
+        return granted;
+    }
+
+    private void enqueue(List<AuditChange> changes, int from, int to) {
+        if (from == to) {
+            return;
+        }
+        queue.addAll(changes.subList(from, to));
+        recordedCounter.increment(to - from);
+        if (depth.get() >= properties.getBatchSize()) {
+            wakeFlusher();
+        }
+    }
+
+    /**
+     * Próximo lote: o retido por uma falha anterior ou um novo, tirado da fila. As alterações só
+     * deixam de ocupar a fila ({@link #release}) depois de gravadas.
+     */
+    private List<AuditChange> next() {
+        if (!retained.isEmpty()) {
+            return retained;
+        }
+        List<AuditChange> batch = new ArrayList<>(Math.min(properties.getBatchSize(), depth.get()));
+        AuditChange change;
+        while (batch.size() < properties.getBatchSize() && (change = queue.poll()) != null) {
+            batch.add(change);
+        }
+        return batch;
+    }
+
+    private void release(List<AuditChange> batch) {
+        retained = List.of();
+        depth.addAndGet(-batch.size());
+    }
+
+    private boolean write(List<AuditChange> batch) {
+        try {
+            insert(batch);
+            writtenCounter.increment(batch.size());
+            release(batch);
+            return true;
+        } catch (DataAccessException e) {
+            retained = batch;
+            failureCounter.increment();
+            log.error("Falha ao gravar {} alterações do histórico; lote retido para nova tentativa ({} na fila)",
+                    batch.size(), depth.get(), e);
+            return false;
+        }
+    }
+
+    private boolean writeDirectly(List<AuditChange> changes) {
+        try {
+            insert(changes);
+            writtenCounter.increment(changes.size());
+            syncCounter.increment(changes.size());
+            return true;
+        } catch (DataAccessException e) {
+            failureCounter.increment();
+            log.error("Fila do histórico cheia ({} alterações) e falha ao gravar {} alterações diretamente; "
+                    + "aguardando espaço na fila", properties.getCapacity(), changes.size(), e);
+            return false;
+        }
+    }
+
+    private void insert(List<AuditChange> batch) {
+        flushTimer.record(() -> transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), this::bind)));
+    }
+
+    private void bind(PreparedStatement statement, AuditChange change) throws SQLException {
+        statement.setString(1, change.aggregateType());
+        statement.setBytes(2, UuidBytes.of(change.aggregateId()));
+        if (change.version() == null) {
+            statement.setNull(3, Types.BIGINT);
+        } else {
+            statement.setLong(3, change.version());
+        }
+        statement.setString(4, change.field());
+        statement.setString(5, truncate(change.oldValue()));
+        statement.setString(6, truncate(change.newValue()));
+        statement.setString(7, change.changedBy());
+        statement.setTimestamp(8, Timestamp.valueOf(change.changedAt()));
+        statement.setString(9, change.correlationId());
+    }
+
+    private String truncate(String value) {
+        int max = properties.getMaxValueLength();
+        return value == null || value.length() <= max ? value : value.substring(0, max);
+    }
+
+    private void wakeFlusher() {
+        Thread thread = flusher;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+}
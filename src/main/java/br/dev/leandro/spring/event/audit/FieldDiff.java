@@ -0,0 +1,64 @@
+package br.dev.leandro.spring.event.audit;
+
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Diferença campo a campo entre duas versões de um DTO (record).
+ */
+public final class FieldDiff {
+
+    private FieldDiff() {
+    }
+
+    /**
+     * Campo alterado, com os valores formatados como texto.
+     *
+     * @param field    Nome do componente do record
+     * @param oldValue Valor anterior ({@code null} se ausente)
+     * @param newValue Novo valor ({@code null} se ausente)
+     */
+    public record Change(String field, String oldValue, String newValue) { }
+
+    /**
+     * Compara os componentes de dois records do mesmo tipo, na ordem de declaração.
+     *
+     * @param before  Versão anterior
+     * @param after   Versão nova
+     * @param ignored Componentes desconsiderados (por exemplo, versão e metadados de auditoria)
+     * @param <T>     Tipo do record
+     * @return Campos alterados; vazio se não houve mudança
+     */
+    public static <T extends Record> List<Change> between(T before, T after, Set<String> ignored) {
+        if (before.getClass() != after.getClass()) {
+            throw new IllegalArgumentException("As versões comparadas devem ser do mesmo tipo.");
+        }
+        List<Change> changes = new ArrayList<>();
+        for (RecordComponent component : before.getClass().getRecordComponents()) {
+            if (ignored.contains(component.getName())) {
+                continue;
+            }
+            Object oldValue = value(component, before);
+            Object newValue = value(component, after);
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new Change(component.getName(), text(oldValue), text(newValue)));
+            }
+        }
+        return changes;
+    }
+
+    private static Object value(RecordComponent component, Record record) {
+        try {
+            return component.getAccessor().invoke(record);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Falha ao ler o campo " + component.getName(), e);
+        }
+    }
+
+    private static String text(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
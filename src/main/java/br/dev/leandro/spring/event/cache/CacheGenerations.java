@@ -0,0 +1,70 @@
+package br.dev.leandro.spring.event.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Geração corrente das páginas de listagem de cada cache.
+ * <p>
+ * As chaves das páginas incluem a geração; trocar a geração torna todas as páginas anteriores
+ * inalcançáveis sem varrer o cache, e elas expiram pelo TTL. As gerações ficam no cache
+ * {@value #CACHE_NAME}, portanto também são compartilhadas entre réplicas quando o nível Redis
+ * está habilitado: a troca é publicada pelo {@link CacheInvalidationChannel}, e as demais réplicas
+ * descartam a geração anterior do nível local e leem a nova do Redis. O TTL local curto desse
+ * cache só limita o atraso quando uma mensagem de invalidação se perde.
+ * </p>
+ * Cada geração é um valor aleatório, e não um contador, para que duas réplicas que invalidam ao
+ * mesmo tempo nunca produzam a mesma geração.
+ */
+@Component
+public class CacheGenerations {
+
+    /**
+     * Nome do cache que armazena as gerações.
+     */
+    public static final String CACHE_NAME = "cache-generations";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Construtor.
+     *
+     * @param cacheManager Gerenciador de cache
+     */
+    public CacheGenerations(final CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Retorna a geração corrente das páginas do cache informado.
+     *
+     * @param cacheName Nome do cache das páginas
+     * @return Geração corrente
+     */
+    public String current(String cacheName) {
+        return generationsCache().get(cacheName, CacheGenerations::newGeneration);
+    }
+
+    /**
+     * Troca a geração das páginas do cache informado.
+     *
+     * @param cacheName Nome do cache das páginas
+     * @return Nova geração
+     */
+    public String bump(String cacheName) {
+        String generation = newGeneration();
+        generationsCache().put(cacheName, generation);
+        return generation;
+    }
+
+    private Cache generationsCache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    private static String newGeneration() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
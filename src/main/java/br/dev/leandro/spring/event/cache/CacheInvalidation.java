@@ -0,0 +1,60 @@
+package br.dev.leandro.spring.event.cache;
+
+import java.util.UUID;
+
+/**
+ * Mensagem do {@link RedisCacheInvalidationChannel}.
+ * <p>
+ * O formato é {@code <origem>|<cache>|<tipo>|<chave>}, em texto, sem serialização Java: o tipo
+ * ({@code s} para {@link String}, {@code u} para {@link UUID}, {@code l} para {@link Long}) é
+ * necessário porque a chave local precisa ser igual à usada na escrita. Chaves de outros tipos e
+ * a limpeza do cache inteiro são enviadas com o tipo {@code *}, que descarta todas as entradas
+ * do cache na réplica que recebe.
+ * </p>
+ *
+ * @param origin    Réplica que publicou a invalidação
+ * @param cacheName Nome do cache
+ * @param key       Chave da entrada, ou {@code null} para todas as entradas do cache
+ */
+public record CacheInvalidation(String origin, String cacheName, Object key) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Converte a invalidação para o texto publicado.
+     *
+     * @return Mensagem
+     */
+    public String encode() {
+        String type = switch (key) {
+            case String ignored -> "s";
+            case UUID ignored -> "u";
+            case Long ignored -> "l";
+            case null, default -> "*";
+        };
+        String value = "*".equals(type) ? "" : key.toString();
+        return String.join(SEPARATOR, origin, cacheName, type, value);
+    }
+
+    /**
+     * Lê uma mensagem publicada por {@link #encode()}.
+     *
+     * @param message Mensagem
+     * @return Invalidação
+     * @throws IllegalArgumentException se a mensagem não estiver no formato esperado
+     */
+    public static CacheInvalidation decode(String message) {
+        String[] parts = message.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Mensagem de invalidação inválida: " + message);
+        }
+        Object key = switch (parts[2]) {
+            case "s" -> parts[3];
+            case "u" -> UUID.fromString(parts[3]);
+            case "l" -> Long.valueOf(parts[3]);
+            case "*" -> null;
+            default -> throw new IllegalArgumentException("Tipo de chave desconhecido: " + parts[2]);
+        };
+        return new CacheInvalidation(parts[0], parts[1], key);
+    }
+}
@@ -0,0 +1,48 @@
+package br.dev.leandro.spring.event.cache;
+
+/**
+ * Canal de invalidação do nível local entre réplicas.
+ * <p>
+ * Com o nível compartilhado habilitado, cada réplica mantém o seu próprio nível local: uma
+ * remoção ou escrita feita em uma réplica é publicada neste canal, e as demais descartam a
+ * entrada local, voltando a ler do nível compartilhado. As mensagens publicadas por uma réplica
+ * não são entregues a ela mesma.
+ * </p>
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * Publica a invalidação de uma entrada para as demais réplicas.
+     *
+     * @param cacheName Nome do cache
+     * @param key       Chave da entrada, ou {@code null} para todas as entradas do cache
+     */
+    void publish(String cacheName, Object key);
+
+    /**
+     * Registra quem aplica as invalidações recebidas das demais réplicas.
+     *
+     * @param listener Destino das invalidações
+     */
+    void subscribe(Listener listener);
+
+    /**
+     * Destino das invalidações recebidas.
+     */
+    interface Listener {
+
+        /**
+         * Descarta uma entrada do nível local.
+         *
+         * @param cacheName Nome do cache
+         * @param key       Chave da entrada, ou {@code null} para todas as entradas do cache
+         */
+        void invalidate(String cacheName, Object key);
+
+        /**
+         * Descarta todo o nível local: chamado a cada (re)inscrição no canal, pois as mensagens
+         * publicadas enquanto a réplica estava desconectada foram perdidas.
+         */
+        void invalidateAll();
+    }
+}
@@ -0,0 +1,81 @@
+package br.dev.leandro.spring.event.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidação seletiva de cache.
+ * <p>
+ * Substitui o {@code @CacheEvict(allEntries = true)}: uma escrita remove apenas a entrada do
+ * recurso alterado e troca a geração das páginas de listagem do mesmo cache. Cada invalidação é
+ * contada em {@code cache.invalidations}, com as tags {@code cache} e {@code scope}
+ * ({@code key} ou {@code pages}).
+ * </p>
+ */
+@Slf4j
+@Component
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final CacheGenerations cacheGenerations;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Construtor.
+     *
+     * @param cacheManager     Gerenciador de cache
+     * @param cacheGenerations Gerações das páginas de listagem
+     * @param meterRegistry    Registro de métricas
+     */
+    public CacheInvalidator(final CacheManager cacheManager,
+                            final CacheGenerations cacheGenerations,
+                            final MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.cacheGenerations = cacheGenerations;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Remove a entrada de um recurso.
+     *
+     * @param cacheName Nome do cache
+     * @param key       Chave do recurso
+     */
+    public void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+        count(cacheName, "key");
+        log.debug("Entrada {} removida do cache '{}'", key, cacheName);
+    }
+
+    /**
+     * Invalida todas as páginas de listagem de um cache trocando a sua geração.
+     *
+     * @param cacheName Nome do cache
+     */
+    public void invalidatePages(String cacheName) {
+        String generation = cacheGenerations.bump(cacheName);
+        count(cacheName, "pages");
+        log.debug("Páginas do cache '{}' invalidadas (geração {})", cacheName, generation);
+    }
+
+    /**
+     * Remove a entrada de um recurso e invalida as páginas de listagem do mesmo cache.
+     *
+     * @param cacheName Nome do cache
+     * @param key       Chave do recurso
+     */
+    public void evictWithPages(String cacheName, Object key) {
+        evict(cacheName, key);
+        invalidatePages(cacheName);
+    }
+
+    private void count(String cacheName, String scope) {
+        meterRegistry.counter("cache.invalidations", "cache", cacheName, "scope", scope).increment();
+    }
+}
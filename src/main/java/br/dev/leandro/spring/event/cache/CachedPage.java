@@ -0,0 +1,47 @@
+package br.dev.leandro.spring.event.cache;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Página imutável e serializável armazenada no cache no lugar de um {@link Page}.
+ * <p>
+ * Guarda apenas o conteúdo e o total de elementos; a página é reconstruída a partir do
+ * {@link Pageable} da requisição.
+ * </p>
+ *
+ * @param content       Conteúdo da página
+ * @param totalElements Total de elementos da consulta
+ * @param <T>           Tipo dos elementos
+ */
+public record CachedPage<T extends Serializable>(List<T> content, long totalElements) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Cria a entrada de cache a partir de uma página.
+     *
+     * @param page Página carregada
+     * @param <T>  Tipo dos elementos
+     * @return Entrada de cache
+     */
+    public static <T extends Serializable> CachedPage<T> of(Page<T> page) {
+        return new CachedPage<>(List.copyOf(page.getContent()), page.getTotalElements());
+    }
+
+    /**
+     * Reconstrói a página para a requisição.
+     *
+     * @param pageable Paginação da requisição
+     * @return Página
+     */
+    public Page<T> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
@@ -0,0 +1,48 @@
+package br.dev.leandro.spring.event.cache;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.stream.Collectors;
+
+/**
+ * Chaves normalizadas para páginas de listagem em cache.
+ * <p>
+ * O formato é {@code page:<geração>:<número>:<tamanho>:<ordenação>}, em que a ordenação é
+ * escrita sempre como {@code propriedade,DIREÇÃO} (com {@code ,i} quando ignora maiúsculas).
+ * Assim, {@code sort=name} e {@code sort=name,asc} compartilham a mesma entrada, e a chave não
+ * depende do {@code toString()} de implementações de {@link Pageable}.
+ * </p>
+ */
+public final class PageKeys {
+
+    private PageKeys() {
+    }
+
+    /**
+     * Monta a chave de uma página.
+     *
+     * @param generation Geração corrente das páginas
+     * @param pageable   Paginação da requisição
+     * @return Chave normalizada
+     */
+    public static String of(String generation, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return "page:" + generation + ":unpaged:" + sort(pageable.getSort());
+        }
+        return "page:" + generation
+                + ":" + pageable.getPageNumber()
+                + ":" + pageable.getPageSize()
+                + ":" + sort(pageable.getSort());
+    }
+
+    private static String sort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "-";
+        }
+        return sort.stream()
+                .map(order -> order.getProperty() + "," + order.getDirection().name()
+                        + (order.isIgnoreCase() ? ",i" : ""))
+                .collect(Collectors.joining(";"));
+    }
+}
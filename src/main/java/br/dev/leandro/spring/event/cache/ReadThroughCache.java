@@ -0,0 +1,75 @@
+package br.dev.leandro.spring.event.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.function.Supplier;
+
+/**
+ * Leitura com cache para a camada de serviço.
+ * <p>
+ * Os serviços armazenam DTOs e {@link CachedPage}, e nunca entidades ou
+ * {@code ResponseEntity}, para que as entradas sejam pequenas e serializáveis no nível
+ * compartilhado. Exceções do carregador (por exemplo, {@code ResourceNotFoundException}) são
+ * propagadas sem encapsulamento e não são armazenadas.
+ * </p>
+ */
+@Component
+public class ReadThroughCache {
+
+    private final CacheManager cacheManager;
+    private final CacheGenerations cacheGenerations;
+
+    /**
+     * Construtor.
+     *
+     * @param cacheManager     Gerenciador de cache
+     * @param cacheGenerations Gerações das páginas de listagem
+     */
+    public ReadThroughCache(final CacheManager cacheManager, final CacheGenerations cacheGenerations) {
+        this.cacheManager = cacheManager;
+        this.cacheGenerations = cacheGenerations;
+    }
+
+    /**
+     * Retorna o valor em cache ou o carrega. Faltas concorrentes para a mesma chave compartilham
+     * uma única execução do carregador (ver {@link TieredCache#get(Object, java.util.concurrent.Callable)}).
+     *
+     * @param cacheName Nome do cache
+     * @param key       Chave
+     * @param loader    Carregador executado em caso de falta
+     * @param <T>       Tipo do valor
+     * @return Valor
+     */
+    public <T extends Serializable> T get(String cacheName, Object key, Supplier<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        try {
+            return cache.get(key, loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Retorna a página em cache ou a carrega. A chave inclui a geração corrente do cache, de
+     * forma que {@link CacheInvalidator#invalidatePages(String)} invalida todas as páginas.
+     *
+     * @param cacheName Nome do cache
+     * @param pageable  Paginação da requisição
+     * @param loader    Carregador executado em caso de falta
+     * @param <T>       Tipo dos elementos
+     * @return Página
+     */
+    public <T extends Serializable> Page<T> getPage(String cacheName, Pageable pageable, Supplier<Page<T>> loader) {
+        String key = PageKeys.of(cacheGenerations.current(cacheName), pageable);
+        CachedPage<T> cachedPage = get(cacheName, key, () -> CachedPage.of(loader.get()));
+        return cachedPage.toPage(pageable);
+    }
+}
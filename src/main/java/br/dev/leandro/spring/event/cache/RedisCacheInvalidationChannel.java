@@ -0,0 +1,92 @@
+package br.dev.leandro.spring.event.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link CacheInvalidationChannel} sobre Redis pub/sub.
+ * <p>
+ * As mensagens ({@link CacheInvalidation}) levam o identificador da réplica que as publicou, e
+ * cada réplica ignora as próprias. O pub/sub não guarda mensagens: as publicadas enquanto uma
+ * réplica está desconectada se perdem, por isso a cada (re)inscrição no canal os ouvintes
+ * descartam todo o nível local ({@link Listener#invalidateAll()}).
+ * </p>
+ */
+@Slf4j
+public class RedisCacheInvalidationChannel implements CacheInvalidationChannel, MessageListener,
+        SubscriptionListener, InitializingBean, DisposableBean {
+
+    private final String origin = UUID.randomUUID().toString();
+    private final ChannelTopic topic;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Construtor.
+     *
+     * @param connectionFactory Conexões com o Redis
+     * @param channel           Nome do canal
+     */
+    public RedisCacheInvalidationChannel(final RedisConnectionFactory connectionFactory, final String channel) {
+        this.topic = ChannelTopic.of(channel);
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+    }
+
+    @Override
+    public void publish(String cacheName, Object key) {
+        redisTemplate.convertAndSend(topic.getTopic(), new CacheInvalidation(origin, cacheName, key).encode());
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidation invalidation;
+        try {
+            invalidation = CacheInvalidation.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalidação de cache ignorada: {}", e.getMessage());
+            return;
+        }
+        if (origin.equals(invalidation.origin())) {
+            return;
+        }
+        listeners.forEach(listener -> listener.invalidate(invalidation.cacheName(), invalidation.key()));
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        log.info("Inscrito no canal de invalidação do cache '{}'; nível local descartado", topic.getTopic());
+        listeners.forEach(Listener::invalidateAll);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        listenerContainer.addMessageListener(this, topic);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+}
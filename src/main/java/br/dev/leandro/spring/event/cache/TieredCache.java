@@ -0,0 +1,384 @@
+package br.dev.leandro.spring.event.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache em dois níveis: um nível local limitado (Caffeine) e um nível compartilhado opcional.
+ * <p>
+ * Leituras consultam primeiro o nível local e, em caso de falta, o nível compartilhado,
+ * promovendo o valor encontrado para o nível local. Escritas e remoções são aplicadas nos dois
+ * níveis. Falhas no nível compartilhado são registradas e ignoradas, de forma que a
+ * indisponibilidade do Redis degrada apenas a taxa de acerto, nunca a requisição.
+ * </p>
+ * <p>
+ * Faltas concorrentes para a mesma chave são agrupadas em uma única carga; as chamadas que
+ * aguardaram uma carga em andamento são contadas em {@code cache.load.coalesced}. Com
+ * {@code stale-while-revalidate} habilitado, o valor removido por {@link #evict(Object)} é
+ * guardado por uma janela curta e servido a essas chamadas em vez de fazê-las esperar
+ * ({@code cache.stale.served}); a chamada que carrega sempre obtém o valor atualizado.
+ * </p>
+ * <p>
+ * Com um {@link CacheInvalidationChannel}, as remoções e as escritas com {@link #put} também são
+ * publicadas para as demais réplicas, que descartam a entrada do próprio nível local
+ * ({@link #evictLocal(Object)}) em vez de servi-la até o TTL. As cargas de valores ausentes não
+ * são publicadas: nenhuma outra réplica tem uma versão mais nova da chave.
+ * </p>
+ * Valores nulos não são armazenados.
+ */
+@Slf4j
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> staleCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Timer loadTimer;
+    private final Counter coalescedLoads;
+    private final Counter staleServed;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteErrors;
+
+    /**
+     * Construtor.
+     *
+     * @param name          Nome do cache
+     * @param localCache    Nível local
+     * @param remoteCache   Nível compartilhado, ou {@code null} se desabilitado
+     * @param meterRegistry Registro de métricas
+     */
+    public TieredCache(final String name,
+                       final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                       final Cache remoteCache,
+                       final MeterRegistry meterRegistry) {
+        this(name, localCache, null, remoteCache, meterRegistry);
+    }
+
+    /**
+     * Construtor com stale-while-revalidate.
+     *
+     * @param name          Nome do cache
+     * @param localCache    Nível local
+     * @param staleCache    Valores removidos ainda servíveis durante a recarga, ou {@code null} se desabilitado
+     * @param remoteCache   Nível compartilhado, ou {@code null} se desabilitado
+     * @param meterRegistry Registro de métricas
+     */
+    public TieredCache(final String name,
+                       final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                       final com.github.benmanes.caffeine.cache.Cache<Object, Object> staleCache,
+                       final Cache remoteCache,
+                       final MeterRegistry meterRegistry) {
+        this(name, localCache, staleCache, remoteCache, null, meterRegistry);
+    }
+
+    /**
+     * Construtor com invalidação entre réplicas.
+     *
+     * @param name                Nome do cache
+     * @param localCache          Nível local
+     * @param staleCache          Valores removidos ainda servíveis durante a recarga, ou {@code null} se desabilitado
+     * @param remoteCache         Nível compartilhado, ou {@code null} se desabilitado
+     * @param invalidationChannel Canal de invalidação entre réplicas, ou {@code null} se desabilitado
+     * @param meterRegistry       Registro de métricas
+     */
+    public TieredCache(final String name,
+                       final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                       final com.github.benmanes.caffeine.cache.Cache<Object, Object> staleCache,
+                       final Cache remoteCache,
+                       final CacheInvalidationChannel invalidationChannel,
+                       final MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.staleCache = staleCache;
+        this.remoteCache = remoteCache;
+        this.invalidationChannel = invalidationChannel;
+        this.loadTimer = Timer.builder("cache.load.latency")
+                .description("Tempo de carga dos valores ausentes no cache")
+                .tag("cache", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.coalescedLoads = Counter.builder("cache.load.coalesced")
+                .description("Chamadas que aguardaram uma carga já em andamento para a mesma chave")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.staleServed = Counter.builder("cache.stale.served")
+                .description("Chamadas atendidas com o valor anterior enquanto a chave era recarregada")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.remoteHits = remoteCounter(meterRegistry, "hit");
+        this.remoteMisses = remoteCounter(meterRegistry, "miss");
+        this.remoteErrors = Counter.builder("cache.remote.errors")
+                .description("Falhas de acesso ao nível compartilhado do cache")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    private Counter remoteCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.remote.gets")
+                .description("Consultas ao nível compartilhado do cache")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    /**
+     * Retorna o nível local, usado para exportar as estatísticas do Caffeine.
+     *
+     * @return Nível local
+     */
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getLocalCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = localCache.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = remoteGet(key);
+        if (value != null) {
+            localCache.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Retorna o valor em cache ou o carrega, com uma única carga concorrente por chave neste nó.
+     * <p>
+     * A carga não é feita dentro de {@code Cache.get(key, mappingFunction)} do Caffeine, que
+     * executa a função sob o lock do {@code ConcurrentHashMap}: uma consulta ao banco ali
+     * prenderia a thread virtual à thread portadora. A primeira chamada registra um
+     * {@link CompletableFuture} em {@code inFlight} e carrega sem lock; as chamadas concorrentes
+     * aguardam esse future. Se a chave for removida durante a carga, o valor carregado é
+     * devolvido, mas não permanece no cache.
+     * </p>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = localCache.getIfPresent(key);
+        if (value != null) {
+            return (T) value;
+        }
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, loading);
+        if (existing != null) {
+            Object stale = staleCache != null ? staleCache.getIfPresent(key) : null;
+            if (stale != null) {
+                staleServed.increment();
+                return (T) stale;
+            }
+            coalescedLoads.increment();
+            return (T) await(existing);
+        }
+        try {
+            Object loaded = loadThrough(key, valueLoader, loading);
+            loading.complete(loaded);
+            return (T) loaded;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, loading);
+        }
+    }
+
+    private Object loadThrough(Object key, Callable<?> valueLoader, CompletableFuture<Object> loading) {
+        // Outra carga pode ter terminado entre a consulta local e o registro em inFlight
+        Object value = localCache.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = remoteGet(key);
+        boolean fromRemote = value != null;
+        if (!fromRemote) {
+            value = load(key, valueLoader);
+        }
+        if (value == null) {
+            return null;
+        }
+        localCache.put(key, value);
+        if (staleCache != null) {
+            staleCache.invalidate(key);
+        }
+        if (!fromRemote) {
+            remotePut(key, value);
+        }
+        if (inFlight.get(key) != loading) {
+            // Removida durante a carga (evict/clear): o valor pode estar desatualizado
+            localCache.invalidate(key);
+            if (!fromRemote) {
+                remoteEvict(key);
+            }
+        }
+        return value;
+    }
+
+    private static Object await(CompletableFuture<Object> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        Timer.Sample sample = Timer.start();
+        try {
+            return valueLoader.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            sample.stop(loadTimer);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        localCache.put(key, value);
+        if (staleCache != null) {
+            staleCache.invalidate(key);
+        }
+        remotePut(key, value);
+        // As demais réplicas descartam o valor anterior e leem o novo do nível compartilhado
+        publishInvalidation(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictLocal(key);
+        remoteEvict(key);
+        publishInvalidation(key);
+    }
+
+    /**
+     * Remove a chave apenas do nível local, para aplicar uma remoção feita por outra réplica.
+     *
+     * @param key Chave
+     */
+    public void evictLocal(Object key) {
+        inFlight.remove(key);
+        if (staleCache != null) {
+            Object previous = localCache.getIfPresent(key);
+            if (previous != null) {
+                staleCache.put(key, previous);
+            }
+        }
+        localCache.invalidate(key);
+    }
+
+    private void remoteEvict(Object key) {
+        if (remoteCache != null) {
+            try {
+                remoteCache.evict(key);
+            } catch (RuntimeException e) {
+                remoteFailure("evict", key, e);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        clearLocal();
+        if (remoteCache != null) {
+            try {
+                remoteCache.clear();
+            } catch (RuntimeException e) {
+                remoteFailure("clear", null, e);
+            }
+        }
+        publishInvalidation(null);
+    }
+
+    /**
+     * Descarta o nível local, para aplicar uma limpeza feita por outra réplica.
+     */
+    public void clearLocal() {
+        inFlight.clear();
+        localCache.invalidateAll();
+        if (staleCache != null) {
+            staleCache.invalidateAll();
+        }
+    }
+
+    private void publishInvalidation(Object key) {
+        if (invalidationChannel != null) {
+            try {
+                invalidationChannel.publish(name, key);
+            } catch (RuntimeException e) {
+                remoteFailure("publish", key, e);
+            }
+        }
+    }
+
+    private Object remoteGet(Object key) {
+        if (remoteCache == null) {
+            return null;
+        }
+        try {
+            ValueWrapper wrapper = remoteCache.get(key);
+            if (wrapper == null || wrapper.get() == null) {
+                remoteMisses.increment();
+                return null;
+            }
+            remoteHits.increment();
+            return wrapper.get();
+        } catch (RuntimeException e) {
+            remoteFailure("get", key, e);
+            return null;
+        }
+    }
+
+    private void remotePut(Object key, Object value) {
+        if (remoteCache == null) {
+            return;
+        }
+        try {
+            remoteCache.put(key, value);
+        } catch (RuntimeException e) {
+            remoteFailure("put", key, e);
+        }
+    }
+
+    private void remoteFailure(String operation, Object key, RuntimeException e) {
+        remoteErrors.increment();
+        log.warn("Falha no nível compartilhado do cache '{}' ({} {}): {}", name, operation, key, e.getMessage());
+    }
+}
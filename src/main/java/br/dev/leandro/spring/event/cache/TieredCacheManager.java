@@ -0,0 +1,116 @@
+package br.dev.leandro.spring.event.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.AbstractCacheManager;
+
+import java.util.Collection;
+
+/**
+ * Gerenciador de {@link TieredCache}.
+ * <p>
+ * Os caches listados em {@code app.cache.caches} são criados na inicialização, para que as
+ * métricas sejam registradas pelo actuator. Caches não listados são criados sob demanda com os
+ * limites padrão.
+ * </p>
+ * <p>
+ * Com um {@link CacheInvalidationChannel}, as invalidações publicadas pelas demais réplicas são
+ * aplicadas ao nível local dos caches já criados.
+ * </p>
+ */
+public class TieredCacheManager extends AbstractCacheManager {
+
+    private final TieredCacheProperties properties;
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Construtor.
+     *
+     * @param properties         Propriedades do cache
+     * @param remoteCacheManager Gerenciador do nível compartilhado, ou {@code null} se desabilitado
+     * @param meterRegistry      Registro de métricas
+     */
+    public TieredCacheManager(final TieredCacheProperties properties,
+                              final CacheManager remoteCacheManager,
+                              final MeterRegistry meterRegistry) {
+        this(properties, remoteCacheManager, null, meterRegistry);
+    }
+
+    /**
+     * Construtor com invalidação entre réplicas.
+     *
+     * @param properties          Propriedades do cache
+     * @param remoteCacheManager  Gerenciador do nível compartilhado, ou {@code null} se desabilitado
+     * @param invalidationChannel Canal de invalidação entre réplicas, ou {@code null} se desabilitado
+     * @param meterRegistry       Registro de métricas
+     */
+    public TieredCacheManager(final TieredCacheProperties properties,
+                              final CacheManager remoteCacheManager,
+                              final CacheInvalidationChannel invalidationChannel,
+                              final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationChannel = invalidationChannel;
+        this.meterRegistry = meterRegistry;
+        if (invalidationChannel != null) {
+            invalidationChannel.subscribe(new LocalInvalidation());
+        }
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return properties.getCaches().keySet().stream()
+                .map(this::createCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private TieredCache createCache(String name) {
+        TieredCacheProperties.Spec spec = properties.specFor(name);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> staleCache = null;
+        if (spec.getStaleWhileRevalidate().isPositive()) {
+            staleCache = Caffeine.newBuilder()
+                    .maximumSize(spec.getMaximumSize())
+                    .expireAfterWrite(spec.getStaleWhileRevalidate())
+                    .build();
+        }
+        Cache remoteCache = remoteCacheManager != null ? remoteCacheManager.getCache(name) : null;
+        return new TieredCache(name, localCache, staleCache, remoteCache, invalidationChannel, meterRegistry);
+    }
+
+    /**
+     * Aplica as invalidações das demais réplicas. Caches ainda não criados nesta réplica não têm
+     * nada a descartar.
+     */
+    private class LocalInvalidation implements CacheInvalidationChannel.Listener {
+
+        @Override
+        public void invalidate(String cacheName, Object key) {
+            if (lookupCache(cacheName) instanceof TieredCache cache) {
+                if (key == null) {
+                    cache.clearLocal();
+                } else {
+                    cache.evictLocal(key);
+                }
+            }
+        }
+
+        @Override
+        public void invalidateAll() {
+            getCacheNames().forEach(cacheName -> invalidate(cacheName, null));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package br.dev.leandro.spring.event.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Propriedades de configuração do cache em dois níveis.
+ * <p>
+ * O primeiro nível é local (Caffeine, limitado por tamanho e TTL). O segundo nível é
+ * opcional e compartilhado entre as réplicas (Redis).
+ * </p>
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class TieredCacheProperties {
+
+    /**
+     * Limites aplicados aos caches sem configuração específica.
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * Limites por nome de cache. Os caches listados aqui são criados na inicialização.
+     */
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    /**
+     * Configuração do nível compartilhado.
+     */
+    private Remote remote = new Remote();
+
+    /**
+     * Retorna os limites do cache informado ou os limites padrão.
+     *
+     * @param cacheName Nome do cache
+     * @return Limites do cache
+     */
+    public Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    /**
+     * Limites do nível local.
+     */
+    @Setter
+    @Getter
+    public static class Spec {
+
+        /**
+         * Número máximo de entradas mantidas em memória.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Tempo de vida de uma entrada após a escrita.
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+        /**
+         * Janela em que o valor removido por uma escrita ainda pode ser servido às chamadas que
+         * chegam enquanto outra recarrega a mesma chave. Zero (padrão) desabilita: essas chamadas
+         * aguardam a carga em andamento.
+         */
+        private Duration staleWhileRevalidate = Duration.ZERO;
+    }
+
+    /**
+     * Configuração do nível compartilhado (Redis).
+     */
+    @Setter
+    @Getter
+    public static class Remote {
+
+        /**
+         * Se o nível compartilhado está habilitado.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Tempo de vida das entradas no nível compartilhado.
+         */
+        private Duration timeToLive = Duration.ofMinutes(30);
+
+        /**
+         * Prefixo das chaves gravadas no nível compartilhado.
+         */
+        private String keyPrefix = "spring-event-service::";
+    }
+}
@@ -0,0 +1,57 @@
+package br.dev.leandro.spring.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do histórico de auditoria ({@code GET /events/{id}/history}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.audit.history")
+public class AuditHistoryProperties {
+
+    /**
+     * Registra as alterações. Desabilitado, as atualizações não geram histórico.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Alterações aguardando gravação, incluindo o lote em gravação. Com a fila cheia, quem
+     * registra espera até {@code offerTimeout} e depois grava as alterações na própria thread;
+     * nenhuma alteração é descartada.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Alterações gravadas por lote JDBC.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Intervalo máximo entre gravações quando o lote não se completa.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * Espera por espaço na fila antes de gravar as alterações na thread da requisição. Se essa
+     * gravação falhar, a espera continua sem prazo (contrapressão sobre as escritas).
+     */
+    private Duration offerTimeout = Duration.ofMillis(50);
+
+    /**
+     * Espera máxima entre as tentativas de gravação de um lote com falha, que é tentado de novo
+     * indefinidamente; a espera começa em {@code flushInterval} e dobra a cada falha.
+     */
+    private Duration maxBackoff = Duration.ofMinutes(1);
+
+    /**
+     * Tamanho máximo dos valores gravados; valores maiores são truncados.
+     */
+    private int maxValueLength = 1000;
+}
@@ -0,0 +1,31 @@
+package br.dev.leandro.spring.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propriedades da importação de eventos em lote ({@code POST /events/bulk}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.events.bulk-import")
+public class BulkImportProperties {
+
+    /**
+     * Registros persistidos por transação. Uma falha de banco afeta apenas o bloco corrente.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Tamanho do lote JDBC usado dentro de cada transação.
+     */
+    private int jdbcBatchSize = 50;
+
+    /**
+     * Número máximo de registros aceitos por requisição.
+     */
+    private int maxRecords = 50_000;
+}
@@ -0,0 +1,83 @@
+package br.dev.leandro.spring.event.config;
+
+import br.dev.leandro.spring.event.cache.CacheInvalidationChannel;
+import br.dev.leandro.spring.event.cache.RedisCacheInvalidationChannel;
+import br.dev.leandro.spring.event.cache.TieredCache;
+import br.dev.leandro.spring.event.cache.TieredCacheManager;
+import br.dev.leandro.spring.event.cache.TieredCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Configuração do cache da aplicação.
+ * <p>
+ * Substitui o {@code ConcurrentMapCacheManager} padrão (sem limites) por um cache em dois níveis:
+ * Caffeine local, limitado por tamanho e TTL, e Redis compartilhado entre réplicas quando
+ * {@code app.cache.remote.enabled=true}. Nesse caso, as remoções são publicadas às demais réplicas
+ * pelo {@link RedisCacheInvalidationChannel}, para que nenhuma sirva do nível local um valor já
+ * alterado por outra.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+public class CachingConfig {
+
+    @Bean
+    public CacheManager cacheManager(TieredCacheProperties properties,
+                                     MeterRegistry meterRegistry,
+                                     ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+                                     ObjectProvider<CacheInvalidationChannel> invalidationChannel) {
+        CacheManager remoteCacheManager = null;
+        if (properties.getRemote().isEnabled()) {
+            log.info("Nível compartilhado do cache habilitado (Redis)");
+            RedisCacheConfiguration remoteDefaults = RedisCacheConfiguration.defaultCacheConfig()
+                    .entryTtl(properties.getRemote().getTimeToLive())
+                    .prefixCacheNameWith(properties.getRemote().getKeyPrefix())
+                    .disableCachingNullValues();
+            remoteCacheManager = RedisCacheManager.builder(redisConnectionFactory.getObject())
+                    .cacheDefaults(remoteDefaults)
+                    .build();
+        }
+        return new TieredCacheManager(properties, remoteCacheManager, invalidationChannel.getIfAvailable(),
+                meterRegistry);
+    }
+
+    /**
+     * Canal de invalidação do nível local entre réplicas, no prefixo das chaves do nível
+     * compartilhado.
+     *
+     * @param properties        Propriedades do cache
+     * @param connectionFactory Conexões com o Redis
+     * @return Canal de invalidação
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.remote", name = "enabled", havingValue = "true")
+    public RedisCacheInvalidationChannel cacheInvalidationChannel(TieredCacheProperties properties,
+                                                                  RedisConnectionFactory connectionFactory) {
+        return new RedisCacheInvalidationChannel(connectionFactory,
+                properties.getRemote().getKeyPrefix() + "invalidations");
+    }
+
+    /**
+     * Exporta as estatísticas do nível local (acertos, faltas, remoções e cargas) para cada
+     * cache registrado no {@link CacheManager}.
+     *
+     * @return Provedor de métricas para {@link TieredCache}
+     */
+    @Bean
+    public CacheMeterBinderProvider<TieredCache> tieredCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getLocalCache(), cache.getName(), tags);
+    }
+}
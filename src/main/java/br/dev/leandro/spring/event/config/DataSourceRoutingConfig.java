@@ -0,0 +1,112 @@
+package br.dev.leandro.spring.event.config;
+
+import br.dev.leandro.spring.event.datasource.ReadYourWritesTracker;
+import br.dev.leandro.spring.event.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Roteamento de leituras para réplicas ({@code app.datasource.routing.enabled=true}).
+ * <p>
+ * O {@link DataSource} da aplicação passa a ser um {@link LazyConnectionDataSourceProxy}: conexões
+ * de transações de escrita vêm do primário ({@code spring.datasource}) e conexões de transações
+ * {@code readOnly} vêm do {@link ReplicaRoutingDataSource}. Como o proxy só obtém a conexão física
+ * no primeiro comando, transações que não chegam ao banco (por exemplo, acertos de cache) não
+ * ocupam conexão.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Pool do primário, configurado por {@code spring.datasource} e {@code spring.datasource.hikari}.
+     *
+     * @param dataSourceProperties Propriedades do {@code spring.datasource}
+     * @return Pool do primário
+     */
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Registro de escritas recentes por usuário, associado ao gerenciador de transações.
+     *
+     * @param properties Propriedades do roteamento
+     * @return Registro de escritas
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(final DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    /**
+     * Fonte das conexões somente leitura.
+     *
+     * @param primary               Pool do primário
+     * @param dataSourceProperties  Propriedades do {@code spring.datasource}
+     * @param properties            Propriedades do roteamento
+     * @param readYourWritesTracker Registro de escritas recentes
+     * @param meterRegistry         Registro de métricas
+     * @return Roteador de réplicas
+     */
+    @Bean(defaultCandidate = false)
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") final DataSource primary,
+            final DataSourceProperties dataSourceProperties,
+            final DataSourceRoutingProperties properties,
+            final ReadYourWritesTracker readYourWritesTracker,
+            final MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.getReplicas()) {
+            String name = replica.getName() != null ? replica.getName() : "replica" + (replicas.size() + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + name);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername());
+            pool.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword());
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setMaximumPoolSize(properties.getReplicaPoolSize());
+            pool.setReadOnly(true);
+            // Falha rápida: a conexão sem sucesso é desviada para o primário
+            pool.setConnectionTimeout(1000);
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(name, pool);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, readYourWritesTracker, properties.getMaxLag(),
+                properties.getHealthCheckInterval(), properties.getLagQuery(), properties.getLagColumn(),
+                meterRegistry);
+    }
+
+    /**
+     * {@link DataSource} da aplicação (JPA, Flyway não incluído: usa {@code spring.flyway.url}).
+     *
+     * @param primary  Pool do primário
+     * @param replicas Roteador de réplicas
+     * @return Proxy que escolhe a origem da conexão pelo modo da transação
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") final DataSource primary,
+                                 @Qualifier("replicaRoutingDataSource") final ReplicaRoutingDataSource replicas) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(replicas);
+        return proxy;
+    }
+}
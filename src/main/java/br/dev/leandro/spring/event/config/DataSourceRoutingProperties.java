@@ -0,0 +1,90 @@
+package br.dev.leandro.spring.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propriedades do roteamento de transações somente leitura para réplicas do banco.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Habilita o roteamento. Desabilitado, todo acesso vai ao {@code spring.datasource}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Réplicas de leitura.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Tamanho do pool de conexões de cada réplica.
+     */
+    private int replicaPoolSize = 20;
+
+    /**
+     * Atraso de replicação máximo para que uma réplica receba leituras.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Intervalo entre as verificações de saúde e atraso das réplicas.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Por quanto tempo, após uma escrita confirmada, as leituras do mesmo usuário vão ao primário.
+     * Deve ser maior que {@code max-lag}.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    /**
+     * Consulta que retorna o atraso de replicação, em segundos, na coluna {@code lag-column}.
+     * Sem linhas ou com valor nulo, a réplica é considerada fora de sincronia.
+     */
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    /**
+     * Coluna com o atraso de replicação em segundos.
+     */
+    private String lagColumn = "Seconds_Behind_Source";
+
+    /**
+     * Conexão de uma réplica. Usuário e senha, quando ausentes, são os do {@code spring.datasource}.
+     */
+    @Setter
+    @Getter
+    public static class Replica {
+
+        /**
+         * Nome da réplica, usado nas métricas e nos logs.
+         */
+        private String name;
+
+        /**
+         * URL JDBC.
+         */
+        private String url;
+
+        /**
+         * Usuário.
+         */
+        private String username;
+
+        /**
+         * Senha.
+         */
+        private String password;
+    }
+}
@@ -0,0 +1,53 @@
+package br.dev.leandro.spring.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades da busca textual de eventos ({@code GET /events/search}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.events.search")
+public class EventSearchProperties {
+
+    /**
+     * Número máximo de resultados por consulta.
+     */
+    private int maxResults = 100;
+
+    /**
+     * Reconstrói o índice a partir do banco na inicialização, antes de o servidor aceitar
+     * requisições.
+     */
+    private boolean rebuildOnStartup = true;
+
+    /**
+     * Threads usadas na reconstrução do índice. Zero usa o número de processadores.
+     */
+    private int rebuildThreads = 0;
+
+    /**
+     * Eventos por bloco entregue a cada thread na reconstrução.
+     */
+    private int rebuildBatchSize = 500;
+
+    /**
+     * Intervalo da atualização incremental, que aplica ao índice os eventos alterados por
+     * qualquer réplica desde a atualização anterior. Zero desabilita: o índice só recebe as
+     * alterações feitas nesta réplica.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * Quanto cada atualização incremental recua além do início da anterior, para alcançar
+     * alterações confirmadas com atraso, o atraso das réplicas de leitura e a diferença de
+     * relógio entre as instâncias.
+     */
+    private Duration refreshOverlap = Duration.ofMinutes(1);
+}
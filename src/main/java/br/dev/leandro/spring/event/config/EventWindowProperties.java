@@ -0,0 +1,45 @@
+package br.dev.leandro.spring.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades das consultas por janela de datas ({@code GET /events?from=&to=}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.events.window")
+public class EventWindowProperties {
+
+    /**
+     * Mantém em memória os eventos do horizonte próximo. Quando desabilitado, toda consulta vai
+     * ao banco.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Quanto à frente de agora o horizonte em memória alcança. Janelas que terminam depois disso
+     * são consultadas no banco.
+     */
+    private Duration horizon = Duration.ofDays(56);
+
+    /**
+     * Quanto antes de agora o horizonte em memória começa, para atender janelas como "hoje".
+     */
+    private Duration lookback = Duration.ofDays(1);
+
+    /**
+     * Intervalo entre recargas do horizonte a partir do banco, que deslizam a janela em memória.
+     */
+    private Duration refreshInterval = Duration.ofHours(1);
+
+    /**
+     * Maior janela aceita em uma consulta.
+     */
+    private Duration maxWindow = Duration.ofDays(366);
+}
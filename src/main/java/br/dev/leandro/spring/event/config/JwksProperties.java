@@ -0,0 +1,58 @@
+package br.dev.leandro.spring.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do cache das chaves públicas (JWKS) do Keycloak.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.security.jwks")
+public class JwksProperties {
+
+    /**
+     * Validade das chaves em cache.
+     */
+    private Duration timeToLive = Duration.ofMinutes(15);
+
+    /**
+     * Antecedência, em relação ao fim da validade, com que as chaves são renovadas em segundo plano.
+     */
+    private Duration refreshAhead = Duration.ofMinutes(1);
+
+    /**
+     * Tempo máximo que uma requisição aguarda por uma renovação já em andamento.
+     */
+    private Duration refreshTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Intervalo mínimo entre buscas disparadas por um {@code kid} desconhecido.
+     */
+    private Duration rateLimitMinInterval = Duration.ofSeconds(30);
+
+    /**
+     * Por quanto tempo as últimas chaves obtidas continuam em uso se o Keycloak ficar indisponível.
+     */
+    private Duration outageTolerance = Duration.ofHours(1);
+
+    /**
+     * Timeout de conexão da busca do JWKS.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Timeout de leitura da busca do JWKS.
+     */
+    private Duration readTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Busca as chaves na inicialização, antes de a aplicação receber tráfego.
+     */
+    private boolean prefetch = true;
+}
@@ -0,0 +1,34 @@
+package br.dev.leandro.spring.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do cache de tokens JWT já verificados.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.security.jwt-cache")
+public class JwtCacheProperties {
+
+    /**
+     * Habilita o cache. Quando desabilitado, todo token é verificado e convertido a cada requisição.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Número máximo de tokens mantidos em memória.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Tempo máximo de permanência de um token, mesmo que o {@code exp} seja posterior. Limita por
+     * quanto tempo um token assinado por uma chave removida do JWKS continua aceito.
+     */
+    private Duration maxTimeToLive = Duration.ofMinutes(5);
+}
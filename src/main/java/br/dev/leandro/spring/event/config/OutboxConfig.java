@@ -0,0 +1,53 @@
+package br.dev.leandro.spring.event.config;
+
+import br.dev.leandro.spring.event.outbox.InMemoryOutboxPublisher;
+import br.dev.leandro.spring.event.outbox.OutboxPublisher;
+import br.dev.leandro.spring.event.outbox.RabbitOutboxPublisher;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Destino das mensagens do outbox, escolhido por {@code app.outbox.broker}.
+ */
+@Configuration
+public class OutboxConfig {
+
+    /**
+     * Exchange das mudanças, declarado pelo {@code RabbitAdmin} na primeira conexão.
+     *
+     * @param properties Propriedades do outbox
+     * @return Exchange durável do tipo topic
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.outbox", name = "broker", havingValue = "rabbit", matchIfMissing = true)
+    public TopicExchange outboxExchange(final OutboxProperties properties) {
+        return new TopicExchange(properties.getExchange(), true, false);
+    }
+
+    /**
+     * Publicação no RabbitMQ com confirmação do broker.
+     *
+     * @param rabbitTemplate Template configurado por {@code spring.rabbitmq}
+     * @param properties     Propriedades do outbox
+     * @return Publicador
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.outbox", name = "broker", havingValue = "rabbit", matchIfMissing = true)
+    public OutboxPublisher rabbitOutboxPublisher(final RabbitTemplate rabbitTemplate, final OutboxProperties properties) {
+        return new RabbitOutboxPublisher(rabbitTemplate, properties.getExchange());
+    }
+
+    /**
+     * Broker em memória, para testes e execução local.
+     *
+     * @return Publicador
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.outbox", name = "broker", havingValue = "in-memory")
+    public InMemoryOutboxPublisher inMemoryOutboxPublisher() {
+        return new InMemoryOutboxPublisher();
+    }
+}
@@ -0,0 +1,60 @@
+package br.dev.leandro.spring.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do outbox transacional e da sua publicação.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Broker de destino: {@code rabbit} ou {@code in-memory} (testes e execução local).
+     */
+    private String broker = "rabbit";
+
+    /**
+     * Exchange (tipo topic) em que as mudanças são publicadas.
+     */
+    private String exchange = "event-service.events";
+
+    /**
+     * Executa o relay nesta instância. Com várias instâncias, cada uma reserva um lote distinto
+     * e as mensagens de um mesmo agregado seguem na ordem de gravação.
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * Mensagens reservadas e publicadas por lote do relay.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Mensagens publicadas e ainda sem confirmação do broker.
+     */
+    private int maxInFlight = 100;
+
+    /**
+     * Espera entre verificações quando o outbox está vazio.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Tempo máximo de espera pela confirmação do broker; sem ela, a mensagem é publicada de novo.
+     */
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Duração da reserva de um lote; vencida, o lote volta a ser lido por qualquer instância.
+     * Deve exceder o tempo de publicação de um lote.
+     */
+    private Duration claimTimeout = Duration.ofMinutes(2);
+}
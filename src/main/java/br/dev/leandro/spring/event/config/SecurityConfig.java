@@ -1,8 +1,19 @@
 package br.dev.leandro.spring.event.config;
 
 import br.dev.leandro.spring.event.converter.CustomJwtAuthenticationConverter;
+import br.dev.leandro.spring.event.security.CachingJwtDecoder;
+import br.dev.leandro.spring.event.security.PrefetchingJwkSource;
+import br.dev.leandro.spring.event.security.VerifiedJwtCache;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.jwk.source.URLBasedJWKSetSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -13,8 +24,18 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Clock;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Configuração de segurança da aplicação.
@@ -30,6 +51,9 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
 
     private final CustomJwtAuthenticationConverter customJwtAuthenticationConverter;
+    private final JwtCacheProperties jwtCacheProperties;
+    private final JwksProperties jwksProperties;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -68,9 +92,67 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Cache de tokens já verificados, compartilhado pelo decodificador e pelo conversor de autoridades.
+     *
+     * @return O cache de tokens verificados
+     */
+    @Bean
+    public VerifiedJwtCache verifiedJwtCache() {
+        return new VerifiedJwtCache(jwtCacheProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    /**
+     * Chaves públicas do Keycloak, carregadas na inicialização e renovadas em segundo plano.
+     *
+     * @param resourceServerProperties Propriedades do resource server
+     * @return A fonte de chaves
+     * @throws MalformedURLException se o {@code jwk-set-uri} for inválido
+     */
+    @Bean
+    public PrefetchingJwkSource jwkSource(OAuth2ResourceServerProperties resourceServerProperties) throws MalformedURLException {
+        DefaultResourceRetriever retriever = new DefaultResourceRetriever(
+                (int) jwksProperties.getConnectTimeout().toMillis(),
+                (int) jwksProperties.getReadTimeout().toMillis(),
+                JWKSourceBuilder.DEFAULT_HTTP_SIZE_LIMIT);
+        URLBasedJWKSetSource<SecurityContext> origin = new URLBasedJWKSetSource<>(
+                URI.create(resourceServerProperties.getJwt().getJwkSetUri()).toURL(), retriever);
+        return new PrefetchingJwkSource(origin, jwksProperties);
+    }
+
+    /**
+     * Decodificador JWT que verifica as assinaturas com as chaves do {@link PrefetchingJwkSource},
+     * validando o emissor quando configurado. Tokens repetidos são servidos pelo
+     * {@link VerifiedJwtCache} sem nova verificação de assinatura.
+     *
+     * @param resourceServerProperties Propriedades do resource server
+     * @param jwkSource                Fonte das chaves públicas
+     * @return O decodificador JWT
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(OAuth2ResourceServerProperties resourceServerProperties, PrefetchingJwkSource jwkSource) {
+        OAuth2ResourceServerProperties.Jwt jwtProperties = resourceServerProperties.getJwt();
+        Set<JWSAlgorithm> algorithms = jwtProperties.getJwsAlgorithms().stream()
+                .map(JWSAlgorithm::parse)
+                .collect(Collectors.toSet());
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withJwkSetUri(jwtProperties.getJwkSetUri())
+                .jwtProcessorCustomizer(processor ->
+                        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwkSource)))
+                .build();
+        if (StringUtils.hasText(jwtProperties.getIssuerUri())) {
+            decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(jwtProperties.getIssuerUri()));
+        }
+        if (!jwtCacheProperties.isEnabled()) {
+            log.info("Cache de tokens JWT desabilitado");
+            return decoder;
+        }
+        return new CachingJwtDecoder(decoder, verifiedJwtCache());
+    }
+
     /**
      * Configura o conversor de autenticação JWT para extrair as autoridades (roles) do token.
-     * Utiliza um conversor personalizado para mapear as claims do JWT para as autoridades do Spring Security.
+     * Utiliza um conversor personalizado para mapear as claims do JWT para as autoridades do Spring Security;
+     * com o cache habilitado, as autoridades de um token são convertidas apenas uma vez.
      *
      * @return O conversor de autenticação JWT configurado
      */
@@ -78,7 +160,12 @@ public class SecurityConfig {
     public JwtAuthenticationConverter jwtAuthenticationConverter() {
         log.debug("Configurando conversor de autenticação JWT");
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(customJwtAuthenticationConverter);
+        if (jwtCacheProperties.isEnabled()) {
+            VerifiedJwtCache cache = verifiedJwtCache();
+            converter.setJwtGrantedAuthoritiesConverter(jwt -> cache.authorities(jwt, customJwtAuthenticationConverter));
+        } else {
+            converter.setJwtGrantedAuthoritiesConverter(customJwtAuthenticationConverter);
+        }
         return converter;
     }
 }
@@ -0,0 +1,20 @@
+package br.dev.leandro.spring.event.config;
+
+import br.dev.leandro.spring.event.datasource.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra o {@link SqlStatementCounter} na fábrica de sessões do Hibernate, para a contagem de
+ * instruções SQL por requisição.
+ */
+@Configuration
+public class SqlStatementBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+}
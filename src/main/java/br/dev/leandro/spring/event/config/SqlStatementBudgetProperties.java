@@ -0,0 +1,46 @@
+package br.dev.leandro.spring.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Propriedades da contagem de instruções SQL por requisição.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.sql.statement-budget")
+public class SqlStatementBudgetProperties {
+
+    /**
+     * Se as instruções de cada requisição são contadas e comparadas com o orçamento.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Instruções permitidas por requisição nos endpoints sem orçamento próprio.
+     */
+    private int defaultBudget = 20;
+
+    /**
+     * Orçamento por endpoint, com a chave {@code "MÉTODO padrão"} (por exemplo,
+     * {@code "GET /events/{id}"}); no YAML, a chave vai entre colchetes.
+     */
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+
+    /**
+     * Retorna o orçamento do endpoint.
+     *
+     * @param method Método HTTP
+     * @param uri    Padrão da rota
+     * @return Instruções permitidas por requisição
+     */
+    public int budgetFor(String method, String uri) {
+        return endpoints.getOrDefault(method + " " + uri, defaultBudget);
+    }
+}
@@ -0,0 +1,27 @@
+package br.dev.leandro.spring.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propriedades da transição de status em lote ({@code POST /events/status-transitions}).
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.events.status-transition")
+public class StatusTransitionProperties {
+
+    /**
+     * Eventos alterados por transação (um UPDATE por bloco). Limita o tempo em que as linhas
+     * ficam bloqueadas.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Número máximo de ids aceitos por requisição.
+     */
+    private int maxIds = 10_000;
+}
@@ -0,0 +1,39 @@
+package br.dev.leandro.spring.event.config;
+
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * Configuração complementar à execução em threads virtuais ({@code spring.threads.virtual.enabled}).
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    /**
+     * Copia o MDC (ID de correlação) da thread da requisição para as tarefas do
+     * {@code applicationTaskExecutor}, como as respostas em fluxo do MVC. Cada tarefa roda em uma
+     * thread virtual nova, que não herda o MDC.
+     *
+     * @return Decorador aplicado pelo Spring Boot ao executor de tarefas
+     */
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return runnable -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        };
+    }
+}
@@ -1,22 +1,57 @@
 package br.dev.leandro.spring.event.config;
 
+import br.dev.leandro.spring.event.security.keycloak.KeycloakClientProperties;
 import br.dev.leandro.spring.event.security.keycloak.KeycloakProperties;
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Slf4j
 @Configuration
 @Profile("!test")  // Ativa para todos os perfis exceto "test"
 public class WebClientConfig {
 
+    /**
+     * Pool de conexões do Keycloak. As métricas do pool são exportadas como
+     * {@code reactor.netty.connection.provider.*{name="keycloak"}}.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider keycloakConnectionProvider(KeycloakClientProperties clientProperties) {
+        return ConnectionProvider.builder("keycloak")
+                .maxConnections(clientProperties.getMaxConnections())
+                .pendingAcquireMaxCount(clientProperties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(clientProperties.getPendingAcquireTimeout())
+                .maxIdleTime(clientProperties.getMaxIdleTime())
+                .maxLifeTime(clientProperties.getMaxLifeTime())
+                .evictInBackground(clientProperties.getEvictInBackground())
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Cliente do Keycloak. Construído a partir do {@link WebClient.Builder} do Spring Boot, que
+     * registra a latência de cada operação em {@code http.client.requests}, com o URI template como tag.
+     */
     @Bean
-    public WebClient webClient(KeycloakProperties keycloakProperties) {
+    public WebClient webClient(WebClient.Builder webClientBuilder,
+                               KeycloakProperties keycloakProperties,
+                               KeycloakClientProperties clientProperties,
+                               ConnectionProvider keycloakConnectionProvider) {
         log.info("KeycloakProperties URL: " + keycloakProperties.getAuthServerUrl());
-        return WebClient.builder()
+        HttpClient httpClient = HttpClient.create(keycloakConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) clientProperties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(clientProperties.getResponseTimeout());
+        return webClientBuilder
                 .baseUrl(keycloakProperties.getAuthServerUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
 }
@@ -1,27 +1,45 @@
 package br.dev.leandro.spring.event.controller;
 
+import br.dev.leandro.spring.event.dto.AuditEntryDto;
+import br.dev.leandro.spring.event.dto.BulkImportReportDto;
+import br.dev.leandro.spring.event.dto.CursorPageDto;
+import br.dev.leandro.spring.event.dto.EventDetailDto;
 import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.dto.EventStatusTransitionDto;
+import br.dev.leandro.spring.event.dto.EventStatusTransitionReportDto;
 import br.dev.leandro.spring.event.entity.Event;
 import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.service.AuditHistoryService;
+import br.dev.leandro.spring.event.service.EventBulkImportService;
+import br.dev.leandro.spring.event.service.EventExportService;
+import br.dev.leandro.spring.event.service.EventSearchService;
 import br.dev.leandro.spring.event.service.EventService;
+import br.dev.leandro.spring.event.service.EventStatusTransitionService;
+import br.dev.leandro.spring.event.service.EventWindowService;
+import br.dev.leandro.spring.event.utils.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -31,8 +49,12 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/events")
 @Tag(name = "Eventos", description = "API para gerenciamento de eventos")
-@CacheConfig(cacheNames = "events")
 public class EventController {
+    /**
+     * Tipo de conteúdo CSV aceito pela importação em lote.
+     */
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     /**
      * Serviço de eventos.
      */
@@ -43,16 +65,64 @@ public class EventController {
      */
     private final EventMapper eventMapper;
 
+    /**
+     * Serviço de importação em lote.
+     */
+    private final EventBulkImportService eventBulkImportService;
+
+    /**
+     * Serviço de exportação.
+     */
+    private final EventExportService eventExportService;
+
+    /**
+     * Serviço de busca textual.
+     */
+    private final EventSearchService eventSearchService;
+
+    /**
+     * Serviço de consultas por janela de datas.
+     */
+    private final EventWindowService eventWindowService;
+
+    /**
+     * Serviço do histórico de auditoria.
+     */
+    private final AuditHistoryService auditHistoryService;
+
+    /**
+     * Serviço de transição de status em lote.
+     */
+    private final EventStatusTransitionService eventStatusTransitionService;
+
     /**
      * Construtor.
      *
-     * @param eventServiceParam Serviço de eventos
-     * @param eventMapperParam  Mapeador de eventos
+     * @param eventServiceParam           Serviço de eventos
+     * @param eventMapperParam            Mapeador de eventos
+     * @param eventBulkImportServiceParam Serviço de importação em lote
+     * @param eventExportServiceParam     Serviço de exportação
+     * @param eventSearchServiceParam     Serviço de busca textual
+     * @param eventWindowServiceParam     Serviço de consultas por janela de datas
+     * @param auditHistoryServiceParam    Serviço do histórico de auditoria
+     * @param eventStatusTransitionServiceParam Serviço de transição de status em lote
      */
     public EventController(final EventService eventServiceParam,
-                           final EventMapper eventMapperParam) {
+                           final EventMapper eventMapperParam,
+                           final EventBulkImportService eventBulkImportServiceParam,
+                           final EventExportService eventExportServiceParam,
+                           final EventSearchService eventSearchServiceParam,
+                           final EventWindowService eventWindowServiceParam,
+                           final AuditHistoryService auditHistoryServiceParam,
+                           final EventStatusTransitionService eventStatusTransitionServiceParam) {
         this.eventService = eventServiceParam;
         this.eventMapper = eventMapperParam;
+        this.eventBulkImportService = eventBulkImportServiceParam;
+        this.eventExportService = eventExportServiceParam;
+        this.eventSearchService = eventSearchServiceParam;
+        this.eventWindowService = eventWindowServiceParam;
+        this.auditHistoryService = auditHistoryServiceParam;
+        this.eventStatusTransitionService = eventStatusTransitionServiceParam;
     }
 
     /**
@@ -66,7 +136,6 @@ public class EventController {
     @ApiResponse(responseCode = "201", description = "Evento criado com sucesso")
     @ApiResponse(responseCode = "400", description = "Dados inválidos")
     @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
-    @CacheEvict(allEntries = true)
     public ResponseEntity<EventDto> create(
             @Valid @RequestBody final EventDto eventDto,
             @AuthenticationPrincipal Jwt jwt) {
@@ -75,15 +144,70 @@ public class EventController {
         Event event = eventService.create(userId, eventDto);
         log.info("Evento criado com ID: {}", event.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETags.of(event.getVersion()))
                 .body(eventMapper.toDto(event));
     }
 
     /**
-     * Atualiza um evento existente.
+     * Importa eventos em lote a partir de NDJSON ou CSV. A entrada é processada em fluxo e o
+     * relatório traz o resultado de cada registro; registros inválidos não impedem os demais.
+     *
+     * @param contentType Tipo do conteúdo ({@code application/x-ndjson} ou {@code text/csv})
+     * @param body        Corpo da requisição
+     * @param jwt         Token do usuário autenticado
+     * @return Relatório da importação
+     * @throws IOException Falha ao ler o corpo da requisição
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    @Operation(summary = "Importar eventos em lote",
+            description = "Cria eventos a partir de NDJSON ou CSV e retorna o resultado de cada registro")
+    @ApiResponse(responseCode = "200", description = "Importação processada")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
+    public ResponseEntity<BulkImportReportDto> bulkImport(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) final String contentType,
+            final InputStream body,
+            @AuthenticationPrincipal Jwt jwt) throws IOException {
+        EventBulkImportService.Format format = MediaType.parseMediaType(contentType)
+                .isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? EventBulkImportService.Format.NDJSON
+                : EventBulkImportService.Format.CSV;
+        log.info("Importando eventos em lote. Formato: {}", format);
+        BulkImportReportDto report = eventBulkImportService.importEvents(jwt.getSubject(), body, format);
+        log.info("Importação em lote: {} importados, {} rejeitados", report.imported(), report.failed());
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Troca o status de vários eventos de uma vez (por exemplo, cancelar ou publicar todos os
+     * eventos de um festival). Os eventos são informados pelos ids ou por um filtro; eventos em
+     * status que não permite a transição são ignorados.
+     *
+     * @param request Transição solicitada
+     * @return Relatório com as contagens de eventos alterados
+     */
+    @PostMapping("/status-transitions")
+    @Operation(summary = "Transição de status em lote",
+            description = "Troca o status dos eventos informados pelos ids ou pelo filtro e retorna as contagens")
+    @ApiResponse(responseCode = "200", description = "Transição aplicada")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos ou transição não permitida")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
+    public ResponseEntity<EventStatusTransitionReportDto> transitionStatus(
+            @Valid @RequestBody final EventStatusTransitionDto request) {
+        log.info("Transição de status em lote para {}", request.targetStatus());
+        EventStatusTransitionReportDto report = eventStatusTransitionService.transition(request);
+        log.info("Transição de status em lote: {} alterados, {} ignorados", report.affected(), report.skipped());
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Atualiza um evento existente. Com {@code If-Match}, a atualização só é aplicada se a
+     * ETag corresponder à versão atual do evento.
      *
      * @param id       ID do evento a ser atualizado
      * @param eventDto Novos dados do evento
-     * @return Evento atualizado
+     * @param ifMatch  ETag esperada (opcional)
+     * @return Evento atualizado, com a nova ETag
      */
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar evento",
@@ -92,19 +216,44 @@ public class EventController {
             description = "Evento atualizado com sucesso")
     @ApiResponse(responseCode = "404", description = "Evento não encontrado")
     @ApiResponse(responseCode = "400", description = "Dados inválidos")
+    @ApiResponse(responseCode = "412", description = "Evento alterado desde a leitura (If-Match)")
     @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
-    @CacheEvict(allEntries = true)
     public ResponseEntity<EventDto> update(
             @Parameter(description = "ID do evento") @PathVariable final UUID id,
-            @Valid @RequestBody final EventDto eventDto) {
+            @Valid @RequestBody final EventDto eventDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch) {
         log.info("Atualizando evento com ID: {}", id);
-        Event event = eventService.update(id, eventDto);
+        Event event = eventService.update(id, eventDto, ETags.expectedVersion(ifMatch));
         log.info("Evento atualizado: {}", event.getId());
-        return ResponseEntity.ok(eventMapper.toDto(event));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(event.getVersion()))
+                .body(eventMapper.toDto(event));
+    }
+
+    /**
+     * Lista o histórico de alterações de um evento, da mais recente para a mais antiga. As
+     * alterações são gravadas de forma assíncrona e aparecem alguns instantes após a atualização.
+     *
+     * @param id       ID do evento
+     * @param pageable Informações de paginação
+     * @return Página do histórico
+     */
+    @GetMapping("/{id}/history")
+    @Operation(summary = "Histórico do evento",
+            description = "Lista as alterações do evento, campo a campo, da mais recente para a mais antiga")
+    @ApiResponse(responseCode = "200", description = "Página do histórico")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
+    public ResponseEntity<Page<AuditEntryDto>> getHistory(
+            @Parameter(description = "ID do evento")
+            @PathVariable final UUID id,
+            final Pageable pageable) {
+        log.info("Listando histórico do evento com ID: {}", id);
+        return ResponseEntity.ok(auditHistoryService.history(AuditHistoryService.EVENT, id, pageable));
     }
 
     /**
-     * Busca um evento pelo ID.
+     * Busca um evento pelo ID. A resposta traz a versão do evento como ETag; com
+     * {@code If-None-Match} igual, responde 304 sem corpo (a versão vem do DTO em cache).
      *
      * @param id ID do evento
      * @return Evento encontrado
@@ -113,14 +262,16 @@ public class EventController {
     @Operation(summary = "Buscar evento por ID",
             description = "Retorna um evento pelo ID")
     @ApiResponse(responseCode = "200", description = "Evento encontrado")
+    @ApiResponse(responseCode = "304", description = "Evento não modificado (If-None-Match)")
     @ApiResponse(responseCode = "404", description = "Evento não encontrado")
-    @Cacheable(key = "#id")
     public ResponseEntity<EventDto> getById(
             @Parameter(description = "ID do evento")
             @PathVariable final UUID id) {
         log.info("Buscando evento com ID: {}", id);
         EventDto eventDto = eventService.getById(id);
-        return ResponseEntity.ok(eventDto);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(eventDto.version()))
+                .body(eventDto);
     }
 
     /**
@@ -133,18 +284,150 @@ public class EventController {
     @Operation(summary = "Listar eventos",
             description = "Lista todos os eventos com paginação")
     @ApiResponse(responseCode = "200", description = "Lista de eventos")
-    @Cacheable
+    @ApiResponse(responseCode = "304", description = "Página não modificada (If-None-Match)")
     public ResponseEntity<Page<EventDto>> listEvents(final Pageable pageable) {
         log.info("Listando eventos. Page: {}, Size: {}",
                 pageable.getPageNumber(), pageable.getPageSize());
         Page<EventDto> eventDtos = eventService.getAll(pageable);
-        return ResponseEntity.ok(eventDtos);
+        return ResponseEntity.ok()
+                .eTag(ETags.ofPage(eventDtos, EventDto::id, EventDto::version))
+                .body(eventDtos);
+    }
+
+    /**
+     * Busca um evento pelo ID com os seus tipos de ingresso.
+     *
+     * @param id ID do evento
+     * @return Evento com os tipos de ingresso
+     */
+    @GetMapping("/{id}/full")
+    @Operation(summary = "Buscar evento com ingressos",
+            description = "Retorna um evento pelo ID com os seus tipos de ingresso")
+    @ApiResponse(responseCode = "200", description = "Evento encontrado")
+    @ApiResponse(responseCode = "404", description = "Evento não encontrado")
+    public ResponseEntity<EventDetailDto> getDetailById(
+            @Parameter(description = "ID do evento")
+            @PathVariable final UUID id) {
+        log.info("Buscando evento com ingressos. ID: {}", id);
+        return ResponseEntity.ok(eventService.getDetailById(id));
+    }
+
+    /**
+     * Lista os eventos com os seus tipos de ingresso, com paginação. O número de consultas ao banco
+     * não depende do tamanho da página.
+     *
+     * @param pageable Informações de paginação
+     * @return Página de eventos com os tipos de ingresso
+     */
+    @GetMapping("/full")
+    @Operation(summary = "Listar eventos com ingressos",
+            description = "Lista os eventos com os seus tipos de ingresso, com paginação")
+    @ApiResponse(responseCode = "200", description = "Lista de eventos")
+    public ResponseEntity<Page<EventDetailDto>> listEventDetails(final Pageable pageable) {
+        log.info("Listando eventos com ingressos. Page: {}, Size: {}",
+                pageable.getPageNumber(), pageable.getPageSize());
+        return ResponseEntity.ok(eventService.getAllDetails(pageable));
+    }
+
+    /**
+     * Lista os eventos que acontecem na janela {@code [from, to)}, isto é, que começam antes de
+     * {@code to} e terminam depois de {@code from}, ordenados por data de início.
+     *
+     * @param from     Início da janela
+     * @param to       Fim da janela
+     * @param pageable Informações de paginação (a ordenação é sempre por data de início)
+     * @return Página de eventos
+     */
+    @GetMapping(params = {"from", "to"})
+    @Operation(summary = "Listar eventos por período",
+            description = "Lista os eventos que se sobrepõem ao período informado, ordenados por data de início")
+    @ApiResponse(responseCode = "200", description = "Lista de eventos")
+    @ApiResponse(responseCode = "304", description = "Página não modificada (If-None-Match)")
+    @ApiResponse(responseCode = "400", description = "Período inválido")
+    public ResponseEntity<Page<EventDto>> listEventsInWindow(
+            @Parameter(description = "Início do período (ISO-8601)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+            @Parameter(description = "Fim do período (ISO-8601)")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+            final Pageable pageable) {
+        log.info("Listando eventos entre {} e {}. Page: {}, Size: {}",
+                from, to, pageable.getPageNumber(), pageable.getPageSize());
+        Page<EventDto> eventDtos = eventWindowService.findOverlapping(from, to, pageable);
+        return ResponseEntity.ok()
+                .eTag(ETags.ofPage(eventDtos, EventDto::id, EventDto::version))
+                .body(eventDtos);
     }
 
     /**
-     * Remove um evento (soft delete).
+     * Lista eventos com paginação por cursor (keyset), sem OFFSET e sem contagem total.
+     * Indicado para percorrer o catálogo; a listagem paginada por número continua disponível.
      *
-     * @param id ID do evento a ser removido
+     * @param cursor Cursor retornado pela página anterior (ausente na primeira página)
+     * @param size   Tamanho da página
+     * @return Página de eventos e cursor da próxima página
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Percorrer eventos",
+            description = "Lista eventos ordenados por data de início usando paginação por cursor")
+    @ApiResponse(responseCode = "200", description = "Página de eventos")
+    @ApiResponse(responseCode = "400", description = "Cursor ou tamanho inválido")
+    public ResponseEntity<CursorPageDto<EventDto>> scrollEvents(
+            @Parameter(description = "Cursor da página anterior")
+            @RequestParam(required = false) final String cursor,
+            @Parameter(description = "Tamanho da página")
+            @RequestParam(defaultValue = "20") final int size) {
+        log.info("Percorrendo eventos. Size: {}", size);
+        return ResponseEntity.ok(eventService.scroll(cursor, size));
+    }
+
+    /**
+     * Busca eventos ativos por texto no nome, na descrição e no local, em ordem de relevância.
+     * Acentos e maiúsculas são ignorados; todos os termos são obrigatórios, e a consulta aceita
+     * frases entre aspas, prefixos ({@code conf*}), {@code |} (ou) e {@code -} (exclusão).
+     *
+     * @param q     Texto da busca
+     * @param limit Número máximo de resultados
+     * @return Eventos encontrados
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Buscar eventos por texto",
+            description = "Busca eventos ativos por nome, descrição e local, ordenados por relevância")
+    @ApiResponse(responseCode = "200", description = "Eventos encontrados")
+    @ApiResponse(responseCode = "400", description = "Consulta vazia ou limite inválido")
+    public ResponseEntity<List<EventDto>> searchEvents(
+            @Parameter(description = "Texto da busca")
+            @RequestParam final String q,
+            @Parameter(description = "Número máximo de resultados")
+            @RequestParam(defaultValue = "20") final int limit) {
+        log.info("Buscando eventos por texto. Limit: {}", limit);
+        return ResponseEntity.ok(eventSearchService.search(q, limit));
+    }
+
+    /**
+     * Exporta todos os eventos ativos em NDJSON, em fluxo. Substitui a leitura do catálogo
+     * completo página a página: não há contagem e a memória usada não depende do tamanho do
+     * catálogo.
+     *
+     * @return Corpo NDJSON escrito à medida que os eventos são lidos
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar eventos",
+            description = "Exporta todos os eventos ativos em NDJSON, um evento por linha")
+    @ApiResponse(responseCode = "200", description = "Catálogo de eventos")
+    public ResponseEntity<StreamingResponseBody> exportEvents() {
+        log.info("Exportando catálogo de eventos");
+        StreamingResponseBody body = eventExportService::exportActive;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Remove um evento (soft delete). Com {@code If-Match}, a remoção só é aplicada se a ETag
+     * corresponder à versão atual do evento.
+     *
+     * @param id      ID do evento a ser removido
+     * @param ifMatch ETag esperada (opcional)
      * @return Sem conteúdo
      */
     @DeleteMapping("/{id}")
@@ -153,13 +436,14 @@ public class EventController {
     @ApiResponse(responseCode = "204",
             description = "Evento removido com sucesso")
     @ApiResponse(responseCode = "404", description = "Evento não encontrado")
+    @ApiResponse(responseCode = "412", description = "Evento alterado desde a leitura (If-Match)")
     @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
-    @CacheEvict(allEntries = true)
     public ResponseEntity<Void> delete(
             @Parameter(description = "ID do evento")
-            @PathVariable final UUID id) {
+            @PathVariable final UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch) {
         log.info("Removendo evento com ID: {}", id);
-        eventService.delete(id);
+        eventService.delete(id, ETags.expectedVersion(ifMatch));
         log.info("Evento removido: {}", id);
         return ResponseEntity.noContent().build();
     }
@@ -1,22 +1,24 @@
 package br.dev.leandro.spring.event.controller;
 
+import br.dev.leandro.spring.event.dto.AuditEntryDto;
+import br.dev.leandro.spring.event.dto.CursorPageDto;
 import br.dev.leandro.spring.event.dto.OrganizerCreateDto;
 import br.dev.leandro.spring.event.dto.OrganizerDto;
 import br.dev.leandro.spring.event.dto.OrganizerUpdateDto;
 import br.dev.leandro.spring.event.entity.Organizer;
 import br.dev.leandro.spring.event.mapper.OrganizerMapper;
+import br.dev.leandro.spring.event.service.AuditHistoryService;
 import br.dev.leandro.spring.event.service.OrganizerService;
+import br.dev.leandro.spring.event.utils.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -33,7 +35,6 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/events/organizers")
 @Tag(name = "Organizadores", description = "API para gerenciamento de organizadores de eventos")
-@CacheConfig(cacheNames = "organizers")
 public class OrganizerController {
     /**
      * Serviço de organizadores.
@@ -45,16 +46,24 @@ public class OrganizerController {
      */
     private final OrganizerMapper organizerMapper;
 
+    /**
+     * Serviço do histórico de auditoria.
+     */
+    private final AuditHistoryService auditHistoryService;
+
     /**
      * Construtor.
      *
      * @param organizerServiceParam Serviço de organizadores
      * @param organizerMapperParam Mapeador de organizadores
+     * @param auditHistoryServiceParam Serviço do histórico de auditoria
      */
     public OrganizerController(final OrganizerService organizerServiceParam, 
-            final OrganizerMapper organizerMapperParam) {
+            final OrganizerMapper organizerMapperParam,
+            final AuditHistoryService auditHistoryServiceParam) {
         this.organizerService = organizerServiceParam;
         this.organizerMapper = organizerMapperParam;
+        this.auditHistoryService = auditHistoryServiceParam;
     }
 
     /**
@@ -68,7 +77,6 @@ public class OrganizerController {
     @ApiResponse(responseCode = "201", description = "Organizador criado com sucesso")
     @ApiResponse(responseCode = "400", description = "Dados inválidos")
     @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
-    @CacheEvict(allEntries = true)
     public ResponseEntity<OrganizerDto> createOrganizer(
             @Valid @RequestBody OrganizerCreateDto organizerCreateDto,
             @AuthenticationPrincipal Jwt jwt) {
@@ -77,15 +85,18 @@ public class OrganizerController {
         Organizer organizer = organizerService.create(userId, organizerCreateDto);
         log.info("Organizador criado com ID: {}", organizer.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(ETags.of(organizer.getVersion()))
                 .body(organizerMapper.toDto(organizer));
     }
 
     /**
-     * Atualiza um organizador existente.
+     * Atualiza um organizador existente. Com {@code If-Match}, a atualização só é aplicada se a
+     * ETag corresponder à versão atual do organizador.
      *
      * @param id ID do organizador a ser atualizado
      * @param organizerUpdateDto Novos dados do organizador
-     * @return Organizador atualizado
+     * @param ifMatch ETag esperada (opcional)
+     * @return Organizador atualizado, com a nova ETag
      */
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar organizador", 
@@ -94,23 +105,27 @@ public class OrganizerController {
             description = "Organizador atualizado com sucesso")
     @ApiResponse(responseCode = "404", description = "Organizador não encontrado")
     @ApiResponse(responseCode = "400", description = "Dados inválidos")
+    @ApiResponse(responseCode = "412", description = "Organizador alterado desde a leitura (If-Match)")
     @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
-    @CacheEvict(allEntries = true)
     public ResponseEntity<OrganizerDto> updateOrganizer(
             @Parameter(description = "ID do organizador") @PathVariable final UUID id,
             @Valid @RequestBody final OrganizerUpdateDto organizerUpdateDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch,
             @AuthenticationPrincipal Jwt jwt) {
 
         String userId = jwt.getSubject();
 
         log.info("Atualizando organizador com ID: {}", id);
-        Organizer organizer = organizerService.update(id, organizerUpdateDto, userId);
+        Organizer organizer = organizerService.update(id, organizerUpdateDto, userId, ETags.expectedVersion(ifMatch));
         log.info("Organizador atualizado: {}", organizer.getId());
-        return ResponseEntity.ok(organizerMapper.toDto(organizer));
+        return ResponseEntity.ok()
+                .eTag(ETags.of(organizer.getVersion()))
+                .body(organizerMapper.toDto(organizer));
     }
 
     /**
-     * Busca um organizador pelo ID.
+     * Busca um organizador pelo ID. A resposta traz a versão do organizador como ETag; com
+     * {@code If-None-Match} igual, responde 304 sem corpo.
      *
      * @param id ID do organizador
      * @return Organizador encontrado
@@ -119,14 +134,36 @@ public class OrganizerController {
     @Operation(summary = "Buscar organizador por ID", 
             description = "Retorna um organizador pelo ID")
     @ApiResponse(responseCode = "200", description = "Organizador encontrado")
+    @ApiResponse(responseCode = "304", description = "Organizador não modificado (If-None-Match)")
     @ApiResponse(responseCode = "404", description = "Organizador não encontrado")
-    @Cacheable(key = "#id")
     public ResponseEntity<OrganizerDto> getOrganizerById(
             @Parameter(description = "ID do organizador") 
             @PathVariable final UUID id) {
         log.info("Buscando organizador com ID: {}", id);
         OrganizerDto organizerDto = organizerService.getById(id);
-        return ResponseEntity.ok(organizerDto);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(organizerDto.version()))
+                .body(organizerDto);
+    }
+
+    /**
+     * Lista o histórico de alterações de um organizador, da mais recente para a mais antiga.
+     *
+     * @param id ID do organizador
+     * @param pageable Informações de paginação
+     * @return Página do histórico
+     */
+    @GetMapping("/{id}/history")
+    @Operation(summary = "Histórico do organizador", 
+            description = "Lista as alterações do organizador, campo a campo, da mais recente para a mais antiga")
+    @ApiResponse(responseCode = "200", description = "Página do histórico")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
+    public ResponseEntity<Page<AuditEntryDto>> getOrganizerHistory(
+            @Parameter(description = "ID do organizador") 
+            @PathVariable final UUID id,
+            final Pageable pageable) {
+        log.info("Listando histórico do organizador com ID: {}", id);
+        return ResponseEntity.ok(auditHistoryService.history(AuditHistoryService.ORGANIZER, id, pageable));
     }
 
     /**
@@ -139,18 +176,43 @@ public class OrganizerController {
     @Operation(summary = "Listar organizadores", 
             description = "Lista todos os organizadores com paginação")
     @ApiResponse(responseCode = "200", description = "Lista de organizadores")
-    @Cacheable
+    @ApiResponse(responseCode = "304", description = "Página não modificada (If-None-Match)")
     public ResponseEntity<Page<OrganizerDto>> listOrganizers(final Pageable pageable) {
         log.info("Listando organizadores. Page: {}, Size: {}", 
                 pageable.getPageNumber(), pageable.getPageSize());
         Page<OrganizerDto> organizerDtos = organizerService.getAll(pageable);
-        return ResponseEntity.ok(organizerDtos);
+        return ResponseEntity.ok()
+                .eTag(ETags.ofPage(organizerDtos, OrganizerDto::userId, OrganizerDto::version))
+                .body(organizerDtos);
     }
 
     /**
-     * Remove um organizador.
+     * Lista organizadores com paginação por cursor (keyset), sem OFFSET e sem contagem total.
+     *
+     * @param cursor Cursor retornado pela página anterior (ausente na primeira página)
+     * @param size Tamanho da página
+     * @return Página de organizadores e cursor da próxima página
+     */
+    @GetMapping("/scroll")
+    @Operation(summary = "Percorrer organizadores", 
+            description = "Lista organizadores por data de criação usando paginação por cursor")
+    @ApiResponse(responseCode = "200", description = "Página de organizadores")
+    @ApiResponse(responseCode = "400", description = "Cursor ou tamanho inválido")
+    public ResponseEntity<CursorPageDto<OrganizerDto>> scrollOrganizers(
+            @Parameter(description = "Cursor da página anterior") 
+            @RequestParam(required = false) final String cursor,
+            @Parameter(description = "Tamanho da página") 
+            @RequestParam(defaultValue = "20") final int size) {
+        log.info("Percorrendo organizadores. Size: {}", size);
+        return ResponseEntity.ok(organizerService.scroll(cursor, size));
+    }
+
+    /**
+     * Remove um organizador. Com {@code If-Match}, a remoção só é aplicada se a ETag
+     * corresponder à versão atual do organizador.
      *
      * @param id ID do organizador a ser removido
+     * @param ifMatch ETag esperada (opcional)
      * @return Sem conteúdo
      */
     @DeleteMapping("/{id}")
@@ -159,13 +221,14 @@ public class OrganizerController {
     @ApiResponse(responseCode = "204", 
             description = "Organizador removido com sucesso")
     @ApiResponse(responseCode = "404", description = "Organizador não encontrado")
+    @ApiResponse(responseCode = "412", description = "Organizador alterado desde a leitura (If-Match)")
     @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
-    @CacheEvict(allEntries = true)
     public ResponseEntity<Void> deleteOrganizer(
             @Parameter(description = "ID do organizador") 
-            @PathVariable final UUID id) {
+            @PathVariable final UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch) {
         log.info("Removendo organizador com ID: {}", id);
-        organizerService.delete(id);
+        organizerService.delete(id, ETags.expectedVersion(ifMatch));
         log.info("Organizador removido: {}", id);
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,61 @@
+package br.dev.leandro.spring.event.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+
+/**
+ * Registra os usuários que confirmaram escritas recentemente, para que as suas leituras seguintes
+ * vão ao primário em vez de a uma réplica possivelmente atrasada (ler as próprias escritas).
+ * <p>
+ * É um {@link TransactionExecutionListener}: o Spring Boot o associa ao gerenciador de transações
+ * e toda transação de escrita confirmada marca o usuário autenticado da thread por
+ * {@code window}. A marcação é local a cada instância da aplicação.
+ * </p>
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    /**
+     * Construtor.
+     *
+     * @param window Tempo em que as leituras do usuário vão ao primário após uma escrita
+     */
+    public ReadYourWritesTracker(final Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            String user = currentUser();
+            if (user != null) {
+                recentWriters.put(user, Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * Indica se o usuário autenticado da thread escreveu dentro da janela.
+     *
+     * @return {@code true} se as leituras devem ir ao primário
+     */
+    public boolean wroteRecently() {
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,243 @@
+package br.dev.leandro.spring.event.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fonte das conexões somente leitura: escolhe uma réplica saudável em rodízio ou, quando não é
+ * possível, o primário.
+ * <p>
+ * É usada como {@code readOnlyDataSource} de um {@code LazyConnectionDataSourceProxy}, que só
+ * obtém a conexão física no primeiro comando, quando já se sabe se a transação é somente leitura.
+ * O primário é usado quando o usuário escreveu há pouco ({@link ReadYourWritesTracker}), quando
+ * nenhuma réplica está saudável e quando a conexão com a réplica escolhida falha.
+ * </p>
+ * <p>
+ * Uma réplica é saudável se a {@code lagQuery} responde e o atraso de replicação não passa de
+ * {@code maxLag}; a verificação roda a cada {@code healthCheckInterval}, em segundo plano. As
+ * decisões são contadas em {@code datasource.routing} (tags {@code target} e {@code reason}), e o
+ * estado de cada réplica é publicado em {@code datasource.replica.lag} e
+ * {@code datasource.replica.healthy}.
+ * </p>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+    /**
+     * Motivo de cada decisão de roteamento, usado como tag das métricas.
+     */
+    enum Reason {
+        REPLICA("replica"),
+        READ_YOUR_WRITES("read-your-writes"),
+        NO_HEALTHY_REPLICA("no-healthy-replica"),
+        REPLICA_ERROR("replica-error");
+
+        private final String tag;
+
+        Reason(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Duration maxLag;
+    private final Duration healthCheckInterval;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService healthChecker;
+
+    /**
+     * Construtor.
+     *
+     * @param primary               Primário, usado quando nenhuma réplica pode atender
+     * @param replicas              Réplicas por nome; as que forem {@link AutoCloseable} são fechadas
+     *                              junto com este objeto
+     * @param readYourWritesTracker Registro de escritas recentes por usuário
+     * @param maxLag                Atraso de replicação máximo
+     * @param healthCheckInterval   Intervalo entre verificações
+     * @param lagQuery              Consulta do atraso de replicação
+     * @param lagColumn             Coluna com o atraso em segundos
+     * @param meterRegistry         Registro de métricas
+     */
+    public ReplicaRoutingDataSource(final DataSource primary, final Map<String, DataSource> replicas,
+                                    final ReadYourWritesTracker readYourWritesTracker, final Duration maxLag,
+                                    final Duration healthCheckInterval, final String lagQuery,
+                                    final String lagColumn, final MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLag = maxLag;
+        this.healthCheckInterval = healthCheckInterval;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.meterRegistry = meterRegistry;
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("Atraso de replicação observado, em segundos (-1 se desconhecido)")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("1 se a réplica está recebendo leituras")
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(username, password);
+    }
+
+    /**
+     * Verifica a saúde e o atraso de todas as réplicas.
+     */
+    public void checkReplicas() {
+        replicas.forEach(this::check);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        checkReplicas();
+        healthChecker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("replica-health-check").factory());
+        long interval = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Connection route(String username, String password) throws SQLException {
+        if (readYourWritesTracker.wroteRecently()) {
+            return connect(PRIMARY, primary, Reason.READ_YOUR_WRITES, username, password);
+        }
+        Replica replica = nextHealthy();
+        if (replica == null) {
+            return connect(PRIMARY, primary, Reason.NO_HEALTHY_REPLICA, username, password);
+        }
+        try {
+            return connect(replica.name, replica.dataSource, Reason.REPLICA, username, password);
+        } catch (SQLException e) {
+            markUnhealthy(replica, e);
+            return connect(PRIMARY, primary, Reason.REPLICA_ERROR, username, password);
+        }
+    }
+
+    private Replica nextHealthy() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica candidate = replicas.get((start + i) % size);
+            if (candidate.healthy) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private Connection connect(String target, DataSource dataSource, Reason reason,
+                               String username, String password) throws SQLException {
+        Connection connection = username == null
+                ? dataSource.getConnection()
+                : dataSource.getConnection(username, password);
+        counters.computeIfAbsent(target + ':' + reason.tag, key -> Counter.builder("datasource.routing")
+                        .description("Conexões somente leitura por destino e motivo")
+                        .tag("target", target)
+                        .tag("reason", reason.tag)
+                        .register(meterRegistry))
+                .increment();
+        return connection;
+    }
+
+    private void check(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                update(replica, -1, false, "sem status de replicação");
+                return;
+            }
+            long lag = resultSet.getLong(lagColumn);
+            if (resultSet.wasNull()) {
+                update(replica, -1, false, "replicação parada");
+            } else {
+                update(replica, lag, lag <= maxLag.toSeconds(), "atraso de " + lag + " s");
+            }
+        } catch (SQLException | RuntimeException e) {
+            markUnhealthy(replica, e);
+        }
+    }
+
+    private void markUnhealthy(Replica replica, Exception cause) {
+        update(replica, -1, false, cause.getMessage());
+    }
+
+    private void update(Replica replica, long lagSeconds, boolean healthy, String detail) {
+        replica.lagSeconds = lagSeconds;
+        if (!replica.checked || replica.healthy != healthy) {
+            if (healthy) {
+                log.info("Réplica {} recebendo leituras ({})", replica.name, detail);
+            } else {
+                log.warn("Réplica {} retirada das leituras: {}", replica.name, detail);
+            }
+        }
+        replica.healthy = healthy;
+        replica.checked = true;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile boolean checked;
+        private volatile long lagSeconds = -1;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package br.dev.leandro.spring.event.datasource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta as instruções SQL preparadas pelo Hibernate na thread corrente.
+ * <p>
+ * É registrado como {@link StatementInspector} da fábrica de sessões. A contagem é feita em escopos
+ * abertos com {@link #open()}: os escopos podem ser aninhados e cada instrução conta para todos os
+ * escopos abertos na thread. Com lote JDBC, a instrução é preparada uma vez por lote, de modo que a
+ * contagem corresponde às idas ao banco. Instruções do {@code JdbcTemplate} ou executadas em outras
+ * threads não são contadas.
+ * </p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+        }
+        return sql;
+    }
+
+    /**
+     * Abre um escopo de contagem na thread corrente. Deve ser fechado na mesma thread.
+     *
+     * @return Escopo aberto
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Escopo de contagem; após o fechamento, mantém o total contado.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        /**
+         * @return Instruções preparadas desde a abertura do escopo
+         */
+        public int count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() != this) {
+                return;
+            }
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
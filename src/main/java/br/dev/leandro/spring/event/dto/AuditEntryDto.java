@@ -0,0 +1,27 @@
+package br.dev.leandro.spring.event.dto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Alteração de um campo no histórico de auditoria.
+ *
+ * @param id            Identificador da entrada (crescente na ordem de gravação)
+ * @param version       Versão do agregado após a alteração
+ * @param field         Campo alterado
+ * @param oldValue      Valor anterior
+ * @param newValue      Novo valor
+ * @param changedBy     Usuário que fez a alteração
+ * @param changedAt     Data e hora da alteração
+ * @param correlationId ID de correlação da requisição
+ */
+public record AuditEntryDto(
+        Long id,
+        Long version,
+        String field,
+        String oldValue,
+        String newValue,
+        String changedBy,
+        LocalDateTime changedAt,
+        String correlationId
+) implements Serializable { }
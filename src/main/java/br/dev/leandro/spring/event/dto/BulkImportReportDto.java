@@ -0,0 +1,19 @@
+package br.dev.leandro.spring.event.dto;
+
+import java.util.List;
+
+/**
+ * Relatório da importação de eventos em lote.
+ *
+ * @param total    Registros lidos
+ * @param imported Eventos criados
+ * @param failed   Registros rejeitados
+ * @param results  Resultado de cada registro, na ordem da entrada
+ */
+public record BulkImportReportDto(
+        long total,
+        long imported,
+        long failed,
+        List<BulkRecordResultDto> results
+) {
+}
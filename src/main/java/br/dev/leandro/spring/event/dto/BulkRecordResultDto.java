@@ -0,0 +1,28 @@
+package br.dev.leandro.spring.event.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado da importação de um registro.
+ *
+ * @param record   Número do registro na entrada (a partir de 1, sem contar o cabeçalho do CSV)
+ * @param imported Indica se o evento foi criado
+ * @param id       Identificador do evento criado
+ * @param errors   Erros de leitura, validação ou persistência
+ */
+public record BulkRecordResultDto(
+        long record,
+        boolean imported,
+        UUID id,
+        List<String> errors
+) {
+
+    public static BulkRecordResultDto imported(long record, UUID id) {
+        return new BulkRecordResultDto(record, true, id, List.of());
+    }
+
+    public static BulkRecordResultDto failed(long record, List<String> errors) {
+        return new BulkRecordResultDto(record, false, null, errors);
+    }
+}
@@ -0,0 +1,19 @@
+package br.dev.leandro.spring.event.dto;
+
+import java.util.List;
+
+/**
+ * Página da paginação por cursor.
+ *
+ * @param content    Itens da página
+ * @param size       Tamanho solicitado
+ * @param hasNext    Se existem mais itens após esta página
+ * @param nextCursor Cursor para a próxima página, ou {@code null} na última
+ * @param <T>        Tipo dos itens
+ */
+public record CursorPageDto<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {}
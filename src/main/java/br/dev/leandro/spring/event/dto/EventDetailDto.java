@@ -0,0 +1,31 @@
+package br.dev.leandro.spring.event.dto;
+
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Evento com os seus tipos de ingresso.
+ *
+ * @param id            Identificador único do evento
+ * @param name          Nome do evento
+ * @param description   Descrição do evento
+ * @param startDatetime Data e hora de início
+ * @param endDatetime   Data e hora de término
+ * @param location      Local do evento
+ * @param status        Status do evento
+ * @param ticketTypes   Tipos de ingresso, em ordem de criação
+ */
+public record EventDetailDto(
+        UUID id,
+        String name,
+        String description,
+        LocalDateTime startDatetime,
+        LocalDateTime endDatetime,
+        String location,
+        EventStatus status,
+        List<TicketTypeDto> ticketTypes
+) implements Serializable { }
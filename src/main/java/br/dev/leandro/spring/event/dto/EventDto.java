@@ -1,11 +1,13 @@
 package br.dev.leandro.spring.event.dto;
 
 import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -19,15 +21,17 @@ import java.util.UUID;
  * @param endDatetime Data e hora de término
  * @param location Local do evento
  * @param status Status do evento
+ * @param version Versão do evento; não vai no corpo das respostas, é exposta no cabeçalho {@code ETag}
+ *                (as mensagens do outbox a incluem)
  */
 public record EventDto(
         UUID id,
 
         @NotBlank(message = "Nome do evento é obrigatório")
-        @Size(message = "Nome deve ter tamanho adequado")
+        @Size(max = 255, message = "Nome deve ter no máximo 255 caracteres")
         String name,
 
-        @Size(message = "Descrição deve ter tamanho adequado")
+        @Size(max = 1000, message = "Descrição deve ter no máximo 1000 caracteres")
         String description,
 
         @NotNull(message = "Data de início é obrigatória")
@@ -39,8 +43,11 @@ public record EventDto(
         LocalDateTime endDatetime,
 
         @NotBlank(message = "Local é obrigatório")
-        @Size(message = "Local deve ter tamanho adequado")
+        @Size(max = 255, message = "Local deve ter no máximo 255 caracteres")
         String location,
 
-        EventStatus status
-) { }
+        EventStatus status,
+
+        @JsonIgnore
+        Long version
+) implements Serializable { }
@@ -0,0 +1,54 @@
+package br.dev.leandro.spring.event.dto;
+
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Transição de status de vários eventos. Os eventos são informados pelos ids ou por um filtro
+ * (organizador e/ou período de início), nunca pelos dois.
+ *
+ * @param targetStatus Status de destino
+ * @param fromStatuses Status de origem considerados; vazio para todos os que permitem a transição
+ * @param ids          Ids dos eventos
+ * @param organizerId  Filtro: organizador dos eventos
+ * @param startFrom    Filtro: início a partir de (inclusivo)
+ * @param startTo      Filtro: início antes de (exclusivo)
+ */
+public record EventStatusTransitionDto(
+        @NotNull(message = "Status de destino é obrigatório")
+        EventStatus targetStatus,
+
+        Set<EventStatus> fromStatuses,
+
+        List<UUID> ids,
+
+        UUID organizerId,
+
+        LocalDateTime startFrom,
+
+        LocalDateTime startTo
+) {
+
+    /**
+     * Indica se os eventos foram informados pelos ids.
+     *
+     * @return {@code true} se há ids
+     */
+    public boolean byIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    /**
+     * Indica se algum critério do filtro foi informado.
+     *
+     * @return {@code true} se há filtro
+     */
+    public boolean byFilter() {
+        return organizerId != null || startFrom != null || startTo != null;
+    }
+}
@@ -0,0 +1,21 @@
+package br.dev.leandro.spring.event.dto;
+
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+
+/**
+ * Relatório da transição de status em lote.
+ *
+ * @param targetStatus Status de destino
+ * @param requested    Eventos solicitados: ids informados ou eventos encontrados pelo filtro
+ * @param affected     Eventos alterados
+ * @param skipped      Ids ignorados (inexistentes ou em status que não permite a transição)
+ * @param chunks       Blocos executados, cada um em uma transação
+ */
+public record EventStatusTransitionReportDto(
+        EventStatus targetStatus,
+        long requested,
+        long affected,
+        long skipped,
+        int chunks
+) {
+}
@@ -1,7 +1,9 @@
 package br.dev.leandro.spring.event.dto;
 
 import br.dev.leandro.spring.event.entity.enums.OrganizerStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public record OrganizerDto(
@@ -15,6 +17,9 @@ public record OrganizerDto(
         String createdBy,
         String updatedBy,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
-) {}
+        LocalDateTime updatedAt,
+        // Exposta no cabeçalho ETag, não no corpo
+        @JsonIgnore
+        Long version
+) implements Serializable {}
 
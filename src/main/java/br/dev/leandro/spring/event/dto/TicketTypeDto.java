@@ -0,0 +1,19 @@
+package br.dev.leandro.spring.event.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Tipo de ingresso (lote) de um evento.
+ *
+ * @param id                Identificador do tipo de ingresso
+ * @param name              Nome do lote
+ * @param price             Preço
+ * @param quantityAvailable Quantidade disponível
+ */
+public record TicketTypeDto(
+        Long id,
+        String name,
+        BigDecimal price,
+        Integer quantityAvailable
+) implements Serializable { }
@@ -0,0 +1,58 @@
+package br.dev.leandro.spring.event.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Alteração de um campo de evento ou organizador. Somente leitura pela JPA: as linhas são
+ * inseridas em lote pelo {@code AuditHistoryWriter}.
+ */
+@Entity
+@Immutable
+@Table(name = "audit_history", indexes = {
+        @Index(name = "idx_audit_history_aggregate", columnList = "aggregate_type, aggregate_id, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 32)
+    private String aggregateType;
+
+    @Column(columnDefinition = "BINARY(16)", nullable = false)
+    @JdbcTypeCode(SqlTypes.BINARY)
+    private UUID aggregateId;
+
+    private Long version;
+
+    @Column(nullable = false, length = 64)
+    private String field;
+
+    @Column(length = 1000)
+    private String oldValue;
+
+    @Column(length = 1000)
+    private String newValue;
+
+    private String changedBy;
+
+    @Column(nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime changedAt;
+
+    @Column(length = 64)
+    private String correlationId;
+}
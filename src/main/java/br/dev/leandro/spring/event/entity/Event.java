@@ -4,11 +4,15 @@ import br.dev.leandro.spring.event.entity.enums.EventStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -18,20 +22,26 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "events")
-@Data
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_status_start_id", columnList = "status, start_datetime, id"),
+        @Index(name = "idx_events_status_end_start", columnList = "status, end_datetime, start_datetime"),
+        @Index(name = "idx_events_organizer_status", columnList = "organizer_id, status"),
+        @Index(name = "idx_events_updated_at", columnList = "updated_at")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(length = 36,
-            columnDefinition = "CHAR(36) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci",
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(columnDefinition = "BINARY(16)",
             updatable = false,
             nullable = false
     )
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @JdbcTypeCode(SqlTypes.BINARY)
     private UUID id;
 
     @Column(nullable = false)
@@ -54,15 +64,20 @@ public class Event {
     private EventStatus status;
 
     @Column(name = "organizer_id",
-            length = 36,
-            columnDefinition = "CHAR(36) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci",
+            columnDefinition = "BINARY(16)",
             updatable = false,
             nullable = false
     )
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @JdbcTypeCode(SqlTypes.BINARY)
     private UUID organizerId;
 
+    /**
+     * Carregada sob demanda. Fica fora de {@code toString}, {@code equals} e {@code hashCode} para
+     * que nenhum deles dispare a carga (ou percorra a associação de volta em {@link TicketType}).
+     */
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
+    @ToString.Exclude
     private List<TicketType> ticketTypes;
 
     @CreatedBy
@@ -76,4 +91,32 @@ public class Event {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    /**
+     * Versão para bloqueio otimista; também é a ETag do evento. Nula até a primeira gravação,
+     * para que o repositório trate o evento como novo.
+     */
+    @Version
+    private Long version;
+
+    /**
+     * Igualdade pelo id; eventos ainda não gravados só são iguais a si mesmos. O hash não usa o
+     * id para não mudar quando o evento é gravado.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        UUID otherId = ((Event) o).getId();
+        return getId() != null && getId().equals(otherId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Hibernate.getClass(this).hashCode();
+    }
 }
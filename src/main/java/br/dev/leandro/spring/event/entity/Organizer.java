@@ -8,6 +8,7 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -17,7 +18,9 @@ import java.util.UUID;
 
 @Builder
 @Entity
-@Table(name = "organizers")
+@Table(name = "organizers", indexes = {
+        @Index(name = "idx_organizers_status_created_id", columnList = "status, created_at, id")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -25,13 +28,12 @@ import java.util.UUID;
 public class Organizer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @Column(length = 36,
-            columnDefinition = "CHAR(36) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci",
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(columnDefinition = "BINARY(16)",
             updatable = false,
             nullable = false
     )
-    @JdbcTypeCode(SqlTypes.CHAR)
+    @JdbcTypeCode(SqlTypes.BINARY)
     private UUID id;
 
     @Column(name = "user_id", nullable = false, unique = true)
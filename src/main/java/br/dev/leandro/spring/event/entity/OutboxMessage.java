@@ -0,0 +1,60 @@
+package br.dev.leandro.spring.event.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Mudança de um agregado aguardando publicação no broker (outbox transacional).
+ */
+@Entity
+@Table(name = "outbox_messages")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+    /**
+     * IDENTITY de propósito: o id é atribuído no insert, dentro da transação que alterou o
+     * agregado, e define a ordem de publicação (ver V8__outbox_messages.sql).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 32, updatable = false)
+    private String aggregateType;
+
+    @Column(columnDefinition = "BINARY(16)",
+            updatable = false,
+            nullable = false
+    )
+    @JdbcTypeCode(SqlTypes.BINARY)
+    private UUID aggregateId;
+
+    @Column(nullable = false, length = 64, updatable = false)
+    private String eventType;
+
+    @Lob
+    @Column(nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+
+    /**
+     * Fim da reserva da mensagem por um relay; nula enquanto não reservada (ver
+     * V10__outbox_claims.sql).
+     */
+    @Column(columnDefinition = "DATETIME(6)")
+    private LocalDateTime claimedUntil;
+}
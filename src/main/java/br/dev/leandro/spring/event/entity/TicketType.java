@@ -6,8 +6,11 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.data.annotation.CreatedBy;
@@ -17,14 +20,24 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ticket_types")
-@Data
+@Table(name = "ticket_types", indexes = {
+        @Index(name = "idx_ticket_types_event", columnList = "event_id")
+})
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class TicketType {
+    /**
+     * Sequência com otimizador pooled (blocos de 50 ids). IDENTITY obriga o Hibernate a executar
+     * cada insert imediatamente para obter a chave, o que desativa o lote JDBC. No MySQL, que não
+     * tem sequências, o Hibernate emula a sequência com a tabela {@code ticket_types_seq}.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_types_seq")
+    @SequenceGenerator(name = "ticket_types_seq", sequenceName = "ticket_types_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -39,8 +52,12 @@ public class TicketType {
     @Column(nullable = false)
     private Integer quantityAvailable;
 
+    /**
+     * Fora de {@code toString}, {@code equals} e {@code hashCode}, como {@link Event#getTicketTypes()}.
+     */
     @ManyToOne(optional = false)
-    @JoinColumn(name = "event_id")
+    @JoinColumn(name = "event_id", columnDefinition = "BINARY(16)")
+    @ToString.Exclude
     private Event event;
 
     @CreatedBy
@@ -54,4 +71,24 @@ public class TicketType {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    /**
+     * Igualdade pelo id, como em {@link Event#equals(Object)}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) {
+            return false;
+        }
+        Long otherId = ((TicketType) o).getId();
+        return getId() != null && getId().equals(otherId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Hibernate.getClass(this).hashCode();
+    }
+}
@@ -1,8 +1,38 @@
 package br.dev.leandro.spring.event.entity.enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum EventStatus {
     DRAFT,
     PUBLISHED,
     CANCELLED,
-    ACTIVE, DELETED
+    ACTIVE, DELETED;
+
+    /**
+     * Indica se o evento pode passar deste status para o informado. {@code DELETED} é final e
+     * nenhum evento volta a {@code DRAFT}.
+     *
+     * @param target Status de destino
+     * @return {@code true} se a transição é permitida
+     */
+    public boolean canTransitionTo(EventStatus target) {
+        return this != target && this != DELETED && target != DRAFT;
+    }
+
+    /**
+     * Status a partir dos quais a transição para o informado é permitida.
+     *
+     * @param target Status de destino
+     * @return Status de origem permitidos
+     */
+    public static Set<EventStatus> sourcesOf(EventStatus target) {
+        Set<EventStatus> sources = EnumSet.noneOf(EventStatus.class);
+        for (EventStatus status : values()) {
+            if (status.canTransitionTo(target)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
@@ -0,0 +1,10 @@
+package br.dev.leandro.spring.event.exception;
+
+/**
+ * Lançada quando a versão informada em {@code If-Match} não corresponde à versão atual do recurso.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
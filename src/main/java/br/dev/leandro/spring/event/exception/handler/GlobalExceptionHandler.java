@@ -1,9 +1,11 @@
 package br.dev.leandro.spring.event.exception.handler;
 
 import br.dev.leandro.spring.event.exception.ApiErrorResponse;
+import br.dev.leandro.spring.event.exception.PreconditionFailedException;
 import br.dev.leandro.spring.event.exception.ResourceNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -74,6 +76,33 @@ public final class GlobalExceptionHandler {
         return buildErrorResponse(ex, HttpStatus.NOT_FOUND, ex.getMessage(), request);
     }
 
+    /**
+     * Trata exceções de pré-condição ({@code If-Match}) não atendida.
+     *
+     * @param ex Exceção lançada
+     * @param request Requisição HTTP
+     * @return Resposta de erro
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiErrorResponse> handlePreconditionFailed(
+            final PreconditionFailedException ex, final HttpServletRequest request) {
+        return buildErrorResponse(ex, HttpStatus.PRECONDITION_FAILED, ex.getMessage(), request);
+    }
+
+    /**
+     * Trata conflitos de bloqueio otimista (recurso alterado por outra requisição durante a gravação).
+     *
+     * @param ex Exceção lançada
+     * @param request Requisição HTTP
+     * @return Resposta de erro
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(
+            final OptimisticLockingFailureException ex, final HttpServletRequest request) {
+        return buildErrorResponse(ex, HttpStatus.CONFLICT,
+                "O recurso foi alterado por outra requisição. Recarregue e tente novamente.", request);
+    }
+
     /**
      * Trata exceções de argumento inválido.
      *
@@ -5,6 +5,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -21,8 +23,15 @@ import java.util.regex.Pattern;
  */
 @Slf4j
 @Component
+@Order(CorrelationIdFilter.ORDER)
 public class CorrelationIdFilter implements Filter {
 
+    /**
+     * Primeiro filtro da cadeia, para que os logs de todos os demais (inclusive os de segurança)
+     * tenham o ID de correlação.
+     */
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
     private final CorrelationIdProperties properties;
     private Pattern validationPattern;
 
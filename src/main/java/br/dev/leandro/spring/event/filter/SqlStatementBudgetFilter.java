@@ -0,0 +1,109 @@
+package br.dev.leandro.spring.event.filter;
+
+import br.dev.leandro.spring.event.config.SqlStatementBudgetProperties;
+import br.dev.leandro.spring.event.datasource.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Conta as instruções SQL executadas por cada requisição.
+ * <p>
+ * A contagem alimenta o histograma {@code http.server.sql.statements}, com o método e o padrão da
+ * rota, como em {@code http.server.requests}. Acima do orçamento do endpoint
+ * ({@link SqlStatementBudgetProperties}), registra um aviso com o ID de correlação e incrementa
+ * {@code http.server.sql.budget.exceeded}. Só é contado o que executa na thread da requisição: o
+ * corpo de uma resposta assíncrona, como a exportação em NDJSON, fica de fora.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(SqlStatementBudgetFilter.ORDER)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    /**
+     * Logo após o {@link CorrelationIdFilter}, para contar tudo o que a requisição executa com o ID
+     * de correlação ainda no MDC.
+     */
+    public static final int ORDER = CorrelationIdFilter.ORDER + 1;
+
+    /**
+     * Histograma de instruções SQL por requisição.
+     */
+    public static final String STATEMENTS_METRIC = "http.server.sql.statements";
+
+    /**
+     * Requisições acima do orçamento.
+     */
+    public static final String BUDGET_EXCEEDED_METRIC = "http.server.sql.budget.exceeded";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatementBudgetProperties properties;
+    private final CorrelationIdProperties correlationIdProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Construtor.
+     *
+     * @param properties              Orçamentos por endpoint
+     * @param correlationIdProperties Propriedades do ID de correlação (chave no MDC)
+     * @param meterRegistry           Registro de métricas
+     */
+    public SqlStatementBudgetFilter(final SqlStatementBudgetProperties properties,
+                                    final CorrelationIdProperties correlationIdProperties,
+                                    final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.correlationIdProperties = correlationIdProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            scope.close();
+            record(request, scope.count());
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("Instruções SQL executadas por requisição")
+                .baseUnit("statements")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+
+        int budget = properties.budgetFor(method, uri);
+        if (statements > budget) {
+            meterRegistry.counter(BUDGET_EXCEEDED_METRIC, "method", method, "uri", uri).increment();
+            log.warn("{} {} executou {} instruções SQL, acima do orçamento de {}. ID de correlação: {}",
+                    method, uri, statements, budget, MDC.get(correlationIdProperties.getMdcKey()));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package br.dev.leandro.spring.event.mapper;
+
+import br.dev.leandro.spring.event.dto.AuditEntryDto;
+import br.dev.leandro.spring.event.entity.AuditHistory;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface AuditHistoryMapper {
+
+    AuditEntryDto toDto(AuditHistory auditHistory);
+}
@@ -1,7 +1,10 @@
 package br.dev.leandro.spring.event.mapper;
 
+import br.dev.leandro.spring.event.dto.EventDetailDto;
 import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.dto.TicketTypeDto;
 import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.TicketType;
 import org.mapstruct.*;
 
 @Mapper(
@@ -15,19 +18,28 @@ public interface EventMapper {
             @Mapping(target = "createdBy", ignore = true),
             @Mapping(target = "updatedBy", ignore = true),
             @Mapping(target = "createdAt", ignore = true),
-            @Mapping(target = "updatedAt", ignore = true)
+            @Mapping(target = "updatedAt", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     Event toEntity(EventDto eventDto);
 
     EventDto toDto(Event event);
 
+    /**
+     * Converte o evento com os tipos de ingresso, que já devem estar carregados.
+     */
+    EventDetailDto toDetailDto(Event event);
+
+    TicketTypeDto toTicketTypeDto(TicketType ticketType);
+
     @Mappings({
             @Mapping(target = "organizerId", ignore = true),
             @Mapping(target = "ticketTypes", ignore = true),
             @Mapping(target = "createdBy", ignore = true),
             @Mapping(target = "updatedBy", ignore = true),
             @Mapping(target = "createdAt", ignore = true),
-            @Mapping(target = "updatedAt", ignore = true)
+            @Mapping(target = "updatedAt", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     void updateEntityFromDto(EventDto eventDto, @MappingTarget Event event);
 }
@@ -0,0 +1,38 @@
+package br.dev.leandro.spring.event.outbox;
+
+import br.dev.leandro.spring.event.entity.OutboxMessage;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Broker em memória ({@code app.outbox.broker=in-memory}), para testes e execução local sem
+ * RabbitMQ. Confirma toda mensagem imediatamente e guarda as publicadas, na ordem de envio.
+ */
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private final List<OutboxMessage> published = new CopyOnWriteArrayList<>();
+
+    @Override
+    public CompletableFuture<Void> publish(OutboxMessage message) {
+        published.add(message);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Mensagens publicadas, na ordem de envio.
+     *
+     * @return Cópia da lista
+     */
+    public List<OutboxMessage> published() {
+        return List.copyOf(published);
+    }
+
+    /**
+     * Descarta as mensagens publicadas.
+     */
+    public void clear() {
+        published.clear();
+    }
+}
@@ -0,0 +1,30 @@
+package br.dev.leandro.spring.event.outbox;
+
+/**
+ * Tipos de mudança publicados pelo outbox. O {@link #routingKey()} é a chave de roteamento no
+ * exchange do tipo topic ({@code event.*}, {@code organizer.*}, {@code *.deleted} etc.).
+ */
+public enum OutboxEventType {
+    EVENT_CREATED("event", "event.created"),
+    EVENT_UPDATED("event", "event.updated"),
+    EVENT_DELETED("event", "event.deleted"),
+    ORGANIZER_CREATED("organizer", "organizer.created"),
+    ORGANIZER_UPDATED("organizer", "organizer.updated"),
+    ORGANIZER_DELETED("organizer", "organizer.deleted");
+
+    private final String aggregateType;
+    private final String routingKey;
+
+    OutboxEventType(String aggregateType, String routingKey) {
+        this.aggregateType = aggregateType;
+        this.routingKey = routingKey;
+    }
+
+    public String aggregateType() {
+        return aggregateType;
+    }
+
+    public String routingKey() {
+        return routingKey;
+    }
+}
@@ -0,0 +1,20 @@
+package br.dev.leandro.spring.event.outbox;
+
+import br.dev.leandro.spring.event.entity.OutboxMessage;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Envio das mensagens do outbox ao broker.
+ */
+public interface OutboxPublisher {
+
+    /**
+     * Publica a mensagem.
+     *
+     * @param message Mensagem do outbox
+     * @return Completado quando o broker confirma o recebimento; completado com exceção em caso
+     * de recusa ou falha de envio
+     */
+    CompletableFuture<Void> publish(OutboxMessage message);
+}
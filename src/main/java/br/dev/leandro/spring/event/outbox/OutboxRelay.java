@@ -0,0 +1,296 @@
+package br.dev.leandro.spring.event.outbox;
+
+import br.dev.leandro.spring.event.config.OutboxProperties;
+import br.dev.leandro.spring.event.entity.OutboxMessage;
+import br.dev.leandro.spring.event.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Esvazia o outbox em lotes, publicando no {@link OutboxPublisher} e apagando as mensagens
+ * confirmadas.
+ * <p>
+ * Cada lote passa por duas transações curtas, sem conexão ocupada durante a publicação: a
+ * primeira bloqueia as mensagens na ordem de gravação ({@code FOR UPDATE SKIP LOCKED}), grava a
+ * reserva ({@code claimed_until}) e confirma; depois da publicação, fora de transação, a segunda
+ * apaga as confirmadas e desfaz a reserva das demais. Mensagens de um agregado que ainda tem uma
+ * mensagem anterior fora do lote (reservada por outra instância ou pulada pelo bloqueio) não são
+ * reservadas. Se a instância parar no meio do lote, a reserva vence após
+ * {@link OutboxProperties#getClaimTimeout()} e o lote é publicado de novo.
+ * </p>
+ * <p>
+ * As mensagens de um lote são publicadas em ondas: a onda {@code n} leva a {@code n}-ésima
+ * mensagem de cada agregado, de forma que mensagens de agregados distintos seguem em paralelo
+ * (até {@code maxInFlight} sem confirmação) e as de um mesmo agregado só depois da confirmação
+ * da anterior. Se uma mensagem falha, as seguintes do mesmo agregado ficam para o próximo lote.
+ * </p>
+ * <p>
+ * Métricas: {@code outbox.published} e {@code outbox.failed} (tag {@code type}),
+ * {@code outbox.relay.batch} (tempo por lote), {@code outbox.pending} (mensagens aguardando)
+ * e {@code outbox.lag} (idade da mensagem mais antiga aguardando, em segundos).
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay implements SmartInitializingSingleton, DisposableBean {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Semaphore inFlight;
+    private final Timer batchTimer;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final AtomicLong pending = new AtomicLong();
+    private volatile LocalDateTime oldestPending;
+    private ScheduledExecutorService executor;
+
+    @Autowired
+    public OutboxRelay(OutboxMessageRepository outboxMessageRepository, OutboxPublisher publisher,
+                       PlatformTransactionManager transactionManager, OutboxProperties properties,
+                       MeterRegistry meterRegistry) {
+        this(outboxMessageRepository, publisher, transactionManager, properties, meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    public OutboxRelay(OutboxMessageRepository outboxMessageRepository, OutboxPublisher publisher,
+                       PlatformTransactionManager transactionManager, OutboxProperties properties,
+                       MeterRegistry meterRegistry, Clock clock) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.inFlight = new Semaphore(properties.getMaxInFlight());
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Tempo de publicação e confirmação de um lote do outbox")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("Mensagens do outbox aguardando publicação")
+                .register(meterRegistry);
+        Gauge.builder("outbox.lag", this, OutboxRelay::lagSeconds)
+                .description("Idade da mensagem mais antiga aguardando publicação")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publica lotes até o outbox ficar vazio ou um lote ter falhas.
+     *
+     * @return Mensagens publicadas
+     */
+    public int drain() {
+        int total = 0;
+        while (true) {
+            Batch batch = batchTimer.record(this::relayBatch);
+            total += batch.published();
+            if (batch.read() < properties.getBatchSize() || batch.failed() > 0) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * Idade da mensagem mais antiga aguardando publicação, na última verificação.
+     *
+     * @return Segundos; zero se o outbox estava vazio
+     */
+    public double lagSeconds() {
+        LocalDateTime oldest = oldestPending;
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now(clock)).toMillis() / 1000.0);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        executor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("outbox-relay").factory());
+        long interval = properties.getPollInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::drainQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao publicar o outbox: {}", e.getMessage());
+        }
+    }
+
+    private Batch relayBatch() {
+        List<OutboxMessage> messages = transactionTemplate.execute(status -> claimBatch());
+        List<Long> confirmed = new ArrayList<>(messages.size());
+        int failed = messages.isEmpty() ? 0 : publish(messages, confirmed);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!confirmed.isEmpty()) {
+                outboxMessageRepository.deleteAllByIdIn(confirmed);
+            }
+            if (confirmed.size() < messages.size()) {
+                Set<Long> unconfirmed = new LinkedHashSet<>();
+                messages.forEach(message -> unconfirmed.add(message.getId()));
+                confirmed.forEach(unconfirmed::remove);
+                outboxMessageRepository.release(unconfirmed);
+            }
+            pending.set(outboxMessageRepository.count());
+            oldestPending = outboxMessageRepository.findOldestCreatedAt().orElse(null);
+        });
+        return new Batch(messages.size(), confirmed.size(), failed);
+    }
+
+    /**
+     * Bloqueia o próximo lote e grava a reserva, descartando as mensagens que passariam à frente
+     * de uma mensagem anterior do mesmo agregado fora do lote.
+     */
+    private List<OutboxMessage> claimBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxMessage> locked = outboxMessageRepository.findNextBatch(now,
+                PageRequest.ofSize(properties.getBatchSize()));
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> aggregateIds = new LinkedHashSet<>();
+        List<Long> ids = new ArrayList<>(locked.size());
+        for (OutboxMessage message : locked) {
+            aggregateIds.add(message.getAggregateId());
+            ids.add(message.getId());
+        }
+        Map<UUID, Long> firstOutside = new HashMap<>();
+        for (OutboxMessageRepository.FirstMessage first : outboxMessageRepository.findFirstOutside(aggregateIds, ids)) {
+            firstOutside.put(first.getAggregateId(), first.getFirstId());
+        }
+        List<OutboxMessage> claimed = locked.stream()
+                .filter(message -> message.getId() < firstOutside.getOrDefault(message.getAggregateId(), Long.MAX_VALUE))
+                .toList();
+        if (!claimed.isEmpty()) {
+            outboxMessageRepository.claim(claimed.stream().map(OutboxMessage::getId).toList(),
+                    now.plus(properties.getClaimTimeout()));
+        }
+        return claimed;
+    }
+
+    private int publish(List<OutboxMessage> messages, List<Long> confirmed) {
+        Map<UUID, Deque<OutboxMessage>> byAggregate = new LinkedHashMap<>();
+        for (OutboxMessage message : messages) {
+            byAggregate.computeIfAbsent(message.getAggregateId(), id -> new ArrayDeque<>()).add(message);
+        }
+        int failed = 0;
+        while (!byAggregate.isEmpty()) {
+            Map<OutboxMessage, CompletableFuture<Void>> wave = new LinkedHashMap<>();
+            for (Deque<OutboxMessage> queue : byAggregate.values()) {
+                OutboxMessage message = queue.poll();
+                wave.put(message, send(message));
+            }
+            long deadline = System.nanoTime() + properties.getConfirmTimeout().toNanos();
+            for (Map.Entry<OutboxMessage, CompletableFuture<Void>> entry : wave.entrySet()) {
+                OutboxMessage message = entry.getKey();
+                if (await(message, entry.getValue(), deadline)) {
+                    confirmed.add(message.getId());
+                    counter("outbox.published", message.getEventType()).increment();
+                } else {
+                    failed++;
+                    counter("outbox.failed", message.getEventType()).increment();
+                    byAggregate.remove(message.getAggregateId());
+                }
+            }
+            Iterator<Deque<OutboxMessage>> queues = byAggregate.values().iterator();
+            while (queues.hasNext()) {
+                if (queues.next().isEmpty()) {
+                    queues.remove();
+                }
+            }
+        }
+        return failed;
+    }
+
+    private CompletableFuture<Void> send(OutboxMessage message) {
+        try {
+            if (!inFlight.tryAcquire(properties.getConfirmTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return CompletableFuture.failedFuture(new TimeoutException(
+                        "Limite de " + properties.getMaxInFlight() + " mensagens sem confirmação"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            CompletableFuture<Void> confirmation = publisher.publish(message);
+            confirmation.whenComplete((ignored, error) -> inFlight.release());
+            return confirmation;
+        } catch (RuntimeException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean await(OutboxMessage message, CompletableFuture<Void> confirmation, long deadline) {
+        try {
+            confirmation.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            // Libera a vaga de mensagem em voo; uma confirmação tardia é ignorada
+            confirmation.cancel(false);
+            log.warn("Mensagem {} ({}) sem confirmação do broker em {}; será publicada de novo",
+                    message.getId(), message.getEventType(), properties.getConfirmTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Falha ao publicar a mensagem {} ({}): {}", message.getId(), message.getEventType(),
+                    e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        }
+        return false;
+    }
+
+    private Counter counter(String name, String type) {
+        return counters.computeIfAbsent(name + ':' + type, key -> Counter.builder(name)
+                .description("Mensagens do outbox por tipo")
+                .tag("type", type)
+                .register(meterRegistry));
+    }
+
+    private record Batch(int read, int published, int failed) {
+    }
+}
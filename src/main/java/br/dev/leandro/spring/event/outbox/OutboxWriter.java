@@ -0,0 +1,123 @@
+package br.dev.leandro.spring.event.outbox;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.dto.OrganizerDto;
+import br.dev.leandro.spring.event.entity.OutboxMessage;
+import br.dev.leandro.spring.event.repository.OutboxMessageRepository;
+import br.dev.leandro.spring.event.utils.UuidBytes;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Grava mudanças no outbox, na transação corrente da alteração do agregado.
+ * <p>
+ * Exige uma transação ativa ({@link Propagation#MANDATORY}): a mensagem é confirmada ou
+ * descartada junto com a alteração. Antes de montar o conteúdo, as alterações pendentes são
+ * enviadas ao banco, para que o conteúdo reflita a versão gravada e a linha do agregado seja
+ * bloqueada antes do insert no outbox.
+ * </p>
+ * <p>
+ * Nas respostas da API a versão dos DTOs vai só no cabeçalho {@code ETag}; no outbox ela é
+ * serializada no conteúdo, para que os consumidores descartem mudanças fora de ordem.
+ * </p>
+ */
+@Component
+public class OutboxWriter {
+
+    static final String INSERT = """
+            insert into outbox_messages (aggregate_type, aggregate_id, event_type, payload, created_at)
+            values (?, ?, ?, ?, ?)
+            """;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxWriter(OutboxMessageRepository outboxMessageRepository, EntityManager entityManager,
+                        ObjectMapper objectMapper, JdbcTemplate jdbcTemplate) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper.copy()
+                .addMixIn(EventDto.class, VersionedPayload.class)
+                .addMixIn(OrganizerDto.class, VersionedPayload.class);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Registra uma mudança para publicação.
+     *
+     * @param type        Tipo da mudança
+     * @param aggregateId Id do agregado alterado
+     * @param payload     Conteúdo da mensagem (serializado em JSON após o flush)
+     * @return Mensagem gravada
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxMessage append(OutboxEventType type, UUID aggregateId, Supplier<?> payload) {
+        entityManager.flush();
+        try {
+            return outboxMessageRepository.save(OutboxMessage.builder()
+                    .aggregateType(type.aggregateType())
+                    .aggregateId(aggregateId)
+                    .eventType(type.routingKey())
+                    .payload(objectMapper.writeValueAsString(payload.get()))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a mensagem " + type.routingKey(), e);
+        }
+    }
+
+    /**
+     * Registra a mesma mudança para vários agregados em um único lote JDBC, para alterações em
+     * massa em que um insert por mensagem (ids {@code IDENTITY} não entram em lote no Hibernate)
+     * dominaria o tempo da transação. As mensagens recebem ids na ordem do mapa.
+     *
+     * @param type     Tipo da mudança
+     * @param payloads Conteúdo de cada mensagem, por id do agregado
+     * @return Mensagens gravadas
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int appendAll(OutboxEventType type, Map<UUID, ?> payloads) {
+        if (payloads.isEmpty()) {
+            return 0;
+        }
+        entityManager.flush();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(payloads.size());
+        try {
+            for (Map.Entry<UUID, ?> entry : payloads.entrySet()) {
+                rows.add(new Object[]{type.aggregateType(), UuidBytes.of(entry.getKey()), type.routingKey(),
+                        objectMapper.writeValueAsString(entry.getValue()), now});
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a mensagem " + type.routingKey(), e);
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+        return rows.size();
+    }
+
+    /**
+     * Inclui no conteúdo da mensagem a versão que os DTOs omitem do corpo das respostas.
+     */
+    private interface VersionedPayload {
+
+        @JsonIgnore(false)
+        @JsonProperty("version")
+        Long version();
+    }
+}
@@ -0,0 +1,57 @@
+package br.dev.leandro.spring.event.outbox;
+
+import br.dev.leandro.spring.event.entity.OutboxMessage;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publica no RabbitMQ com confirmação do broker ({@code publisher-confirm-type: correlated}).
+ * <p>
+ * A mensagem vai ao exchange configurado com a chave de roteamento do tipo da mudança, conteúdo
+ * JSON e entrega persistente. O {@code messageId} é o id do outbox: a entrega é pelo menos uma
+ * vez, e os consumidores o usam para descartar repetições.
+ * </p>
+ */
+public class RabbitOutboxPublisher implements OutboxPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+
+    public RabbitOutboxPublisher(RabbitTemplate rabbitTemplate, String exchange) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(OutboxMessage message) {
+        String id = String.valueOf(message.getId());
+        Message amqpMessage = MessageBuilder.withBody(message.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(id)
+                .setType(message.getEventType())
+                .setTimestamp(Date.from(message.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()))
+                .setHeader("aggregate-type", message.getAggregateType())
+                .setHeader("aggregate-id", message.getAggregateId().toString())
+                .build();
+        CorrelationData correlation = new CorrelationData(id);
+        try {
+            rabbitTemplate.send(exchange, message.getEventType(), amqpMessage, correlation);
+        } catch (AmqpException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return correlation.getFuture().thenCompose(confirm -> confirm.isAck()
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.failedFuture(new AmqpException(
+                        "Mensagem " + id + " recusada pelo broker: " + confirm.getReason())));
+    }
+}
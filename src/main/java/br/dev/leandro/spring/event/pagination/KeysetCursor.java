@@ -0,0 +1,83 @@
+package br.dev.leandro.spring.event.pagination;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de continuação da paginação por chave (keyset/seek).
+ * <p>
+ * Guarda a chave de ordenação e o ID do último item entregue. A próxima página é buscada com
+ * {@code (chave, id) > (sortKey, id)}, sem OFFSET e sem {@code count(*)}, o que mantém o custo
+ * constante em qualquer profundidade. Para o cliente, o cursor é um token opaco em Base64 URL.
+ * </p>
+ *
+ * @param sortKey Chave de ordenação do último item
+ * @param id      ID do último item (desempate)
+ */
+public record KeysetCursor(LocalDateTime sortKey, UUID id) {
+
+    /**
+     * Tamanho máximo de uma página por cursor.
+     */
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR_MESSAGE = "Cursor inválido.";
+
+    /**
+     * Valida o tamanho solicitado e monta o limite da consulta. O número da página é sempre 0:
+     * a posição vem do cursor, não de um OFFSET.
+     *
+     * @param size Tamanho solicitado
+     * @return Limite da consulta
+     * @throws IllegalArgumentException se o tamanho estiver fora de 1..{@value #MAX_SIZE}
+     */
+    public static Pageable limit(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + MAX_SIZE + ".");
+        }
+        return PageRequest.ofSize(size);
+    }
+
+    /**
+     * Codifica o cursor como token opaco.
+     *
+     * @return Token
+     */
+    public String encode() {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token recebido do cliente.
+     *
+     * @param token Token
+     * @return Cursor
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public static KeysetCursor decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE, e);
+        }
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+        }
+        try {
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package br.dev.leandro.spring.event.repository;
+
+import br.dev.leandro.spring.event.entity.AuditHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.util.UUID;
+
+public interface AuditHistoryRepository extends Repository<AuditHistory, Long> {
+
+    /**
+     * Histórico de um agregado, da alteração mais recente para a mais antiga. Usa o índice
+     * {@code idx_audit_history_aggregate} tanto na página quanto na contagem.
+     */
+    @Query(value = """
+            select h from AuditHistory h
+            where h.aggregateType = :aggregateType
+              and h.aggregateId = :aggregateId
+            order by h.id desc
+            """,
+            countQuery = """
+            select count(h) from AuditHistory h
+            where h.aggregateType = :aggregateType
+              and h.aggregateId = :aggregateId
+            """)
+    Page<AuditHistory> findHistory(String aggregateType, UUID aggregateId, Pageable pageable);
+}
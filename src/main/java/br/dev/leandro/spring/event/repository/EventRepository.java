@@ -1,19 +1,217 @@
 package br.dev.leandro.spring.event.repository;
 
+import br.dev.leandro.spring.event.dto.EventDto;
 import br.dev.leandro.spring.event.entity.Event;
 import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface EventRepository extends PagingAndSortingRepository<Event, UUID> {
 
     Optional<Event> findByIdAndStatus(UUID id, EventStatus status);
 
-    Page<Event> findAllByStatus(EventStatus status, Pageable pageable);
+    /**
+     * Evento do status informado lido diretamente como {@link EventDto}: só as colunas do DTO são
+     * selecionadas e nenhuma entidade é criada ou registrada no contexto de persistência.
+     */
+    @Query("""
+            select new br.dev.leandro.spring.event.dto.EventDto(
+                e.id, e.name, e.description, e.startDatetime, e.endDatetime, e.location, e.status, e.version)
+            from Event e
+            where e.id = :id
+              and e.status = :status
+            """)
+    Optional<EventDto> findDtoByIdAndStatus(UUID id, EventStatus status);
+
+    /**
+     * Página de eventos do status informado lida diretamente como {@link EventDto}, como em
+     * {@link #findDtoByIdAndStatus}.
+     */
+    @Query(value = """
+            select new br.dev.leandro.spring.event.dto.EventDto(
+                e.id, e.name, e.description, e.startDatetime, e.endDatetime, e.location, e.status, e.version)
+            from Event e
+            where e.status = :status
+            """,
+            countQuery = "select count(e) from Event e where e.status = :status")
+    Page<EventDto> findDtoAllByStatus(EventStatus status, Pageable pageable);
+
+    /**
+     * Evento do status informado com os tipos de ingresso, carregados na mesma consulta (join) pelo
+     * grafo de entidade.
+     */
+    @EntityGraph(attributePaths = "ticketTypes")
+    Optional<Event> findWithTicketTypesByIdAndStatus(UUID id, EventStatus status);
+
+    /**
+     * Ids de uma página de eventos do status informado. A página é resolvida só sobre os eventos;
+     * com o join dos tipos de ingresso, o Hibernate buscaria todas as linhas e paginaria em memória.
+     */
+    @Query(value = "select e.id from Event e where e.status = :status",
+            countQuery = "select count(e) from Event e where e.status = :status")
+    Page<UUID> findIdsByStatus(EventStatus status, Pageable pageable);
+
+    /**
+     * Eventos informados com os tipos de ingresso, carregados em uma única consulta (join) pelo grafo
+     * de entidade. A ordem do resultado não é garantida.
+     */
+    @EntityGraph(attributePaths = "ticketTypes")
+    List<Event> findWithTicketTypesByIdIn(Collection<UUID> ids);
+
+    /**
+     * Primeira página da paginação por chave, ordenada por (startDatetime, id).
+     * Usa o índice {@code idx_events_status_start_id}; o retorno {@link Slice} dispensa o count.
+     */
+    @Query("""
+            select e from Event e
+            where e.status = :status
+            order by e.startDatetime asc, e.id asc
+            """)
+    Slice<Event> findFirstSliceByStatus(EventStatus status, Pageable pageable);
+
+    /**
+     * Página seguinte da paginação por chave: itens após (startDatetime, id).
+     */
+    @Query("""
+            select e from Event e
+            where e.status = :status
+              and (e.startDatetime > :startDatetime
+                   or (e.startDatetime = :startDatetime and e.id > :id))
+            order by e.startDatetime asc, e.id asc
+            """)
+    Slice<Event> findSliceByStatusAfter(EventStatus status, LocalDateTime startDatetime, UUID id, Pageable pageable);
+
+    /**
+     * Eventos do status informado, ordenados por (startDatetime, id), lidos por um cursor somente de
+     * avanço em blocos de {@code fetchSize} linhas. As entidades são somente leitura (sem snapshot
+     * para dirty checking). Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select e from Event e
+            where e.status = :status
+            order by e.startDatetime asc, e.id asc
+            """)
+    Stream<Event> streamAllByStatus(EventStatus status);
+
+    /**
+     * Eventos que se sobrepõem à janela {@code [from, to)}, ordenados por (startDatetime, id).
+     * Usa o índice {@code idx_events_status_end_start} (término após {@code from}) ou
+     * {@code idx_events_status_start_id} (início antes de {@code to}), o que for mais seletivo.
+     */
+    @Query("""
+            select e from Event e
+            where e.status = :status
+              and e.startDatetime < :to
+              and e.endDatetime > :from
+            order by e.startDatetime asc, e.id asc
+            """)
+    Page<Event> findOverlapping(EventStatus status, LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    /**
+     * Eventos que se sobrepõem à janela {@code [from, to)}, lidos por cursor como em
+     * {@link #streamAllByStatus}. Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select e from Event e
+            where e.status = :status
+              and e.startDatetime < :to
+              and e.endDatetime > :from
+            order by e.startDatetime asc, e.id asc
+            """)
+    Stream<Event> streamOverlapping(EventStatus status, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Eventos de qualquer status alterados a partir de {@code since}, lidos por cursor como em
+     * {@link #streamAllByStatus}, para a atualização incremental da busca. Usa o índice
+     * {@code idx_events_updated_at}. Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select e from Event e
+            where e.updatedAt >= :since
+            """)
+    Stream<Event> streamUpdatedSince(LocalDateTime since);
+
+    /**
+     * Eventos informados que estão em um dos status, bloqueados ({@code FOR UPDATE}) para a
+     * transição de status em lote. Com organizador, somente os eventos dele; nulo para todos.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select e from Event e
+            where e.id in :ids
+              and e.status in :statuses
+              and (:organizerId is null or e.organizerId = :organizerId)
+            order by e.id asc
+            """)
+    List<Event> lockAllByIdInAndStatusIn(Collection<UUID> ids, Collection<EventStatus> statuses, UUID organizerId);
+
+    /**
+     * Próximo bloco da transição de status por filtro: eventos em um dos status, após
+     * {@code afterId} na ordem do id, bloqueados ({@code FOR UPDATE}). Filtros nulos são ignorados.
+     * Com organizador, usa o índice {@code idx_events_organizer_status}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select e from Event e
+            where e.status in :statuses
+              and (:organizerId is null or e.organizerId = :organizerId)
+              and (:startFrom is null or e.startDatetime >= :startFrom)
+              and (:startTo is null or e.startDatetime < :startTo)
+              and (:afterId is null or e.id > :afterId)
+            order by e.id asc
+            """)
+    List<Event> lockNextByFilter(Collection<EventStatus> statuses, UUID organizerId, LocalDateTime startFrom,
+                                 LocalDateTime startTo, UUID afterId, Pageable limit);
+
+    /**
+     * Troca o status dos eventos informados em um único UPDATE, incrementando a versão (a ETag)
+     * como faria o bloqueio otimista. Só altera os que ainda estão em um dos status de origem.
+     *
+     * @return Linhas alteradas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Event e
+            set e.status = :target,
+                e.version = e.version + 1,
+                e.updatedBy = :updatedBy,
+                e.updatedAt = :updatedAt
+            where e.id in :ids
+              and e.status in :statuses
+            """)
+    int updateStatus(Collection<UUID> ids, Collection<EventStatus> statuses, EventStatus target,
+                     String updatedBy, LocalDateTime updatedAt);
 
     Event save(Event event);
+
+    List<Event> saveAll(Iterable<Event> events);
 }
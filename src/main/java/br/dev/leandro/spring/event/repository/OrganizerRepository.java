@@ -1,11 +1,15 @@
 package br.dev.leandro.spring.event.repository;
 
+import br.dev.leandro.spring.event.dto.OrganizerDto;
 import br.dev.leandro.spring.event.entity.Organizer;
 import br.dev.leandro.spring.event.entity.enums.OrganizerStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,7 +17,56 @@ public interface OrganizerRepository extends PagingAndSortingRepository<Organize
 
     Optional<Organizer> findByIdAndStatus(UUID id, OrganizerStatus organizerStatus);
 
-    Page<Organizer> findAllByStatus(OrganizerStatus organizerStatus, Pageable pageable);
+    /**
+     * Organizador do status informado lido diretamente como {@link OrganizerDto}: só as colunas do
+     * DTO são selecionadas e nenhuma entidade é criada ou registrada no contexto de persistência.
+     */
+    @Query("""
+            select new br.dev.leandro.spring.event.dto.OrganizerDto(
+                o.userId, o.organizationName, o.contactEmail, o.contactPhone, o.documentNumber, o.status,
+                o.createdBy, o.updatedBy, o.createdAt, o.updatedAt, o.version)
+            from Organizer o
+            where o.id = :id
+              and o.status = :status
+            """)
+    Optional<OrganizerDto> findDtoByIdAndStatus(UUID id, OrganizerStatus status);
+
+    /**
+     * Página de organizadores do status informado lida diretamente como {@link OrganizerDto}, como
+     * em {@link #findDtoByIdAndStatus}.
+     */
+    @Query(value = """
+            select new br.dev.leandro.spring.event.dto.OrganizerDto(
+                o.userId, o.organizationName, o.contactEmail, o.contactPhone, o.documentNumber, o.status,
+                o.createdBy, o.updatedBy, o.createdAt, o.updatedAt, o.version)
+            from Organizer o
+            where o.status = :status
+            """,
+            countQuery = "select count(o) from Organizer o where o.status = :status")
+    Page<OrganizerDto> findDtoAllByStatus(OrganizerStatus status, Pageable pageable);
+
+    /**
+     * Primeira página da paginação por chave, ordenada por (createdAt, id).
+     * Usa o índice {@code idx_organizers_status_created_id}; o retorno {@link Slice} dispensa o count.
+     */
+    @Query("""
+            select o from Organizer o
+            where o.status = :status
+            order by o.createdAt asc, o.id asc
+            """)
+    Slice<Organizer> findFirstSliceByStatus(OrganizerStatus status, Pageable pageable);
+
+    /**
+     * Página seguinte da paginação por chave: itens após (createdAt, id).
+     */
+    @Query("""
+            select o from Organizer o
+            where o.status = :status
+              and (o.createdAt > :createdAt
+                   or (o.createdAt = :createdAt and o.id > :id))
+            order by o.createdAt asc, o.id asc
+            """)
+    Slice<Organizer> findSliceByStatusAfter(OrganizerStatus status, LocalDateTime createdAt, UUID id, Pageable pageable);
 
     Organizer save(Organizer organizer);
 
@@ -0,0 +1,85 @@
+package br.dev.leandro.spring.event.repository;
+
+import br.dev.leandro.spring.event.entity.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OutboxMessageRepository extends PagingAndSortingRepository<OutboxMessage, Long> {
+
+    /**
+     * Próximo lote a reservar, na ordem de gravação: mensagens sem reserva ou com a reserva
+     * vencida. O bloqueio é {@code FOR UPDATE SKIP LOCKED} (timeout {@code -2}): linhas bloqueadas
+     * por outro relay ou por uma gravação ainda não confirmada são puladas, sem espera.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("""
+            select m from OutboxMessage m
+            where m.claimedUntil is null or m.claimedUntil < :now
+            order by m.id asc
+            """)
+    List<OutboxMessage> findNextBatch(LocalDateTime now, Pageable pageable);
+
+    /**
+     * Primeira mensagem de cada agregado fora do lote informado (reservada por outro relay ou
+     * pulada pelo bloqueio), para que mensagens posteriores do mesmo agregado não sejam
+     * publicadas antes dela.
+     */
+    @Query("""
+            select m.aggregateId as aggregateId, min(m.id) as firstId from OutboxMessage m
+            where m.aggregateId in :aggregateIds and m.id not in :ids
+            group by m.aggregateId
+            """)
+    List<FirstMessage> findFirstOutside(Collection<UUID> aggregateIds, Collection<Long> ids);
+
+    /**
+     * Reserva as mensagens até {@code until}.
+     */
+    @Modifying
+    @Query("update OutboxMessage m set m.claimedUntil = :until where m.id in :ids")
+    int claim(Collection<Long> ids, LocalDateTime until);
+
+    /**
+     * Desfaz a reserva das mensagens não confirmadas, que voltam ao próximo lote.
+     */
+    @Modifying
+    @Query("update OutboxMessage m set m.claimedUntil = null where m.id in :ids")
+    int release(Collection<Long> ids);
+
+    /**
+     * Gravação da mensagem mais antiga ainda não publicada.
+     */
+    @Query("select min(m.createdAt) from OutboxMessage m")
+    Optional<LocalDateTime> findOldestCreatedAt();
+
+    @Modifying
+    @Query("delete from OutboxMessage m where m.id in :ids")
+    int deleteAllByIdIn(Collection<Long> ids);
+
+    OutboxMessage save(OutboxMessage message);
+
+    long count();
+
+    /**
+     * Id da primeira mensagem de um agregado.
+     */
+    interface FirstMessage {
+
+        UUID getAggregateId();
+
+        Long getFirstId();
+    }
+}
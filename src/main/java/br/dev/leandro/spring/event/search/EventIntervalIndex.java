@@ -0,0 +1,230 @@
+package br.dev.leandro.spring.event.search;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Índice em memória de eventos por intervalo de datas, para consultas de sobreposição
+ * ({@code início < até} e {@code término > de}).
+ * <p>
+ * Os eventos ficam em vetores ordenados por (início, id), a mesma ordem das consultas no banco,
+ * com os ids comparados como bytes sem sinal (como o {@code BINARY(16)} do MySQL). Início e
+ * término são guardados como microssegundos em vetores de {@code long}. O índice guarda a maior
+ * duração: um evento que termina depois de {@code de} começa no máximo essa duração antes, então a
+ * consulta localiza por busca binária o trecho {@code [de - maior duração, até)} e o percorre
+ * sequencialmente, comparando apenas números. A maior duração só cresce até a próxima
+ * reordenação ({@link #putAll}, {@link #update}); remoções isoladas não a reduzem.
+ * </p>
+ * <p>
+ * Leituras não bloqueiam: cada escrita publica uma cópia nova dos vetores, exceto quando o início
+ * do evento não muda, caso em que o término e o evento são substituídos no lugar (uma leitura em
+ * andamento enxerga o valor antigo ou o novo). Escritas que mudam o início custam O(n); todas
+ * devem ser serializadas pelo chamador, e cargas e lotes devem usar {@link #putAll} ou
+ * {@link #update}.
+ * </p>
+ */
+public class EventIntervalIndex {
+
+    private static final Comparator<EventDto> ORDER = Comparator
+            .comparingLong((EventDto event) -> micros(event.startDatetime()))
+            .thenComparing(EventDto::id, EventIntervalIndex::compareUnsigned);
+
+    private final Map<UUID, EventDto> byId = new HashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(new long[0], new long[0], new EventDto[0], 0);
+
+    /**
+     * Inclui ou substitui um evento.
+     *
+     * @param event Evento
+     */
+    public void put(EventDto event) {
+        Snapshot current = snapshot;
+        EventDto previous = byId.put(event.id(), event);
+        if (previous != null && previous.startDatetime().equals(event.startDatetime())) {
+            // Mesma posição: substitui no lugar; a escrita volátil publica a alteração
+            snapshot = current.replace(current.position(previous), event);
+            return;
+        }
+        if (previous != null) {
+            current = current.without(current.position(previous));
+        }
+        int position = current.position(event);
+        snapshot = current.with(-position - 1, event);
+    }
+
+    /**
+     * Inclui ou substitui vários eventos, reordenando o índice uma única vez.
+     *
+     * @param events Eventos
+     */
+    public void putAll(Collection<EventDto> events) {
+        update(events, List.of());
+    }
+
+    /**
+     * Inclui ou substitui vários eventos e remove outros, reordenando o índice uma única vez: para
+     * lotes, custa menos que um {@link #put} ou {@link #remove} por evento, que copiam os vetores a
+     * cada chamada.
+     *
+     * @param events  Eventos incluídos ou substituídos
+     * @param removed Ids dos eventos removidos
+     */
+    public void update(Collection<EventDto> events, Collection<UUID> removed) {
+        removed.forEach(byId::remove);
+        events.forEach(event -> byId.put(event.id(), event));
+        EventDto[] sorted = byId.values().toArray(EventDto[]::new);
+        Arrays.sort(sorted, ORDER);
+        long[] starts = new long[sorted.length];
+        long[] ends = new long[sorted.length];
+        long maxDuration = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            starts[i] = micros(sorted[i].startDatetime());
+            ends[i] = micros(sorted[i].endDatetime());
+            maxDuration = Math.max(maxDuration, ends[i] - starts[i]);
+        }
+        snapshot = new Snapshot(starts, ends, sorted, maxDuration);
+    }
+
+    /**
+     * Remove um evento.
+     *
+     * @param id Id do evento
+     */
+    public void remove(UUID id) {
+        EventDto previous = byId.remove(id);
+        if (previous != null) {
+            Snapshot current = snapshot;
+            snapshot = current.without(current.position(previous));
+        }
+    }
+
+    /**
+     * Página dos eventos que se sobrepõem à janela {@code [from, to)}, ordenados por (início, id).
+     * A ordenação do {@code pageable} é ignorada.
+     *
+     * @param from     Início da janela (inclusivo)
+     * @param to       Fim da janela (exclusivo)
+     * @param pageable Paginação
+     * @return Página de eventos
+     */
+    public Page<EventDto> overlapping(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        Snapshot current = snapshot;
+        long fromMicros = micros(from);
+        int first = current.firstStartingAt(fromMicros - current.maxDuration());
+        int end = current.firstStartingAt(micros(to));
+        List<EventDto> content = new ArrayList<>(Math.min(limit, 64));
+        long total = 0;
+        for (int i = first; i < end; i++) {
+            if (current.ends()[i] > fromMicros) {
+                if (total >= offset && content.size() < limit) {
+                    content.add(current.events()[i]);
+                }
+                total++;
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Número de eventos no índice.
+     *
+     * @return Eventos indexados
+     */
+    public int size() {
+        return snapshot.events().length;
+    }
+
+    private static long micros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int byHigh = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    /**
+     * Vetores imutáveis publicados para as leituras.
+     */
+    private record Snapshot(long[] starts, long[] ends, EventDto[] events, long maxDuration) {
+
+        /**
+         * Posição do evento na ordenação, como em {@link Arrays#binarySearch}.
+         */
+        int position(EventDto event) {
+            return Arrays.binarySearch(events, event, ORDER);
+        }
+
+        /**
+         * Primeira posição com início maior ou igual a {@code micros}.
+         */
+        int firstStartingAt(long micros) {
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (starts[middle] < micros) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        Snapshot replace(int position, EventDto event) {
+            long end = micros(event.endDatetime());
+            ends[position] = end;
+            events[position] = event;
+            return new Snapshot(starts, ends, events, Math.max(maxDuration, end - starts[position]));
+        }
+
+        Snapshot with(int position, EventDto event) {
+            int length = events.length;
+            long start = micros(event.startDatetime());
+            long end = micros(event.endDatetime());
+            long[] newStarts = new long[length + 1];
+            long[] newEnds = new long[length + 1];
+            EventDto[] newEvents = new EventDto[length + 1];
+            System.arraycopy(starts, 0, newStarts, 0, position);
+            System.arraycopy(ends, 0, newEnds, 0, position);
+            System.arraycopy(events, 0, newEvents, 0, position);
+            newStarts[position] = start;
+            newEnds[position] = end;
+            newEvents[position] = event;
+            System.arraycopy(starts, position, newStarts, position + 1, length - position);
+            System.arraycopy(ends, position, newEnds, position + 1, length - position);
+            System.arraycopy(events, position, newEvents, position + 1, length - position);
+            return new Snapshot(newStarts, newEnds, newEvents, Math.max(maxDuration, end - start));
+        }
+
+        Snapshot without(int position) {
+            int length = events.length;
+            long[] newStarts = new long[length - 1];
+            long[] newEnds = new long[length - 1];
+            EventDto[] newEvents = new EventDto[length - 1];
+            System.arraycopy(starts, 0, newStarts, 0, position);
+            System.arraycopy(ends, 0, newEnds, 0, position);
+            System.arraycopy(events, 0, newEvents, 0, position);
+            System.arraycopy(starts, position + 1, newStarts, position, length - position - 1);
+            System.arraycopy(ends, position + 1, newEnds, position, length - position - 1);
+            System.arraycopy(events, position + 1, newEvents, position, length - position - 1);
+            return new Snapshot(newStarts, newEnds, newEvents, maxDuration);
+        }
+    }
+}
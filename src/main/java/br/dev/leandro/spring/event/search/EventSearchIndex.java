@@ -0,0 +1,278 @@
+package br.dev.leandro.spring.event.search;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.pt.PortugueseLightStemFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Índice invertido em memória (Lucene) dos eventos ativos, sobre nome, descrição e local.
+ * <p>
+ * O texto é normalizado para minúsculas, sem acentos ({@code sao paulo} encontra
+ * {@code São Paulo}) e com radicalização leve do português. Os campos do {@link EventDto} são
+ * armazenados no próprio índice, de modo que a busca não consulta o banco. O índice não é
+ * persistido: é reconstruído a partir do banco na inicialização e atualizado a cada alteração.
+ * Escritas são visíveis para as buscas assim que o método de escrita retorna.
+ * </p>
+ */
+public class EventSearchIndex implements Closeable {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String LOCATION = "location";
+    private static final String START = "startDatetime";
+    private static final String END = "endDatetime";
+    private static final String VERSION = "version";
+
+    /**
+     * Pesos dos campos na pontuação: o nome pesa mais que o local, que pesa mais que a descrição.
+     */
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(NAME, 3f, LOCATION, 1.5f, DESCRIPTION, 1f);
+
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    /**
+     * Cria um índice vazio.
+     */
+    public EventSearchIndex() {
+        try {
+            this.analyzer = CustomAnalyzer.builder()
+                    .withTokenizer(StandardTokenizerFactory.class)
+                    .addTokenFilter(LowerCaseFilterFactory.class)
+                    .addTokenFilter(ASCIIFoldingFilterFactory.class)
+                    .addTokenFilter(PortugueseLightStemFilterFactory.class)
+                    .build();
+            this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, new SearcherFactory());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao criar o índice de busca de eventos", e);
+        }
+    }
+
+    /**
+     * Inclui ou substitui um evento. Eventos que não estão ativos são removidos do índice.
+     *
+     * @param event Evento
+     */
+    public void index(EventDto event) {
+        indexAll(List.of(event));
+    }
+
+    /**
+     * Inclui, substitui ou remove vários eventos, como {@link #index(EventDto)}, com uma única
+     * atualização do leitor ao final.
+     *
+     * @param events Eventos
+     */
+    public void indexAll(Collection<EventDto> events) {
+        try {
+            for (EventDto event : events) {
+                if (event.status() == EventStatus.ACTIVE) {
+                    writer.updateDocument(idTerm(event.id()), toDocument(event));
+                } else {
+                    writer.deleteDocuments(idTerm(event.id()));
+                }
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Remove um evento.
+     *
+     * @param id Id do evento
+     */
+    public void remove(UUID id) {
+        try {
+            writer.deleteDocuments(idTerm(id));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Substitui todo o conteúdo do índice. Os eventos são lidos em sequência (tipicamente de um
+     * cursor do banco) e a análise do texto é feita em paralelo, em blocos, por {@code threads}
+     * threads; no máximo {@code 2 * threads} blocos ficam em memória ao mesmo tempo.
+     *
+     * @param events    Eventos ativos
+     * @param threads   Threads de indexação
+     * @param batchSize Eventos por bloco
+     * @return Número de eventos indexados
+     */
+    public long rebuild(Iterator<EventDto> events, int threads, int batchSize) {
+        Semaphore pending = new Semaphore(2 * threads);
+        List<Future<?>> futures = new ArrayList<>();
+        long indexed = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            writer.deleteAll();
+            while (events.hasNext()) {
+                List<Document> batch = new ArrayList<>(batchSize);
+                while (events.hasNext() && batch.size() < batchSize) {
+                    EventDto event = events.next();
+                    if (event.status() == EventStatus.ACTIVE) {
+                        batch.add(toDocument(event));
+                    }
+                }
+                indexed += batch.size();
+                pending.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        writer.addDocuments(batch);
+                        return null;
+                    } finally {
+                        pending.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            searcherManager.maybeRefreshBlocking();
+            return indexed;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reconstrução do índice interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha na reconstrução do índice", e.getCause());
+        }
+    }
+
+    /**
+     * Busca eventos por relevância. A consulta aceita a sintaxe simples do Lucene: termos
+     * (todos obrigatórios), frases entre aspas, prefixos ({@code conf*}), {@code |} para OU e
+     * {@code -} para exclusão. Erros de sintaxe nunca são lançados.
+     *
+     * @param text  Texto da consulta
+     * @param limit Número máximo de resultados
+     * @return Eventos em ordem de relevância
+     */
+    public List<EventDto> search(String text, int limit) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query query = parser.parse(text);
+        if (query == null) {
+            return List.of();
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<EventDto> results = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    results.add(toDto(storedFields.document(scoreDoc.doc)));
+                }
+                return results;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Número de eventos no índice.
+     *
+     * @return Eventos indexados e visíveis para a busca
+     */
+    public int size() {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        analyzer.close();
+    }
+
+    private static Term idTerm(UUID id) {
+        return new Term(ID, id.toString());
+    }
+
+    private static Document toDocument(EventDto event) {
+        Document document = new Document();
+        document.add(new StringField(ID, event.id().toString(), Field.Store.YES));
+        document.add(new TextField(NAME, event.name(), Field.Store.YES));
+        if (event.description() != null) {
+            document.add(new TextField(DESCRIPTION, event.description(), Field.Store.YES));
+        }
+        document.add(new TextField(LOCATION, event.location(), Field.Store.YES));
+        document.add(new StoredField(START, event.startDatetime().toString()));
+        document.add(new StoredField(END, event.endDatetime().toString()));
+        if (event.version() != null) {
+            document.add(new StoredField(VERSION, event.version()));
+        }
+        return document;
+    }
+
+    private static EventDto toDto(Document document) {
+        var version = document.getField(VERSION);
+        return new EventDto(
+                UUID.fromString(document.get(ID)),
+                document.get(NAME),
+                document.get(DESCRIPTION),
+                LocalDateTime.parse(document.get(START)),
+                LocalDateTime.parse(document.get(END)),
+                document.get(LOCATION),
+                EventStatus.ACTIVE,
+                version != null ? version.numericValue().longValue() : null);
+    }
+}
@@ -0,0 +1,42 @@
+package br.dev.leandro.spring.event.security;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * {@link JwtDecoder} que reaproveita tokens já verificados.
+ * <p>
+ * Um token repetido é resolvido pelo {@link VerifiedJwtCache} sem verificar a assinatura nem
+ * analisar as claims novamente. Em caso de falta, o token é decodificado pelo delegado fora de
+ * qualquer lock (a busca do JWKS pode fazer I/O) e só é armazenado se a verificação passar.
+ * </p>
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final VerifiedJwtCache cache;
+
+    /**
+     * Construtor.
+     *
+     * @param delegate Decodificador que verifica assinatura e claims
+     * @param cache    Cache de tokens verificados
+     */
+    public CachingJwtDecoder(final JwtDecoder delegate, final VerifiedJwtCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = cache.key(token);
+        Jwt cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Jwt jwt = delegate.decode(token);
+        cache.put(key, jwt);
+        return jwt;
+    }
+}
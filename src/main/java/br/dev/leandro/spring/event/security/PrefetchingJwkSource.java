@@ -0,0 +1,102 @@
+package br.dev.leandro.spring.event.security;
+
+import br.dev.leandro.spring.event.config.JwksProperties;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.CachingJWKSetSource;
+import com.nimbusds.jose.jwk.source.JWKSetSource;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.jwk.source.RefreshAheadCachingJWKSetSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.events.Event;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Fonte das chaves públicas (JWKS) usadas na verificação dos tokens.
+ * <p>
+ * As chaves são buscadas na inicialização e renovadas em segundo plano antes de expirarem, de
+ * modo que nenhuma requisição espera pela rede no caminho comum. Um {@code kid} desconhecido
+ * (rotação de chave no Keycloak) dispara uma busca imediata, limitada a
+ * {@code rate-limit-min-interval}; se o Keycloak estiver fora do ar, as últimas chaves obtidas
+ * continuam em uso por {@code outage-tolerance}.
+ * </p>
+ */
+@Slf4j
+public class PrefetchingJwkSource implements JWKSource<SecurityContext>, InitializingBean, DisposableBean {
+
+    private static final JWKSelector ALL_KEYS = new JWKSelector(new JWKMatcher.Builder().build());
+
+    private final JWKSource<SecurityContext> delegate;
+    private final boolean prefetch;
+
+    /**
+     * Construtor.
+     *
+     * @param origin     Origem das chaves (em produção, o endpoint JWKS do Keycloak)
+     * @param properties Propriedades do cache de chaves
+     */
+    public PrefetchingJwkSource(final JWKSetSource<SecurityContext> origin, final JwksProperties properties) {
+        this.delegate = JWKSourceBuilder.create(origin)
+                .cache(properties.getTimeToLive().toMillis(), properties.getRefreshTimeout().toMillis())
+                .refreshAheadCache(properties.getRefreshAhead().toMillis(), true, PrefetchingJwkSource::logRefresh)
+                .rateLimited(properties.getRateLimitMinInterval().toMillis(),
+                        event -> log.warn("Busca do JWKS limitada; kid desconhecido recusado até o próximo intervalo"))
+                .outageTolerant(properties.getOutageTolerance().toMillis())
+                .retrying(true)
+                .build();
+        this.prefetch = properties.isPrefetch();
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        return delegate.get(jwkSelector, context);
+    }
+
+    /**
+     * Carrega as chaves e agenda a primeira renovação. Uma falha não impede a inicialização:
+     * as chaves serão buscadas na primeira requisição.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        if (!prefetch) {
+            return;
+        }
+        try {
+            List<JWK> keys = delegate.get(ALL_KEYS, null);
+            log.info("JWKS carregado na inicialização: {} chave(s)", keys.size());
+        } catch (KeySourceException e) {
+            log.warn("Não foi possível carregar o JWKS na inicialização: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Encerra o agendamento das renovações.
+     *
+     * @throws IOException se a origem falhar ao fechar
+     */
+    @Override
+    public void destroy() throws IOException {
+        if (delegate instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static void logRefresh(Event<CachingJWKSetSource<SecurityContext>, SecurityContext> event) {
+        if (event instanceof RefreshAheadCachingJWKSetSource.ScheduledRefreshFailed<?> failed) {
+            log.warn("Falha na renovação antecipada do JWKS: {}", failed.getException().getMessage());
+        } else if (event instanceof RefreshAheadCachingJWKSetSource.UnableToRefreshAheadOfExpirationEvent) {
+            log.warn("Não foi possível renovar o JWKS antes da expiração");
+        } else {
+            log.debug("Evento do cache do JWKS: {}", event.getClass().getSimpleName());
+        }
+    }
+}
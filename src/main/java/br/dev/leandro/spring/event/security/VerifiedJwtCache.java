@@ -0,0 +1,158 @@
+package br.dev.leandro.spring.event.security;
+
+import br.dev.leandro.spring.event.config.JwtCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Cache de tokens JWT cuja assinatura e claims já foram validadas.
+ * <p>
+ * A chave é o SHA-256 do token, de modo que o cache não retém o texto do token como chave. Cada
+ * entrada expira no {@code exp} do próprio token (limitado por {@code max-time-to-live}); um token
+ * expirado nunca é servido pelo cache e volta a passar pelo decodificador, que o rejeita.
+ * Falhas de verificação não são armazenadas.
+ * </p>
+ * <p>
+ * As autoridades são memorizadas por instância de {@link Jwt} (chaves fracas, comparadas por
+ * identidade), e saem do cache junto com o token. As métricas de acerto são publicadas como
+ * {@code cache.gets{cache="verified-jwt"}}.
+ * </p>
+ */
+public class VerifiedJwtCache {
+
+    /**
+     * Nome do cache nas métricas.
+     */
+    public static final String CACHE_NAME = "verified-jwt";
+
+    private final Cache<String, Jwt> tokens;
+    private final Cache<Jwt, Collection<GrantedAuthority>> authorities;
+
+    /**
+     * Construtor.
+     *
+     * @param properties    Propriedades do cache
+     * @param meterRegistry Registro de métricas
+     * @param clock         Relógio usado para calcular a expiração das entradas
+     */
+    public VerifiedJwtCache(final JwtCacheProperties properties, final MeterRegistry meterRegistry, final Clock clock) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry(properties.getMaxTimeToLive(), clock))
+                .recordStats()
+                .build();
+        this.authorities = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(properties.getMaximumSize())
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, CACHE_NAME);
+    }
+
+    /**
+     * Calcula a chave de um token.
+     *
+     * @param token Token no formato compacto
+     * @return SHA-256 do token em hexadecimal
+     */
+    public String key(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Retorna o token verificado, se presente e ainda não expirado.
+     *
+     * @param key Chave calculada por {@link #key(String)}
+     * @return Token, ou {@code null}
+     */
+    public Jwt get(String key) {
+        return tokens.getIfPresent(key);
+    }
+
+    /**
+     * Armazena um token que acabou de ser verificado.
+     *
+     * @param key Chave calculada por {@link #key(String)}
+     * @param jwt Token verificado
+     */
+    public void put(String key, Jwt jwt) {
+        tokens.put(key, jwt);
+    }
+
+    /**
+     * Retorna as autoridades do token, convertendo-as apenas na primeira vez.
+     * <p>
+     * A conversão roda fora de qualquer lock do cache; em corridas, o mesmo token pode ser
+     * convertido mais de uma vez, com resultado idêntico.
+     * </p>
+     *
+     * @param jwt       Token verificado
+     * @param converter Conversor das claims em autoridades
+     * @return Autoridades imutáveis
+     */
+    public Collection<GrantedAuthority> authorities(Jwt jwt, Converter<Jwt, Collection<GrantedAuthority>> converter) {
+        Collection<GrantedAuthority> cached = authorities.getIfPresent(jwt);
+        if (cached != null) {
+            return cached;
+        }
+        Collection<GrantedAuthority> converted = converter.convert(jwt);
+        List<GrantedAuthority> result = converted == null ? List.of() : List.copyOf(converted);
+        authorities.put(jwt, result);
+        return result;
+    }
+
+    /**
+     * Número aproximado de tokens em cache.
+     *
+     * @return Tamanho estimado
+     */
+    public long estimatedSize() {
+        return tokens.estimatedSize();
+    }
+
+    private record TokenExpiry(Duration maxTimeToLive, Clock clock) implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) {
+                return maxTimeToLive.toNanos();
+            }
+            Duration remaining = Duration.between(clock.instant(), expiresAt);
+            if (remaining.isNegative()) {
+                return 0L;
+            }
+            return Math.min(remaining.toNanos(), maxTimeToLive.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
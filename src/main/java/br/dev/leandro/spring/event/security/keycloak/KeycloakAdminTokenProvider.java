@@ -0,0 +1,132 @@
+package br.dev.leandro.spring.event.security.keycloak;
+
+import br.dev.leandro.spring.event.exception.handler.WebClientErrorHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.keycloak.representations.AccessTokenResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Token de acesso administrativo do Keycloak (client credentials), compartilhado por todas as chamadas.
+ * <p>
+ * O token é reutilizado até {@code token-refresh-skew} antes de expirar. A partir daí, a primeira
+ * chamada dispara a renovação em segundo plano e continua usando o token corrente, que ainda é
+ * válido; só há espera quando não existe token válido. Chamadas concorrentes compartilham uma
+ * única requisição de renovação.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class KeycloakAdminTokenProvider {
+
+    private static final String TOKEN_URI = "/realms/{realm}/protocol/openid-connect/token";
+
+    private final WebClient webClient;
+    private final KeycloakProperties keycloakProperties;
+    private final Duration refreshSkew;
+    private final Clock clock;
+    private final AtomicReference<AdminToken> token = new AtomicReference<>();
+    private final AtomicReference<Mono<AdminToken>> inFlight = new AtomicReference<>();
+
+    /**
+     * Construtor.
+     *
+     * @param webClient          Cliente do Keycloak
+     * @param keycloakProperties Credenciais do cliente administrativo
+     * @param clientProperties   Propriedades do cliente HTTP
+     */
+    @Autowired
+    public KeycloakAdminTokenProvider(final WebClient webClient,
+                                      final KeycloakProperties keycloakProperties,
+                                      final KeycloakClientProperties clientProperties) {
+        this(webClient, keycloakProperties, clientProperties, Clock.systemUTC());
+    }
+
+    /**
+     * Construtor com relógio explícito.
+     *
+     * @param webClient          Cliente do Keycloak
+     * @param keycloakProperties Credenciais do cliente administrativo
+     * @param clientProperties   Propriedades do cliente HTTP
+     * @param clock              Relógio usado para avaliar a expiração do token
+     */
+    public KeycloakAdminTokenProvider(final WebClient webClient,
+                                      final KeycloakProperties keycloakProperties,
+                                      final KeycloakClientProperties clientProperties,
+                                      final Clock clock) {
+        this.webClient = webClient;
+        this.keycloakProperties = keycloakProperties;
+        this.refreshSkew = clientProperties.getTokenRefreshSkew();
+        this.clock = clock;
+    }
+
+    /**
+     * Retorna um token administrativo válido.
+     *
+     * @return Token de acesso
+     */
+    public Mono<String> accessToken() {
+        AdminToken current = token.get();
+        Instant now = clock.instant();
+        if (current != null && now.isBefore(current.refreshAt())) {
+            return Mono.just(current.value());
+        }
+        Mono<AdminToken> refresh = refresh();
+        if (current != null && now.isBefore(current.expiresAt())) {
+            refresh.subscribe(
+                    renewed -> log.debug("Token administrativo do Keycloak renovado"),
+                    e -> log.warn("Falha ao renovar o token administrativo do Keycloak: {}", e.getMessage()));
+            return Mono.just(current.value());
+        }
+        return refresh.map(AdminToken::value);
+    }
+
+    private Mono<AdminToken> refresh() {
+        while (true) {
+            Mono<AdminToken> existing = inFlight.get();
+            if (existing != null) {
+                return existing;
+            }
+            AtomicReference<Mono<AdminToken>> self = new AtomicReference<>();
+            Mono<AdminToken> created = requestToken()
+                    .doOnNext(token::set)
+                    .doFinally(signal -> inFlight.compareAndSet(self.get(), null))
+                    .cache();
+            self.set(created);
+            if (inFlight.compareAndSet(null, created)) {
+                return created;
+            }
+        }
+    }
+
+    private Mono<AdminToken> requestToken() {
+        return webClient.post()
+                .uri(TOKEN_URI, keycloakProperties.getRealm())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData("grant_type", "client_credentials")
+                        .with("client_id", keycloakProperties.getClientId())
+                        .with("client_secret", keycloakProperties.getClientSecret()))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, WebClientErrorHandler::handleErrorStatus)
+                .bodyToMono(AccessTokenResponse.class)
+                .map(response -> {
+                    Instant expiresAt = clock.instant().plusSeconds(response.getExpiresIn());
+                    return new AdminToken(response.getToken(), expiresAt, expiresAt.minus(refreshSkew));
+                });
+    }
+
+    private record AdminToken(String value, Instant expiresAt, Instant refreshAt) {
+    }
+}
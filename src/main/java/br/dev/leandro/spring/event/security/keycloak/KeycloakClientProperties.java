@@ -0,0 +1,73 @@
+package br.dev.leandro.spring.event.security.keycloak;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do cliente HTTP do Keycloak: pool de conexões, timeouts e caches.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.keycloak.client")
+public class KeycloakClientProperties {
+
+    /**
+     * Número máximo de conexões abertas com o Keycloak.
+     */
+    private int maxConnections = 50;
+
+    /**
+     * Número máximo de requisições aguardando uma conexão livre.
+     */
+    private int pendingAcquireMaxCount = 200;
+
+    /**
+     * Tempo máximo de espera por uma conexão livre do pool.
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Tempo ocioso após o qual a conexão é fechada. Deve ser menor que o keep-alive do Keycloak/proxy.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Tempo de vida máximo de uma conexão, para redistribuir a carga entre réplicas do Keycloak.
+     */
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    /**
+     * Intervalo da remoção, em segundo plano, das conexões ociosas ou expiradas.
+     */
+    private Duration evictInBackground = Duration.ofSeconds(30);
+
+    /**
+     * Timeout de conexão.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Timeout de resposta de cada chamada.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Antecedência, em relação à expiração, com que o token administrativo é renovado.
+     */
+    private Duration tokenRefreshSkew = Duration.ofSeconds(30);
+
+    /**
+     * Validade das consultas de usuários e papéis em cache.
+     */
+    private Duration lookupCacheTtl = Duration.ofMinutes(5);
+
+    /**
+     * Número máximo de usuários (e de listas de papéis) em cache.
+     */
+    private long lookupCacheMaximumSize = 10_000;
+}
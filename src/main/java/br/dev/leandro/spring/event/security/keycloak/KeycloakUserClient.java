@@ -0,0 +1,110 @@
+package br.dev.leandro.spring.event.security.keycloak;
+
+import br.dev.leandro.spring.event.exception.handler.WebClientErrorHandler;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Consultas de usuários e papéis na API administrativa do Keycloak.
+ * <p>
+ * As respostas ficam em cache por {@code lookup-cache-ttl}. Consultas concorrentes ao mesmo
+ * usuário compartilham uma única chamada; falhas (incluindo usuário inexistente) não são armazenadas.
+ * Os caches publicam métricas como {@code cache.gets{cache="keycloak-users"}} e
+ * {@code cache.gets{cache="keycloak-user-roles"}}.
+ * </p>
+ */
+@Component
+@Profile("!test")
+public class KeycloakUserClient {
+
+    private static final String USER_URI = "/admin/realms/{realm}/users/{id}";
+    private static final String REALM_ROLES_URI = "/admin/realms/{realm}/users/{id}/role-mappings/realm";
+    private static final ParameterizedTypeReference<List<RoleRepresentation>> ROLE_LIST = new ParameterizedTypeReference<>() {
+    };
+
+    private final WebClient webClient;
+    private final KeycloakAdminTokenProvider tokenProvider;
+    private final KeycloakProperties keycloakProperties;
+    private final AsyncCache<String, UserRepresentation> users;
+    private final AsyncCache<String, List<RoleRepresentation>> realmRoles;
+
+    /**
+     * Construtor.
+     *
+     * @param webClient          Cliente do Keycloak
+     * @param tokenProvider      Token administrativo
+     * @param keycloakProperties Realm consultado
+     * @param clientProperties   Propriedades do cliente HTTP
+     * @param meterRegistry      Registro de métricas
+     */
+    public KeycloakUserClient(final WebClient webClient,
+                              final KeycloakAdminTokenProvider tokenProvider,
+                              final KeycloakProperties keycloakProperties,
+                              final KeycloakClientProperties clientProperties,
+                              final MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.tokenProvider = tokenProvider;
+        this.keycloakProperties = keycloakProperties;
+        this.users = lookupCache(clientProperties);
+        this.realmRoles = lookupCache(clientProperties);
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "keycloak-users");
+        CaffeineCacheMetrics.monitor(meterRegistry, realmRoles, "keycloak-user-roles");
+    }
+
+    /**
+     * Busca um usuário pelo id.
+     *
+     * @param userId Id do usuário no Keycloak
+     * @return Usuário; erro {@code ResourceNotFoundException} se não existir
+     */
+    public Mono<UserRepresentation> findUser(String userId) {
+        return Mono.fromFuture(() -> users.get(userId, (id, executor) -> fetch(USER_URI, id, UserRepresentation.class).toFuture()));
+    }
+
+    /**
+     * Busca os papéis de realm atribuídos ao usuário.
+     *
+     * @param userId Id do usuário no Keycloak
+     * @return Papéis de realm
+     */
+    public Mono<List<RoleRepresentation>> findRealmRoles(String userId) {
+        return Mono.fromFuture(() -> realmRoles.get(userId, (id, executor) -> fetch(REALM_ROLES_URI, id, ROLE_LIST).toFuture()));
+    }
+
+    private <T> Mono<T> fetch(String uri, String userId, Class<T> type) {
+        return request(uri, userId).flatMap(spec -> spec.bodyToMono(type));
+    }
+
+    private <T> Mono<T> fetch(String uri, String userId, ParameterizedTypeReference<T> type) {
+        return request(uri, userId).flatMap(spec -> spec.bodyToMono(type));
+    }
+
+    private Mono<WebClient.ResponseSpec> request(String uri, String userId) {
+        return tokenProvider.accessToken().map(token -> webClient.get()
+                .uri(uri, keycloakProperties.getRealm(), userId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, WebClientErrorHandler::handleErrorStatus));
+    }
+
+    private static <V> AsyncCache<String, V> lookupCache(KeycloakClientProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getLookupCacheMaximumSize())
+                .expireAfterWrite(properties.getLookupCacheTtl())
+                .recordStats()
+                .buildAsync();
+    }
+}
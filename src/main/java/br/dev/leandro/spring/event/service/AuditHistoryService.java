@@ -0,0 +1,65 @@
+package br.dev.leandro.spring.event.service;
+
+import br.dev.leandro.spring.event.dto.AuditEntryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AuditHistoryService {
+
+    String EVENT = "event";
+    String ORGANIZER = "organizer";
+
+    /**
+     * Registra, de forma assíncrona, os campos alterados entre duas versões de um agregado.
+     * Deve ser chamado após a confirmação da transação da alteração.
+     *
+     * @param aggregateType Tipo do agregado ({@link #EVENT}, {@link #ORGANIZER})
+     * @param aggregateId   Id do agregado
+     * @param before        Estado anterior
+     * @param after         Estado confirmado
+     * @param version       Versão do agregado após a alteração
+     * @param changedBy     Usuário que fez a alteração
+     * @param <T>           Tipo do DTO
+     * @return Campos registrados
+     */
+    <T extends Record> int recordUpdate(String aggregateType, UUID aggregateId, T before, T after,
+                                        Long version, String changedBy);
+
+    /**
+     * Registra, de forma assíncrona e com uma única reserva de espaço na fila, os campos alterados
+     * de vários agregados do mesmo tipo. Deve ser chamado após a confirmação da transação das
+     * alterações.
+     *
+     * @param aggregateType Tipo do agregado ({@link #EVENT}, {@link #ORGANIZER})
+     * @param updates       Alterações
+     * @param changedBy     Usuário que fez as alterações
+     * @param <T>           Tipo do DTO
+     * @return Campos registrados
+     */
+    <T extends Record> int recordUpdates(String aggregateType, List<Update<T>> updates, String changedBy);
+
+    /**
+     * Histórico de um agregado, da alteração mais recente para a mais antiga.
+     *
+     * @param aggregateType Tipo do agregado
+     * @param aggregateId   Id do agregado
+     * @param pageable      Paginação; a ordenação é sempre da mais recente para a mais antiga
+     * @return Página do histórico
+     */
+    Page<AuditEntryDto> history(String aggregateType, UUID aggregateId, Pageable pageable);
+
+    /**
+     * Alteração de um agregado.
+     *
+     * @param aggregateId Id do agregado
+     * @param before      Estado anterior
+     * @param after       Estado confirmado
+     * @param version     Versão do agregado após a alteração
+     * @param <T>         Tipo do DTO
+     */
+    record Update<T extends Record>(UUID aggregateId, T before, T after, Long version) {
+    }
+}
@@ -0,0 +1,105 @@
+package br.dev.leandro.spring.event.service;
+
+import br.dev.leandro.spring.event.audit.AuditChange;
+import br.dev.leandro.spring.event.audit.AuditHistoryWriter;
+import br.dev.leandro.spring.event.audit.FieldDiff;
+import br.dev.leandro.spring.event.config.AuditHistoryProperties;
+import br.dev.leandro.spring.event.dto.AuditEntryDto;
+import br.dev.leandro.spring.event.filter.CorrelationIdProperties;
+import br.dev.leandro.spring.event.mapper.AuditHistoryMapper;
+import br.dev.leandro.spring.event.repository.AuditHistoryRepository;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Histórico de auditoria de eventos e organizadores.
+ * <p>
+ * Cada atualização gera uma entrada por campo alterado, comparando os DTOs antes e depois da
+ * alteração (a versão e os metadados de auditoria não entram na comparação). As entradas são
+ * gravadas em lote pelo {@link AuditHistoryWriter}, sem custo de banco na requisição enquanto
+ * houver espaço na fila.
+ * </p>
+ */
+@Service
+public class AuditHistoryServiceImpl implements AuditHistoryService {
+
+    private static final Set<String> IGNORED_FIELDS = Set.of(
+            "id", "version", "createdBy", "updatedBy", "createdAt", "updatedAt");
+
+    private final AuditHistoryWriter writer;
+    private final AuditHistoryRepository auditHistoryRepository;
+    private final AuditHistoryMapper auditHistoryMapper;
+    private final AuditHistoryProperties properties;
+    private final CorrelationIdProperties correlationIdProperties;
+    private final Clock clock;
+
+    @Autowired
+    public AuditHistoryServiceImpl(AuditHistoryWriter writer, AuditHistoryRepository auditHistoryRepository,
+                                   AuditHistoryMapper auditHistoryMapper, AuditHistoryProperties properties,
+                                   CorrelationIdProperties correlationIdProperties) {
+        this(writer, auditHistoryRepository, auditHistoryMapper, properties, correlationIdProperties,
+                Clock.systemDefaultZone());
+    }
+
+    public AuditHistoryServiceImpl(AuditHistoryWriter writer, AuditHistoryRepository auditHistoryRepository,
+                                   AuditHistoryMapper auditHistoryMapper, AuditHistoryProperties properties,
+                                   CorrelationIdProperties correlationIdProperties, Clock clock) {
+        this.writer = writer;
+        this.auditHistoryRepository = auditHistoryRepository;
+        this.auditHistoryMapper = auditHistoryMapper;
+        this.properties = properties;
+        this.correlationIdProperties = correlationIdProperties;
+        this.clock = clock;
+    }
+
+    @Override
+    public <T extends Record> int recordUpdate(String aggregateType, UUID aggregateId, T before, T after,
+                                               Long version, String changedBy) {
+        return recordUpdates(aggregateType, List.of(new Update<>(aggregateId, before, after, version)), changedBy);
+    }
+
+    @Override
+    public <T extends Record> int recordUpdates(String aggregateType, List<Update<T>> updates, String changedBy) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        String correlationId = MDC.get(correlationIdProperties.getMdcKey());
+        List<AuditChange> changes = new ArrayList<>();
+        for (Update<T> update : updates) {
+            if (update.before() == null || update.after() == null) {
+                continue;
+            }
+            for (FieldDiff.Change change : FieldDiff.between(update.before(), update.after(), IGNORED_FIELDS)) {
+                changes.add(new AuditChange(aggregateType, update.aggregateId(), update.version(), change.field(),
+                        change.oldValue(), change.newValue(), changedBy, now, correlationId));
+            }
+        }
+        if (!changes.isEmpty()) {
+            writer.offerAll(changes);
+        }
+        return changes.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AuditEntryDto> history(String aggregateType, UUID aggregateId, Pageable pageable) {
+        Pageable unsorted = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+                : pageable;
+        return auditHistoryRepository.findHistory(aggregateType, aggregateId, unsorted)
+                .map(auditHistoryMapper::toDto);
+    }
+}
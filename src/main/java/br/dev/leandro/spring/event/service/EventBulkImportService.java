@@ -0,0 +1,20 @@
+package br.dev.leandro.spring.event.service;
+
+import br.dev.leandro.spring.event.dto.BulkImportReportDto;
+
+import java.io.InputStream;
+
+public interface EventBulkImportService {
+
+    /**
+     * Formatos aceitos pela importação.
+     */
+    enum Format {
+        /** Um objeto JSON por linha. */
+        NDJSON,
+        /** CSV com cabeçalho; as colunas seguem os campos de {@code EventDto}. */
+        CSV
+    }
+
+    BulkImportReportDto importEvents(String userId, InputStream input, Format format);
+}
@@ -0,0 +1,333 @@
+package br.dev.leandro.spring.event.service;
+
+import br.dev.leandro.spring.event.config.BulkImportProperties;
+import br.dev.leandro.spring.event.dto.BulkImportReportDto;
+import br.dev.leandro.spring.event.dto.BulkRecordResultDto;
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.outbox.OutboxEventType;
+import br.dev.leandro.spring.event.outbox.OutboxWriter;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.utils.SecurityUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Importação de eventos em lote.
+ * <p>
+ * A entrada é lida registro a registro, sem ser carregada inteira em memória. Cada registro é
+ * validado com as restrições de {@link EventDto}; os válidos são acumulados em blocos de
+ * {@link BulkImportProperties#getChunkSize()} e cada bloco é persistido em uma transação própria,
+ * com lote JDBC, junto com as mensagens {@code event.created} do outbox. O contexto de
+ * persistência é limpo ao fim de cada bloco. Se o banco rejeitar o bloco, os registros dele são
+ * gravados um a um, cada um em sua transação, e apenas os rejeitados são reportados como falha.
+ * </p>
+ */
+@Slf4j
+@Service
+public class EventBulkImportServiceImpl implements EventBulkImportService {
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+    private static final String PERSISTENCE_ERROR = "Falha ao persistir o registro no banco de dados.";
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final OutboxWriter outboxWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final BulkImportProperties properties;
+    private final Counter importedCounter;
+    private final Counter failedCounter;
+    private final Timer chunkTimer;
+
+    public EventBulkImportServiceImpl(EventRepository eventRepository, EventMapper eventMapper,
+                                      Validator validator, ObjectMapper objectMapper, OutboxWriter outboxWriter,
+                                      PlatformTransactionManager transactionManager, EntityManager entityManager,
+                                      BulkImportProperties properties, MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.outboxWriter = outboxWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.importedCounter = Counter.builder("events.bulk.records")
+                .description("Registros processados pela importação em lote")
+                .tag("result", "imported")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("events.bulk.records")
+                .description("Registros processados pela importação em lote")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("events.bulk.chunk")
+                .description("Tempo de persistência de cada bloco da importação em lote")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public BulkImportReportDto importEvents(String userId, InputStream input, Format format) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("userId não pode ser nulo ou vazio");
+        }
+        UUID organizerId = UUID.fromString(userId);
+        String user = SecurityUtils.getUser();
+        long start = System.nanoTime();
+
+        List<BulkRecordResultDto> results = new ArrayList<>();
+        List<PendingRecord> chunk = new ArrayList<>(properties.getChunkSize());
+        try (RecordReader reader = open(input, format)) {
+            ParsedRecord parsed;
+            while ((parsed = reader.next()) != null) {
+                if (parsed.record() > properties.getMaxRecords()) {
+                    results.add(BulkRecordResultDto.failed(parsed.record(), List.of(
+                            "Limite de " + properties.getMaxRecords() + " registros por importação excedido; "
+                                    + "os registros seguintes não foram lidos.")));
+                    failedCounter.increment();
+                    break;
+                }
+                List<String> errors = parsed.error() != null ? List.of(parsed.error()) : validate(parsed.dto());
+                if (!errors.isEmpty()) {
+                    results.add(BulkRecordResultDto.failed(parsed.record(), errors));
+                    failedCounter.increment();
+                    continue;
+                }
+                chunk.add(new PendingRecord(parsed.record(), parsed.dto()));
+                if (chunk.size() >= properties.getChunkSize()) {
+                    persist(chunk, organizerId, user, results);
+                }
+            }
+            persist(chunk, organizerId, user, results);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler a entrada da importação", e);
+        }
+
+        results.sort(Comparator.comparingLong(BulkRecordResultDto::record));
+        long imported = results.stream().filter(BulkRecordResultDto::imported).count();
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Importação em lote concluída: {} registros, {} importados, {} rejeitados em {} ms ({} registros/s)",
+                results.size(), imported, results.size() - imported, elapsedMillis,
+                results.size() * 1000 / elapsedMillis);
+        return new BulkImportReportDto(results.size(), imported, results.size() - imported, results);
+    }
+
+    private List<String> validate(EventDto dto) {
+        return validator.validate(dto).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    private void persist(List<PendingRecord> chunk, UUID organizerId, String user,
+                         List<BulkRecordResultDto> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            List<Event> events = insert(chunk, organizerId, user);
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(BulkRecordResultDto.imported(chunk.get(i).record(), events.get(i).getId()));
+            }
+            importedCounter.increment(chunk.size());
+        } catch (DataAccessException | PersistenceException e) {
+            if (chunk.size() == 1) {
+                failed(chunk.getFirst(), results, e);
+            } else {
+                log.warn("Falha ao persistir bloco de {} eventos da importação em lote; gravando um a um: {}",
+                        chunk.size(), e.getMessage());
+                chunk.forEach(pending -> persistOne(pending, organizerId, user, results));
+            }
+        } finally {
+            sample.stop(chunkTimer);
+            chunk.clear();
+        }
+    }
+
+    /**
+     * Grava um registro de um bloco que falhou, em transação própria, para que apenas os registros
+     * rejeitados pelo banco sejam reportados como falha.
+     */
+    private void persistOne(PendingRecord pending, UUID organizerId, String user,
+                            List<BulkRecordResultDto> results) {
+        try {
+            Event event = insert(List.of(pending), organizerId, user).getFirst();
+            results.add(BulkRecordResultDto.imported(pending.record(), event.getId()));
+            importedCounter.increment();
+        } catch (DataAccessException | PersistenceException e) {
+            failed(pending, results, e);
+        }
+    }
+
+    private List<Event> insert(List<PendingRecord> records, UUID organizerId, String user) {
+        return transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(properties.getJdbcBatchSize());
+            List<Event> entities = records.stream()
+                    .map(pending -> toEntity(pending.dto(), organizerId, user))
+                    .toList();
+            eventRepository.saveAll(entities);
+            Map<UUID, EventDto> payloads = new LinkedHashMap<>();
+            entities.forEach(event -> payloads.put(event.getId(), eventMapper.toDto(event)));
+            // Faz o flush dos eventos e grava as mensagens do bloco em um único lote JDBC
+            outboxWriter.appendAll(OutboxEventType.EVENT_CREATED, payloads);
+            entityManager.clear();
+            return entities;
+        });
+    }
+
+    private void failed(PendingRecord pending, List<BulkRecordResultDto> results, RuntimeException e) {
+        log.error("Falha ao persistir o registro {} da importação em lote", pending.record(), e);
+        results.add(BulkRecordResultDto.failed(pending.record(), List.of(PERSISTENCE_ERROR)));
+        failedCounter.increment();
+    }
+
+    private Event toEntity(EventDto dto, UUID organizerId, String user) {
+        Event event = eventMapper.toEntity(dto);
+        // O id é sempre gerado; um id informado na entrada não deve transformar o insert em merge
+        event.setId(null);
+        event.setStatus(EventStatus.DRAFT);
+        event.setOrganizerId(organizerId);
+        event.setCreatedBy(user);
+        return event;
+    }
+
+    private RecordReader open(InputStream input, Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return switch (format) {
+            case NDJSON -> new NdjsonRecordReader(reader);
+            case CSV -> new CsvRecordReader(reader);
+        };
+    }
+
+    private record PendingRecord(long record, EventDto dto) {
+    }
+
+    private record ParsedRecord(long record, EventDto dto, String error) {
+    }
+
+    private interface RecordReader extends AutoCloseable {
+
+        /**
+         * Lê o próximo registro.
+         *
+         * @return Registro lido ou {@code null} ao fim da entrada
+         * @throws IOException Falha de leitura
+         */
+        ParsedRecord next() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * Um objeto JSON por linha; linhas em branco são ignoradas e o número do registro é o número
+     * da linha.
+     */
+    private final class NdjsonRecordReader implements RecordReader {
+
+        private final BufferedReader reader;
+        private long line;
+
+        private NdjsonRecordReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            String content;
+            do {
+                content = reader.readLine();
+                if (content == null) {
+                    return null;
+                }
+                line++;
+            } while (content.isBlank());
+            try {
+                return new ParsedRecord(line, objectMapper.readValue(content, EventDto.class), null);
+            } catch (JsonProcessingException e) {
+                return new ParsedRecord(line, null, "JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * CSV com cabeçalho. Cada linha é lida como mapa de colunas e convertida para
+     * {@link EventDto}; colunas vazias são tratadas como ausentes.
+     */
+    private final class CsvRecordReader implements RecordReader {
+
+        private final MappingIterator<Map<String, String>> rows;
+        private long record;
+        private boolean malformed;
+
+        private CsvRecordReader(BufferedReader reader) throws IOException {
+            this.rows = CSV_MAPPER.readerForMapOf(String.class).with(CSV_SCHEMA).readValues(reader);
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            Map<String, String> row;
+            try {
+                if (malformed || !rows.hasNextValue()) {
+                    return null;
+                }
+                row = rows.nextValue();
+            } catch (IOException e) {
+                // CSV malformado: não é possível ressincronizar, a leitura termina neste registro
+                malformed = true;
+                record++;
+                return new ParsedRecord(record, null, "CSV inválido: " + e.getMessage());
+            }
+            record++;
+            row.values().removeIf(value -> value == null || value.isBlank());
+            try {
+                return new ParsedRecord(record, objectMapper.convertValue(row, EventDto.class), null);
+            } catch (IllegalArgumentException e) {
+                return new ParsedRecord(record, null, "Registro inválido: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+    }
+}
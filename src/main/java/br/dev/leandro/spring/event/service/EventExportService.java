@@ -0,0 +1,16 @@
+package br.dev.leandro.spring.event.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface EventExportService {
+
+    /**
+     * Escreve todos os eventos ativos como NDJSON (um objeto {@code EventDto} por linha).
+     *
+     * @param output Destino da exportação
+     * @return Quantidade de eventos exportados
+     * @throws IOException Falha ao escrever no destino
+     */
+    long exportActive(OutputStream output) throws IOException;
+}
@@ -0,0 +1,90 @@
+package br.dev.leandro.spring.event.service;
+
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exportação do catálogo de eventos em NDJSON.
+ * <p>
+ * Os eventos são lidos por um cursor ({@link EventRepository#streamAllByStatus}) dentro de uma
+ * transação somente leitura e escritos um a um; cada entidade é desanexada logo após ser escrita,
+ * de modo que o consumo de memória não depende do tamanho do catálogo. Não há consulta de
+ * contagem nem montagem de páginas.
+ * </p>
+ */
+@Slf4j
+@Service
+public class EventExportServiceImpl implements EventExportService {
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter writer;
+
+    public EventExportServiceImpl(EventRepository eventRepository, EventMapper eventMapper,
+                                  EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // Sem flush por registro (o buffer da resposta decide quando enviar) e sem fechar o destino
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
+    }
+
+    @Override
+    public long exportActive(OutputStream output) throws IOException {
+        try {
+            Long exported = transactionTemplate.execute(status -> write(output));
+            log.info("Exportação concluída: {} eventos", exported);
+            return exported;
+        } catch (UncheckedIOException e) {
+            // Cliente desconectado ou falha de escrita: a transação já foi desfeita
+            throw e.getCause();
+        }
+    }
+
+    private long write(OutputStream output) {
+        long exported = 0;
+        try (Stream<Event> events = eventRepository.streamAllByStatus(EventStatus.ACTIVE);
+             SequenceWriter sequence = writer.writeValues(output)) {
+            Iterator<Event> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                Event event = iterator.next();
+                sequence.write(eventMapper.toDto(event));
+                entityManager.detach(event);
+                exported++;
+            }
+            if (exported > 0) {
+                sequence.flush();
+                output.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return exported;
+    }
+}
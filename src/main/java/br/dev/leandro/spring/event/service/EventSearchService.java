@@ -0,0 +1,56 @@
+package br.dev.leandro.spring.event.service;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface EventSearchService {
+
+    /**
+     * Busca eventos ativos por nome, descrição e local, em ordem de relevância.
+     *
+     * @param query Texto da consulta
+     * @param limit Número máximo de resultados
+     * @return Eventos encontrados
+     */
+    List<EventDto> search(String query, int limit);
+
+    /**
+     * Atualiza o evento no índice; eventos que não estão ativos são removidos.
+     *
+     * @param event Estado atual do evento
+     */
+    void index(EventDto event);
+
+    /**
+     * Atualiza vários eventos no índice, com uma única atualização do leitor; eventos que não estão
+     * ativos são removidos.
+     *
+     * @param events Estado atual dos eventos
+     */
+    void indexAll(Collection<EventDto> events);
+
+    /**
+     * Remove o evento do índice.
+     *
+     * @param id Id do evento
+     */
+    void remove(UUID id);
+
+    /**
+     * Reconstrói o índice a partir do banco.
+     *
+     * @return Quantidade de eventos indexados
+     */
+    long rebuild();
+
+    /**
+     * Aplica ao índice os eventos alterados desde a atualização ou reconstrução anterior,
+     * inclusive por outras réplicas.
+     *
+     * @return Quantidade de eventos relidos
+     */
+    long refresh();
+}
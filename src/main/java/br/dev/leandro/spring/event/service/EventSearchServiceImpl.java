@@ -0,0 +1,213 @@
+package br.dev.leandro.spring.event.service;
+
+import br.dev.leandro.spring.event.config.EventSearchProperties;
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.search.EventSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Busca textual de eventos sobre um {@link EventSearchIndex} em memória.
+ * <p>
+ * O índice é reconstruído na inicialização, antes de o servidor web aceitar requisições, e
+ * mantido pelo {@link EventServiceImpl} a cada criação, atualização e remoção. A reconstrução
+ * lê os eventos ativos por cursor (como a exportação) e distribui a análise do texto entre
+ * várias threads. As consultas não acessam o banco.
+ * </p>
+ * <p>
+ * Cada réplica tem o seu índice; as alterações feitas pelas demais chegam pela atualização
+ * incremental ({@link #refresh()}), executada a cada {@code refresh-interval}: os eventos com
+ * {@code updatedAt} a partir do início da atualização anterior, menos {@code refresh-overlap},
+ * são relidos e aplicados ao índice. Remoções são alterações de status ({@code DELETED}), então
+ * também chegam por ela.
+ * </p>
+ */
+@Slf4j
+@Service
+public class EventSearchServiceImpl implements EventSearchService, SmartInitializingSingleton, DisposableBean {
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EventSearchProperties properties;
+    private final EventSearchIndex index = new EventSearchIndex();
+    private final Clock clock;
+    private final Timer searchTimer;
+    private volatile LocalDateTime lastRefresh;
+    private ScheduledExecutorService refreshExecutor;
+
+    @Autowired
+    public EventSearchServiceImpl(EventRepository eventRepository, EventMapper eventMapper,
+                                  EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                  EventSearchProperties properties, MeterRegistry meterRegistry) {
+        this(eventRepository, eventMapper, entityManager, transactionManager, properties, meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    /**
+     * Construtor com relógio explícito.
+     *
+     * @param eventRepository    Repositório de eventos
+     * @param eventMapper        Mapeador de eventos
+     * @param entityManager      Gerenciador de entidades
+     * @param transactionManager Gerenciador de transações
+     * @param properties         Propriedades da busca
+     * @param meterRegistry      Registro de métricas
+     * @param clock              Relógio das atualizações incrementais
+     */
+    public EventSearchServiceImpl(EventRepository eventRepository, EventMapper eventMapper,
+                                  EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                  EventSearchProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.properties = properties;
+        this.searchTimer = Timer.builder("events.search")
+                .description("Tempo das consultas à busca textual de eventos")
+                .register(meterRegistry);
+        meterRegistry.gauge("events.search.indexed", index, EventSearchIndex::size);
+    }
+
+    @Override
+    public List<EventDto> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("O texto da busca não pode ser vazio.");
+        }
+        if (limit < 1 || limit > properties.getMaxResults()) {
+            throw new IllegalArgumentException(
+                    "O limite deve estar entre 1 e " + properties.getMaxResults() + ".");
+        }
+        return searchTimer.record(() -> index.search(query, limit));
+    }
+
+    @Override
+    public void index(EventDto event) {
+        index.index(event);
+    }
+
+    @Override
+    public void indexAll(Collection<EventDto> events) {
+        index.indexAll(events);
+    }
+
+    @Override
+    public void remove(UUID id) {
+        index.remove(id);
+    }
+
+    @Override
+    public long rebuild() {
+        int threads = properties.getRebuildThreads() > 0
+                ? properties.getRebuildThreads()
+                : Runtime.getRuntime().availableProcessors();
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        long start = System.nanoTime();
+        Long indexed = transactionTemplate.execute(status -> {
+            try (Stream<Event> events = eventRepository.streamAllByStatus(EventStatus.ACTIVE)) {
+                Stream<EventDto> dtos = events.map(event -> {
+                    EventDto dto = eventMapper.toDto(event);
+                    entityManager.detach(event);
+                    return dto;
+                });
+                return index.rebuild(dtos.iterator(), threads, properties.getRebuildBatchSize());
+            }
+        });
+        lastRefresh = startedAt;
+        log.info("Índice de busca reconstruído: {} eventos em {} ms ({} threads)",
+                indexed, (System.nanoTime() - start) / 1_000_000, threads);
+        return indexed;
+    }
+
+    @Override
+    public long refresh() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        LocalDateTime previous = lastRefresh;
+        if (previous == null) {
+            // Sem carga anterior, acompanha as alterações a partir de agora
+            lastRefresh = startedAt;
+            return 0;
+        }
+        LocalDateTime since = previous.minus(properties.getRefreshOverlap());
+        Long refreshed = transactionTemplate.execute(status -> {
+            try (Stream<Event> events = eventRepository.streamUpdatedSince(since)) {
+                long count = 0;
+                List<EventDto> batch = new ArrayList<>(properties.getRebuildBatchSize());
+                Iterator<Event> iterator = events.iterator();
+                while (iterator.hasNext()) {
+                    Event event = iterator.next();
+                    batch.add(eventMapper.toDto(event));
+                    entityManager.detach(event);
+                    if (batch.size() == properties.getRebuildBatchSize() || !iterator.hasNext()) {
+                        index.indexAll(batch);
+                        count += batch.size();
+                        batch.clear();
+                    }
+                }
+                return count;
+            }
+        });
+        lastRefresh = startedAt;
+        log.debug("Índice de busca atualizado: {} eventos alterados desde {}", refreshed, since);
+        return refreshed;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.isRebuildOnStartup()) {
+            rebuild();
+        } else {
+            refresh();
+        }
+        if (properties.getRefreshInterval().isPositive()) {
+            refreshExecutor = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().daemon().name("event-search-refresh").factory());
+            long interval = properties.getRefreshInterval().toMillis();
+            refreshExecutor.scheduleWithFixedDelay(this::refreshQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+        index.close();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Falha na atualização incremental do índice de busca: {}", e.getMessage());
+        }
+    }
+}
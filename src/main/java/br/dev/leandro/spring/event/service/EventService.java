@@ -1,5 +1,7 @@
 package br.dev.leandro.spring.event.service;
 
+import br.dev.leandro.spring.event.dto.CursorPageDto;
+import br.dev.leandro.spring.event.dto.EventDetailDto;
 import br.dev.leandro.spring.event.dto.EventDto;
 import br.dev.leandro.spring.event.entity.Event;
 import org.springframework.data.domain.Page;
@@ -11,10 +13,31 @@ public interface EventService {
 
     Event create(String userId, EventDto dto);
     Event update (UUID id, EventDto dto);
+    Event update(UUID id, EventDto dto, Long expectedVersion);
     EventDto getById(UUID id);
 
     Page<EventDto> getAll(Pageable pageable);
 
+    /**
+     * Busca um evento ativo com os tipos de ingresso, em uma única consulta.
+     *
+     * @param id ID do evento
+     * @return Evento com os tipos de ingresso
+     */
+    EventDetailDto getDetailById(UUID id);
+
+    /**
+     * Lista eventos ativos com os tipos de ingresso. O número de consultas não depende do tamanho
+     * da página: ids da página, contagem e uma consulta com o join dos tipos de ingresso.
+     *
+     * @param pageable Informações de paginação
+     * @return Página de eventos com os tipos de ingresso
+     */
+    Page<EventDetailDto> getAllDetails(Pageable pageable);
+
+    CursorPageDto<EventDto> scroll(String cursor, int size);
+
     void delete(UUID id);
+    void delete(UUID id, Long expectedVersion);
 
 }
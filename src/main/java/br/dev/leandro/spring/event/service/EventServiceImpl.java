@@ -1,27 +1,71 @@
 package br.dev.leandro.spring.event.service;
 
+import br.dev.leandro.spring.event.cache.CacheInvalidator;
+import br.dev.leandro.spring.event.cache.ReadThroughCache;
+import br.dev.leandro.spring.event.dto.CursorPageDto;
+import br.dev.leandro.spring.event.dto.EventDetailDto;
 import br.dev.leandro.spring.event.dto.EventDto;
 import br.dev.leandro.spring.event.entity.Event;
 import br.dev.leandro.spring.event.entity.enums.EventStatus;
 import br.dev.leandro.spring.event.exception.ResourceNotFoundException;
 import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.outbox.OutboxEventType;
+import br.dev.leandro.spring.event.outbox.OutboxWriter;
+import br.dev.leandro.spring.event.pagination.KeysetCursor;
 import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.utils.ETags;
 import br.dev.leandro.spring.event.utils.SecurityUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class EventServiceImpl implements EventService {
     public static final String EVENT_NOT_FOUND_MESSAGE = "Evento não encontrado!";
+    public static final String EVENTS_CACHE = "events";
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
+    private final ReadThroughCache readThroughCache;
+    private final CacheInvalidator cacheInvalidator;
+    private final EventSearchService eventSearchService;
+    private final EventWindowService eventWindowService;
+    private final OutboxWriter outboxWriter;
+    private final AuditHistoryService auditHistoryService;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
 
-    public EventServiceImpl(EventRepository eventRepository, EventMapper eventMapper) {
+    public EventServiceImpl(EventRepository eventRepository, EventMapper eventMapper,
+                            ReadThroughCache readThroughCache, CacheInvalidator cacheInvalidator,
+                            EventSearchService eventSearchService, EventWindowService eventWindowService,
+                            OutboxWriter outboxWriter, AuditHistoryService auditHistoryService,
+                            PlatformTransactionManager transactionManager) {
         this.eventRepository = eventRepository;
         this.eventMapper = eventMapper;
+        this.readThroughCache = readThroughCache;
+        this.cacheInvalidator = cacheInvalidator;
+        this.eventSearchService = eventSearchService;
+        this.eventWindowService = eventWindowService;
+        this.outboxWriter = outboxWriter;
+        this.auditHistoryService = auditHistoryService;
+        // Leitura, gravação e outbox na mesma transação de escrita (primário); caches e índices
+        // são atualizados depois da confirmação
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        // Leituras em cache abrem a transação somente na falta, dentro do carregador: acertos e
+        // respostas 304 não ocupam conexão do pool
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
     }
 
     @Override
@@ -40,39 +84,125 @@ public class EventServiceImpl implements EventService {
         event.setOrganizerId(UUID.fromString(userId));
         event.setCreatedBy(user);
 
-        return eventRepository.save(event);
+        // Eventos nascem como DRAFT e não aparecem nas leituras em cache, na busca nem nas janelas (somente ACTIVE)
+        return writeTransaction.execute(status -> {
+            Event saved = eventRepository.save(event);
+            outboxWriter.append(OutboxEventType.EVENT_CREATED, saved.getId(), () -> eventMapper.toDto(saved));
+            return saved;
+        });
     }
 
     @Override
     public Event update(UUID id, EventDto dto) {
+        return update(id, dto, null);
+    }
+
+    @Override
+    public Event update(UUID id, EventDto dto, Long expectedVersion) {
         String user = SecurityUtils.getUser();
-        Event event = eventRepository.findByIdAndStatus(id, EventStatus.ACTIVE)
-                .orElseThrow(() -> new ResourceNotFoundException(EVENT_NOT_FOUND_MESSAGE));
-        event.setUpdatedBy(user);
-        eventMapper.updateEntityFromDto(dto, event);
-        return eventRepository.save(event);
+        Updated updated = writeTransaction.execute(status -> {
+            Event event = eventRepository.findByIdAndStatus(id, EventStatus.ACTIVE)
+                    .orElseThrow(() -> new ResourceNotFoundException(EVENT_NOT_FOUND_MESSAGE));
+            ETags.requireVersion(expectedVersion, event.getVersion());
+            EventDto before = eventMapper.toDto(event);
+            event.setUpdatedBy(user);
+            eventMapper.updateEntityFromDto(dto, event);
+            Event saved = eventRepository.save(event);
+            outboxWriter.append(OutboxEventType.EVENT_UPDATED, id, () -> eventMapper.toDto(saved));
+            return new Updated(saved, before);
+        });
+        Event saved = updated.event();
+        cacheInvalidator.evictWithPages(EVENTS_CACHE, id);
+        EventDto current = eventMapper.toDto(saved);
+        eventSearchService.index(current);
+        eventWindowService.index(current);
+        auditHistoryService.recordUpdate(AuditHistoryService.EVENT, id, updated.before(), current,
+                saved.getVersion(), user);
+        return saved;
     }
 
     @Override
     public EventDto getById(UUID id) {
-        return eventRepository.findByIdAndStatus(id, EventStatus.ACTIVE)
-                .map(eventMapper::toDto)
-                .orElseThrow(() -> new ResourceNotFoundException(EVENT_NOT_FOUND_MESSAGE));
+        return readThroughCache.get(EVENTS_CACHE, id, () -> readTransaction.execute(status ->
+                eventRepository.findDtoByIdAndStatus(id, EventStatus.ACTIVE)
+                        .orElseThrow(() -> new ResourceNotFoundException(EVENT_NOT_FOUND_MESSAGE))));
     }
 
     @Override
     public Page<EventDto> getAll(Pageable pageable) {
-        return eventRepository.findAllByStatus(EventStatus.ACTIVE, pageable)
-                .map(eventMapper::toDto);
+        Objects.requireNonNull(pageable, "pageable não pode ser nulo");
+        return readThroughCache.getPage(EVENTS_CACHE, pageable, () -> readTransaction.execute(status ->
+                eventRepository.findDtoAllByStatus(EventStatus.ACTIVE, pageable)));
+    }
+
+    // Os detalhes não passam pelo cache: os tipos de ingresso não são invalidados com o evento
+    @Override
+    @Transactional(readOnly = true)
+    public EventDetailDto getDetailById(UUID id) {
+        return eventRepository.findWithTicketTypesByIdAndStatus(id, EventStatus.ACTIVE)
+                .map(eventMapper::toDetailDto)
+                .orElseThrow(() -> new ResourceNotFoundException(EVENT_NOT_FOUND_MESSAGE));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EventDetailDto> getAllDetails(Pageable pageable) {
+        Objects.requireNonNull(pageable, "pageable não pode ser nulo");
+        Page<UUID> ids = eventRepository.findIdsByStatus(EventStatus.ACTIVE, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        Map<UUID, Event> events = eventRepository.findWithTicketTypesByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        // Mantém a ordem da página; um evento removido entre as duas consultas é omitido
+        List<EventDetailDto> details = ids.getContent().stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .map(eventMapper::toDetailDto)
+                .toList();
+        return new PageImpl<>(details, pageable, ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<EventDto> scroll(String cursor, int size) {
+        Pageable limit = KeysetCursor.limit(size);
+        Slice<Event> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = eventRepository.findFirstSliceByStatus(EventStatus.ACTIVE, limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            slice = eventRepository.findSliceByStatusAfter(EventStatus.ACTIVE, position.sortKey(), position.id(), limit);
+        }
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Event last = slice.getContent().getLast();
+            nextCursor = new KeysetCursor(last.getStartDatetime(), last.getId()).encode();
+        }
+        return new CursorPageDto<>(slice.map(eventMapper::toDto).getContent(), size, slice.hasNext(), nextCursor);
     }
 
     @Override
     public void delete(UUID id) {
-        eventRepository.findByIdAndStatus(id, EventStatus.ACTIVE)
+        delete(id, null);
+    }
+
+    @Override
+    public void delete(UUID id, Long expectedVersion) {
+        writeTransaction.executeWithoutResult(status -> eventRepository.findByIdAndStatus(id, EventStatus.ACTIVE)
                 .map(event -> {
+                    ETags.requireVersion(expectedVersion, event.getVersion());
                     event.setStatus(EventStatus.DELETED);
-                    return eventRepository.save(event);
+                    Event deleted = eventRepository.save(event);
+                    outboxWriter.append(OutboxEventType.EVENT_DELETED, id, () -> eventMapper.toDto(deleted));
+                    return deleted;
                 })
-                .orElseThrow(() -> new ResourceNotFoundException(EVENT_NOT_FOUND_MESSAGE));
+                .orElseThrow(() -> new ResourceNotFoundException(EVENT_NOT_FOUND_MESSAGE)));
+        cacheInvalidator.evictWithPages(EVENTS_CACHE, id);
+        eventSearchService.remove(id);
+        eventWindowService.remove(id);
+    }
+
+    private record Updated(Event event, EventDto before) {
     }
 }
@@ -0,0 +1,16 @@
+package br.dev.leandro.spring.event.service;
+
+import br.dev.leandro.spring.event.dto.EventStatusTransitionDto;
+import br.dev.leandro.spring.event.dto.EventStatusTransitionReportDto;
+
+public interface EventStatusTransitionService {
+
+    /**
+     * Aplica a transição de status aos eventos informados pelos ids ou pelo filtro. Fora do perfil
+     * ADMIN, somente os eventos do próprio organizador são alterados.
+     *
+     * @param request Transição solicitada
+     * @return Relatório com as contagens de eventos alterados
+     */
+    EventStatusTransitionReportDto transition(EventStatusTransitionDto request);
+}
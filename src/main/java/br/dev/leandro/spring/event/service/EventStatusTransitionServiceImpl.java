@@ -0,0 +1,238 @@
+package br.dev.leandro.spring.event.service;
+
+import br.dev.leandro.spring.event.cache.CacheInvalidator;
+import br.dev.leandro.spring.event.config.StatusTransitionProperties;
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.dto.EventStatusTransitionDto;
+import br.dev.leandro.spring.event.dto.EventStatusTransitionReportDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.outbox.OutboxEventType;
+import br.dev.leandro.spring.event.outbox.OutboxWriter;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.utils.SecurityUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static br.dev.leandro.spring.event.service.EventServiceImpl.EVENTS_CACHE;
+
+/**
+ * Transição de status de eventos em lote.
+ * <p>
+ * Os eventos são processados em blocos de {@link StatusTransitionProperties#getChunkSize()}, cada
+ * um em uma transação própria: uma consulta bloqueia ({@code FOR UPDATE}) os eventos do bloco que
+ * estão em um status de origem permitido e um único UPDATE troca o status de todos, incrementando
+ * a versão. As mensagens do outbox do bloco são gravadas em um lote JDBC. Após a confirmação de
+ * cada bloco, apenas as entradas de cache dos eventos alterados são removidas, os índices de
+ * busca e de janelas são atualizados com o bloco inteiro (uma atualização do leitor e uma
+ * reordenação por bloco) e o histórico do bloco é enfileirado de uma vez; as páginas de listagem
+ * são invalidadas uma vez ao final.
+ * </p>
+ * <p>
+ * Fora do perfil ADMIN, as consultas de bloqueio ficam restritas ao organizador autenticado.
+ * </p>
+ */
+@Slf4j
+@Service
+public class EventStatusTransitionServiceImpl implements EventStatusTransitionService {
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final CacheInvalidator cacheInvalidator;
+    private final EventSearchService eventSearchService;
+    private final EventWindowService eventWindowService;
+    private final OutboxWriter outboxWriter;
+    private final AuditHistoryService auditHistoryService;
+    private final TransactionTemplate writeTransaction;
+    private final StatusTransitionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer chunkTimer;
+
+    public EventStatusTransitionServiceImpl(EventRepository eventRepository, EventMapper eventMapper,
+                                            CacheInvalidator cacheInvalidator, EventSearchService eventSearchService,
+                                            EventWindowService eventWindowService, OutboxWriter outboxWriter,
+                                            AuditHistoryService auditHistoryService,
+                                            PlatformTransactionManager transactionManager,
+                                            StatusTransitionProperties properties, MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.cacheInvalidator = cacheInvalidator;
+        this.eventSearchService = eventSearchService;
+        this.eventWindowService = eventWindowService;
+        this.outboxWriter = outboxWriter;
+        this.auditHistoryService = auditHistoryService;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.chunkTimer = Timer.builder("events.status-transition.chunk")
+                .description("Tempo de cada bloco da transição de status em lote")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public EventStatusTransitionReportDto transition(EventStatusTransitionDto request) {
+        Set<EventStatus> sources = validate(request);
+        UUID owner = ownerOf(request);
+        EventStatus target = request.targetStatus();
+        String user = SecurityUtils.getUser();
+        int chunkSize = properties.getChunkSize();
+
+        long requested = 0;
+        long affected = 0;
+        int chunks = 0;
+        if (request.byIds()) {
+            List<UUID> ids = request.ids().stream().distinct().toList();
+            requested = ids.size();
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<UUID> chunkIds = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                Chunk chunk = execute(() -> eventRepository.lockAllByIdInAndStatusIn(chunkIds, sources, owner),
+                        sources, target, user);
+                chunks++;
+                affected += chunk.affected();
+            }
+        } else {
+            UUID afterId = null;
+            Chunk chunk;
+            do {
+                UUID after = afterId;
+                chunk = execute(() -> eventRepository.lockNextByFilter(sources, owner != null ? owner : request.organizerId(),
+                        request.startFrom(), request.startTo(), after, PageRequest.ofSize(chunkSize)),
+                        sources, target, user);
+                chunks++;
+                requested += chunk.before().size();
+                affected += chunk.affected();
+                afterId = chunk.lastId();
+            } while (chunk.before().size() == chunkSize);
+        }
+
+        if (affected > 0) {
+            cacheInvalidator.invalidatePages(EVENTS_CACHE);
+        }
+        meterRegistry.counter("events.status-transition.rows", "target", target.name()).increment(affected);
+        log.info("Transição de status para {} concluída: {} solicitados, {} alterados em {} blocos",
+                target, requested, affected, chunks);
+        return new EventStatusTransitionReportDto(target, requested, affected,
+                request.byIds() ? requested - affected : 0, chunks);
+    }
+
+    private Set<EventStatus> validate(EventStatusTransitionDto request) {
+        if (request == null || request.targetStatus() == null) {
+            throw new IllegalArgumentException("O status de destino é obrigatório.");
+        }
+        if (request.byIds() == request.byFilter()) {
+            throw new IllegalArgumentException("Informe os ids dos eventos ou um filtro, não ambos.");
+        }
+        if (request.byIds() && request.ids().size() > properties.getMaxIds()) {
+            throw new IllegalArgumentException("Limite de " + properties.getMaxIds() + " ids por requisição excedido.");
+        }
+        Set<EventStatus> sources = EnumSet.noneOf(EventStatus.class);
+        sources.addAll(EventStatus.sourcesOf(request.targetStatus()));
+        if (request.fromStatuses() != null && !request.fromStatuses().isEmpty()) {
+            sources.retainAll(request.fromStatuses());
+        }
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("Nenhum status de origem permite a transição para "
+                    + request.targetStatus() + ".");
+        }
+        return sources;
+    }
+
+    /**
+     * Organizador ao qual a transição fica restrita: nenhum para ADMIN; para os demais, o próprio
+     * usuário ({@code sub} do token). Eventos informados por id de outro organizador são ignorados;
+     * um filtro precisa informar o próprio organizador.
+     */
+    private UUID ownerOf(EventStatusTransitionDto request) {
+        if (isAdmin()) {
+            return null;
+        }
+        UUID owner = UUID.fromString(SecurityUtils.getJwt().getSubject());
+        if (request.byFilter()) {
+            if (request.organizerId() == null) {
+                throw new IllegalArgumentException("O filtro deve informar o organizador dos eventos.");
+            }
+            if (!request.organizerId().equals(owner)) {
+                throw new AccessDeniedException("Você não tem permissão para alterar eventos de outro organizador");
+            }
+        }
+        return owner;
+    }
+
+    private boolean isAdmin() {
+        return SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+    }
+
+    /**
+     * Bloqueia os eventos do bloco, troca o status em um UPDATE e grava o outbox na mesma
+     * transação; após a confirmação, atualiza caches, índices e histórico.
+     */
+    private Chunk execute(Supplier<List<Event>> lock, Set<EventStatus> sources,
+                          EventStatus target, String user) {
+        Timer.Sample sample = Timer.start();
+        Chunk chunk = writeTransaction.execute(status -> {
+            List<Event> locked = lock.get();
+            if (locked.isEmpty()) {
+                return new Chunk(List.of(), List.of(), 0);
+            }
+            List<EventDto> before = locked.stream().map(eventMapper::toDto).toList();
+            List<UUID> ids = before.stream().map(EventDto::id).toList();
+            int updated = eventRepository.updateStatus(ids, sources, target, user, LocalDateTime.now());
+            List<EventDto> after = before.stream().map(dto -> withStatus(dto, target)).toList();
+            Map<UUID, EventDto> payloads = new LinkedHashMap<>();
+            after.forEach(dto -> payloads.put(dto.id(), dto));
+            outboxWriter.appendAll(target == EventStatus.DELETED
+                    ? OutboxEventType.EVENT_DELETED
+                    : OutboxEventType.EVENT_UPDATED, payloads);
+            return new Chunk(before, after, updated);
+        });
+        sample.stop(chunkTimer);
+        if (chunk.after().isEmpty()) {
+            return chunk;
+        }
+        List<AuditHistoryService.Update<EventDto>> updates = new ArrayList<>(chunk.after().size());
+        for (int i = 0; i < chunk.after().size(); i++) {
+            EventDto current = chunk.after().get(i);
+            cacheInvalidator.evict(EVENTS_CACHE, current.id());
+            updates.add(new AuditHistoryService.Update<>(current.id(), chunk.before().get(i), current,
+                    current.version()));
+        }
+        eventSearchService.indexAll(chunk.after());
+        eventWindowService.indexAll(chunk.after());
+        auditHistoryService.recordUpdates(AuditHistoryService.EVENT, updates, user);
+        return chunk;
+    }
+
+    private static EventDto withStatus(EventDto dto, EventStatus status) {
+        return new EventDto(dto.id(), dto.name(), dto.description(), dto.startDatetime(), dto.endDatetime(),
+                dto.location(), status, dto.version() == null ? null : dto.version() + 1);
+    }
+
+    /**
+     * Resultado de um bloco: estado dos eventos antes e depois da transição e linhas alteradas.
+     */
+    private record Chunk(List<EventDto> before, List<EventDto> after, int affected) {
+
+        UUID lastId() {
+            return before.isEmpty() ? null : before.getLast().id();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package br.dev.leandro.spring.event.service;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface EventWindowService {
+
+    /**
+     * Eventos ativos que se sobrepõem à janela {@code [from, to)}, ordenados por data de início.
+     *
+     * @param from     Início da janela (inclusivo)
+     * @param to       Fim da janela (exclusivo)
+     * @param pageable Paginação; a ordenação é sempre por data de início
+     * @return Página de eventos
+     */
+    Page<EventDto> findOverlapping(LocalDateTime from, LocalDateTime to, Pageable pageable);
+
+    /**
+     * Atualiza o evento no horizonte em memória; eventos que não estão ativos são removidos.
+     *
+     * @param event Estado atual do evento
+     */
+    void index(EventDto event);
+
+    /**
+     * Atualiza vários eventos no horizonte em memória, reordenando-o uma única vez; eventos que não
+     * estão ativos são removidos.
+     *
+     * @param events Estado atual dos eventos
+     */
+    void indexAll(Collection<EventDto> events);
+
+    /**
+     * Remove o evento do horizonte em memória.
+     *
+     * @param id Id do evento
+     */
+    void remove(UUID id);
+
+    /**
+     * Recarrega o horizonte em memória a partir do banco.
+     *
+     * @return Quantidade de eventos carregados
+     */
+    long reload();
+}
@@ -0,0 +1,286 @@
+package br.dev.leandro.spring.event.service;
+
+import br.dev.leandro.spring.event.config.EventWindowProperties;
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.search.EventIntervalIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Consultas por janela de datas, com o horizonte próximo em memória.
+ * <p>
+ * Os eventos ativos de {@code [agora - lookback, agora + horizon)} ficam em um
+ * {@link EventIntervalIndex}, carregado na inicialização e recarregado em segundo plano a cada
+ * {@code refresh-interval} para acompanhar o passar do tempo. Janelas inteiramente dentro do
+ * horizonte são respondidas pelo índice; as demais vão ao banco
+ * ({@link EventRepository#findOverlapping}). O {@link EventServiceImpl} mantém o índice a cada
+ * atualização e remoção; alterações feitas durante uma recarga são reaplicadas sobre o índice
+ * novo antes da troca.
+ * </p>
+ * <p>
+ * A latência das consultas é publicada em {@code events.window}, com percentis p50 e p99 e a tag
+ * {@code source} ({@code memory} ou {@code database}).
+ * </p>
+ */
+@Slf4j
+@Service
+public class EventWindowServiceImpl implements EventWindowService, SmartInitializingSingleton {
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EventWindowProperties properties;
+    private final Clock clock;
+    private final Timer memoryTimer;
+    private final Timer databaseTimer;
+    // ReentrantLock em vez de synchronized: a recarga roda em thread virtual e espera o banco com
+    // o bloqueio, o que no JDK 21 prenderia a thread portadora
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final AtomicBoolean reloadScheduled = new AtomicBoolean();
+    private volatile Horizon horizon;
+    private List<Consumer<Horizon>> pendingChanges;
+
+    /**
+     * Construtor.
+     *
+     * @param eventRepository    Repositório de eventos
+     * @param eventMapper        Mapeador de eventos
+     * @param entityManager      Gerenciador de entidades
+     * @param transactionManager Gerenciador de transações
+     * @param properties         Propriedades das consultas por janela
+     * @param meterRegistry      Registro de métricas
+     */
+    @Autowired
+    public EventWindowServiceImpl(EventRepository eventRepository, EventMapper eventMapper,
+                                  EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                  EventWindowProperties properties, MeterRegistry meterRegistry) {
+        this(eventRepository, eventMapper, entityManager, transactionManager, properties, meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    /**
+     * Construtor com relógio explícito.
+     *
+     * @param eventRepository    Repositório de eventos
+     * @param eventMapper        Mapeador de eventos
+     * @param entityManager      Gerenciador de entidades
+     * @param transactionManager Gerenciador de transações
+     * @param properties         Propriedades das consultas por janela
+     * @param meterRegistry      Registro de métricas
+     * @param clock              Relógio que define o horizonte
+     */
+    public EventWindowServiceImpl(EventRepository eventRepository, EventMapper eventMapper,
+                                  EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                  EventWindowProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.properties = properties;
+        this.clock = clock;
+        this.memoryTimer = timer(meterRegistry, "memory");
+        this.databaseTimer = timer(meterRegistry, "database");
+    }
+
+    @Override
+    public Page<EventDto> findOverlapping(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Os parâmetros from e to são obrigatórios.");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("O início da janela deve ser anterior ao fim.");
+        }
+        if (Duration.between(from, to).compareTo(properties.getMaxWindow()) > 0) {
+            throw new IllegalArgumentException("A janela não pode ser maior que " + properties.getMaxWindow() + ".");
+        }
+        // A ordem é sempre (início, id), igual no índice e no banco
+        Pageable unsorted = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+                : pageable;
+        Horizon current = horizon;
+        if (current != null) {
+            scheduleReloadIfStale(current);
+            if (current.covers(from, to)) {
+                return memoryTimer.record(() -> current.index().overlapping(from, to, unsorted));
+            }
+        }
+        // A transação somente leitura é aberta só quando a janela vai ao banco
+        return databaseTimer.record(() -> transactionTemplate.execute(status ->
+                eventRepository.findOverlapping(EventStatus.ACTIVE, from, to, unsorted).map(eventMapper::toDto)));
+    }
+
+    @Override
+    public void index(EventDto event) {
+        apply(current -> current.apply(event));
+    }
+
+    @Override
+    public void indexAll(Collection<EventDto> events) {
+        List<EventDto> batch = List.copyOf(events);
+        apply(current -> current.applyAll(batch));
+    }
+
+    @Override
+    public void remove(UUID id) {
+        apply(current -> current.index().remove(id));
+    }
+
+    @Override
+    public long reload() {
+        reloadLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            Horizon fresh = new Horizon(new EventIntervalIndex(),
+                    now.minus(properties.getLookback()), now.plus(properties.getHorizon()), clock.instant());
+            withWriteLock(() -> pendingChanges = new ArrayList<>());
+            long start = System.nanoTime();
+            Long loaded;
+            try {
+                loaded = transactionTemplate.execute(status -> load(fresh));
+            } catch (RuntimeException e) {
+                withWriteLock(() -> pendingChanges = null);
+                throw e;
+            }
+            withWriteLock(() -> {
+                pendingChanges.forEach(change -> change.accept(fresh));
+                pendingChanges = null;
+                horizon = fresh;
+            });
+            log.info("Horizonte de eventos carregado: {} eventos entre {} e {} em {} ms",
+                    loaded, fresh.from(), fresh.until(), (System.nanoTime() - start) / 1_000_000);
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.isEnabled()) {
+            reload();
+        }
+    }
+
+    private long load(Horizon target) {
+        List<EventDto> loaded = new ArrayList<>();
+        try (Stream<Event> events = eventRepository.streamOverlapping(EventStatus.ACTIVE, target.from(), target.until())) {
+            Iterator<Event> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                Event event = iterator.next();
+                loaded.add(eventMapper.toDto(event));
+                entityManager.detach(event);
+            }
+        }
+        target.index().putAll(loaded);
+        return loaded.size();
+    }
+
+    private void apply(Consumer<Horizon> change) {
+        withWriteLock(() -> {
+            Horizon current = horizon;
+            if (current != null) {
+                change.accept(current);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        });
+    }
+
+    private void withWriteLock(Runnable action) {
+        writeLock.lock();
+        try {
+            action.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void scheduleReloadIfStale(Horizon current) {
+        if (clock.instant().isBefore(current.loadedAt().plus(properties.getRefreshInterval()))
+                || !reloadScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("event-window-reload").start(() -> {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                log.warn("Falha ao recarregar o horizonte de eventos: {}", e.getMessage());
+            } finally {
+                reloadScheduled.set(false);
+            }
+        });
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("events.window")
+                .description("Tempo das consultas de eventos por janela de datas")
+                .tag("source", source)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Eventos ativos de {@code [from, until)} em memória.
+     */
+    private record Horizon(EventIntervalIndex index, LocalDateTime from, LocalDateTime until, Instant loadedAt) {
+
+        boolean covers(LocalDateTime windowFrom, LocalDateTime windowTo) {
+            return !windowFrom.isBefore(from) && !windowTo.isAfter(until);
+        }
+
+        void apply(EventDto event) {
+            if (event.status() == EventStatus.ACTIVE
+                    && event.startDatetime().isBefore(until) && event.endDatetime().isAfter(from)) {
+                index.put(event);
+            } else {
+                index.remove(event.id());
+            }
+        }
+
+        void applyAll(List<EventDto> events) {
+            List<EventDto> kept = new ArrayList<>(events.size());
+            List<UUID> removed = new ArrayList<>();
+            for (EventDto event : events) {
+                if (event.status() == EventStatus.ACTIVE
+                        && event.startDatetime().isBefore(until) && event.endDatetime().isAfter(from)) {
+                    kept.add(event);
+                } else {
+                    removed.add(event.id());
+                }
+            }
+            index.update(kept, removed);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package br.dev.leandro.spring.event.service;
 
+import br.dev.leandro.spring.event.dto.CursorPageDto;
 import br.dev.leandro.spring.event.dto.OrganizerCreateDto;
 import br.dev.leandro.spring.event.dto.OrganizerDto;
 import br.dev.leandro.spring.event.dto.OrganizerUpdateDto;
@@ -14,9 +15,13 @@ public interface OrganizerService {
 
     Organizer create(String userId, OrganizerCreateDto organizerCreateDto);
     Organizer update(UUID id, OrganizerUpdateDto organizerUpdateDto, String userId) throws AccessDeniedException;
+    Organizer update(UUID id, OrganizerUpdateDto organizerUpdateDto, String userId, Long expectedVersion) throws AccessDeniedException;
     OrganizerDto getById(UUID id);
 
     Page<OrganizerDto> getAll(Pageable pageable);
 
+    CursorPageDto<OrganizerDto> scroll(String cursor, int size);
+
     void delete(UUID id);
+    void delete(UUID id, Long expectedVersion);
 }
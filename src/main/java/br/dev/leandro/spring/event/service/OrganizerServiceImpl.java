@@ -1,5 +1,8 @@
 package br.dev.leandro.spring.event.service;
 
+import br.dev.leandro.spring.event.cache.CacheInvalidator;
+import br.dev.leandro.spring.event.cache.ReadThroughCache;
+import br.dev.leandro.spring.event.dto.CursorPageDto;
 import br.dev.leandro.spring.event.dto.OrganizerCreateDto;
 import br.dev.leandro.spring.event.dto.OrganizerDto;
 import br.dev.leandro.spring.event.dto.OrganizerUpdateDto;
@@ -8,26 +11,55 @@ import br.dev.leandro.spring.event.entity.enums.OrganizerStatus;
 import br.dev.leandro.spring.event.exception.BusinessException;
 import br.dev.leandro.spring.event.exception.ResourceNotFoundException;
 import br.dev.leandro.spring.event.mapper.OrganizerMapper;
+import br.dev.leandro.spring.event.outbox.OutboxEventType;
+import br.dev.leandro.spring.event.outbox.OutboxWriter;
+import br.dev.leandro.spring.event.pagination.KeysetCursor;
 import br.dev.leandro.spring.event.repository.OrganizerRepository;
+import br.dev.leandro.spring.event.utils.ETags;
 import br.dev.leandro.spring.event.utils.SecurityUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Objects;
 import java.util.UUID;
 
 @Service
 public class OrganizerServiceImpl implements OrganizerService {
 
     public static final String ORGANIZER_NOT_FOUND_MESSAGE = "Organizador não encontrado!";
+    public static final String ORGANIZERS_CACHE = "organizers";
     private final OrganizerRepository organizerRepository;
     private final OrganizerMapper organizerMapper;
+    private final ReadThroughCache readThroughCache;
+    private final CacheInvalidator cacheInvalidator;
+    private final OutboxWriter outboxWriter;
+    private final AuditHistoryService auditHistoryService;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
 
-    public OrganizerServiceImpl(OrganizerRepository organizerRepository, OrganizerMapper organizerMapper) {
+    public OrganizerServiceImpl(OrganizerRepository organizerRepository, OrganizerMapper organizerMapper,
+                                ReadThroughCache readThroughCache, CacheInvalidator cacheInvalidator,
+                                OutboxWriter outboxWriter, AuditHistoryService auditHistoryService,
+                                PlatformTransactionManager transactionManager) {
         this.organizerRepository = organizerRepository;
         this.organizerMapper = organizerMapper;
+        this.readThroughCache = readThroughCache;
+        this.cacheInvalidator = cacheInvalidator;
+        this.outboxWriter = outboxWriter;
+        this.auditHistoryService = auditHistoryService;
+        // Leitura, gravação e outbox na mesma transação de escrita (primário); caches são
+        // invalidados depois da confirmação
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        // Leituras em cache abrem a transação somente na falta, dentro do carregador
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
     }
 
     @Override
@@ -40,28 +72,51 @@ public class OrganizerServiceImpl implements OrganizerService {
         }
 
         String user = SecurityUtils.getUser();
-        if(organizerRepository.existsByUserId(userId)){
-            throw new BusinessException("Organizador já existe.");
-        }
-        Organizer organizer = organizerMapper.toEntity(organizerCreateDto);
-        organizer.setUserId(userId);
-        organizer.setStatus(OrganizerStatus.ACTIVE);
-        organizer.setCreatedBy(user);
-        return organizerRepository.save(organizer);
+        Organizer saved = writeTransaction.execute(status -> {
+            if(organizerRepository.existsByUserId(userId)){
+                throw new BusinessException("Organizador já existe.");
+            }
+            Organizer organizer = organizerMapper.toEntity(organizerCreateDto);
+            organizer.setUserId(userId);
+            organizer.setStatus(OrganizerStatus.ACTIVE);
+            organizer.setCreatedBy(user);
+            Organizer created = organizerRepository.save(organizer);
+            outboxWriter.append(OutboxEventType.ORGANIZER_CREATED, created.getId(), () -> organizerMapper.toDto(created));
+            return created;
+        });
+        // Organizadores nascem ACTIVE: só as páginas de listagem são afetadas
+        cacheInvalidator.invalidatePages(ORGANIZERS_CACHE);
+        return saved;
     }
 
     @Override
     public Organizer update(UUID id, OrganizerUpdateDto organizerUpdateDto, String userId){
+        return update(id, organizerUpdateDto, userId, null);
+    }
+
+    @Override
+    public Organizer update(UUID id, OrganizerUpdateDto organizerUpdateDto, String userId, Long expectedVersion){
         String user = SecurityUtils.getUser();
-        Organizer organizer = organizerRepository.findByIdAndStatus(id, OrganizerStatus.ACTIVE)
-                .orElseThrow(() -> new ResourceNotFoundException(ORGANIZER_NOT_FOUND_MESSAGE));
+        Updated updated = writeTransaction.execute(status -> {
+            Organizer organizer = organizerRepository.findByIdAndStatus(id, OrganizerStatus.ACTIVE)
+                    .orElseThrow(() -> new ResourceNotFoundException(ORGANIZER_NOT_FOUND_MESSAGE));
 
-        if(!organizer.getUserId().equals(userId) && !isAdmin()){
-            throw new AccessDeniedException("Você não tem permissão para atualizar este organizador");
-        }
-        organizerMapper.updateEntityFromUpdateDto(organizerUpdateDto, organizer);
-        organizer.setUpdatedBy(user);
-        return organizerRepository.save(organizer);
+            if(!organizer.getUserId().equals(userId) && !isAdmin()){
+                throw new AccessDeniedException("Você não tem permissão para atualizar este organizador");
+            }
+            ETags.requireVersion(expectedVersion, organizer.getVersion());
+            OrganizerDto before = organizerMapper.toDto(organizer);
+            organizerMapper.updateEntityFromUpdateDto(organizerUpdateDto, organizer);
+            organizer.setUpdatedBy(user);
+            Organizer saved = organizerRepository.save(organizer);
+            outboxWriter.append(OutboxEventType.ORGANIZER_UPDATED, id, () -> organizerMapper.toDto(saved));
+            return new Updated(saved, before);
+        });
+        Organizer saved = updated.organizer();
+        cacheInvalidator.evictWithPages(ORGANIZERS_CACHE, id);
+        auditHistoryService.recordUpdate(AuditHistoryService.ORGANIZER, id, updated.before(),
+                organizerMapper.toDto(saved), saved.getVersion(), user);
+        return saved;
     }
 
     private boolean isAdmin() {
@@ -71,24 +126,56 @@ public class OrganizerServiceImpl implements OrganizerService {
 
     @Override
     public OrganizerDto getById(UUID id) {
-        return organizerRepository.findByIdAndStatus(id, OrganizerStatus.ACTIVE)
-                .map(organizerMapper::toDto)
-                .orElseThrow(() -> new ResourceNotFoundException(ORGANIZER_NOT_FOUND_MESSAGE));
+        return readThroughCache.get(ORGANIZERS_CACHE, id, () -> readTransaction.execute(status ->
+                organizerRepository.findDtoByIdAndStatus(id, OrganizerStatus.ACTIVE)
+                        .orElseThrow(() -> new ResourceNotFoundException(ORGANIZER_NOT_FOUND_MESSAGE))));
     }
 
     @Override
     public Page<OrganizerDto> getAll(Pageable pageable) {
-        return organizerRepository.findAllByStatus(OrganizerStatus.ACTIVE, pageable)
-                .map(organizerMapper::toDto);
+        Objects.requireNonNull(pageable, "pageable não pode ser nulo");
+        return readThroughCache.getPage(ORGANIZERS_CACHE, pageable, () -> readTransaction.execute(status ->
+                organizerRepository.findDtoAllByStatus(OrganizerStatus.ACTIVE, pageable)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<OrganizerDto> scroll(String cursor, int size) {
+        Pageable limit = KeysetCursor.limit(size);
+        Slice<Organizer> slice;
+        if (cursor == null || cursor.isBlank()) {
+            slice = organizerRepository.findFirstSliceByStatus(OrganizerStatus.ACTIVE, limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            slice = organizerRepository.findSliceByStatusAfter(OrganizerStatus.ACTIVE, position.sortKey(), position.id(), limit);
+        }
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Organizer last = slice.getContent().getLast();
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageDto<>(slice.map(organizerMapper::toDto).getContent(), size, slice.hasNext(), nextCursor);
     }
 
     @Override
     public void delete(UUID id) {
-        organizerRepository.findByIdAndStatus(id, OrganizerStatus.ACTIVE)
+        delete(id, null);
+    }
+
+    @Override
+    public void delete(UUID id, Long expectedVersion) {
+        writeTransaction.executeWithoutResult(status -> organizerRepository.findByIdAndStatus(id, OrganizerStatus.ACTIVE)
                 .map(organizer -> {
+                    ETags.requireVersion(expectedVersion, organizer.getVersion());
                     organizer.setStatus(OrganizerStatus.DELETED);
-                    return organizerRepository.save(organizer);
+                    Organizer deleted = organizerRepository.save(organizer);
+                    outboxWriter.append(OutboxEventType.ORGANIZER_DELETED, id, () -> organizerMapper.toDto(deleted));
+                    return deleted;
                 })
-                .orElseThrow(() -> new ResourceNotFoundException(ORGANIZER_NOT_FOUND_MESSAGE));
+                .orElseThrow(() -> new ResourceNotFoundException(ORGANIZER_NOT_FOUND_MESSAGE)));
+        cacheInvalidator.evictWithPages(ORGANIZERS_CACHE, id);
+    }
+
+    private record Updated(Organizer organizer, OrganizerDto before) {
     }
 }
@@ -0,0 +1,106 @@
+package br.dev.leandro.spring.event.utils;
+
+import br.dev.leandro.spring.event.exception.PreconditionFailedException;
+import org.springframework.data.domain.Page;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * ETags fortes derivadas da versão das entidades.
+ * <p>
+ * A ETag de um recurso é a sua versão ({@code "3"}); a de uma página é um resumo da posição da
+ * página, do total de elementos e do par id/versão de cada item, de modo que qualquer alteração,
+ * inclusão ou remoção de item muda a ETag. O tratamento de {@code If-None-Match} (304) é feito
+ * pelo Spring MVC quando a resposta {@code 200} de um GET traz a ETag: o corpo não é serializado.
+ * </p>
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * ETag de um recurso.
+     *
+     * @param version Versão da entidade
+     * @return ETag forte
+     */
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * ETag de uma página de listagem.
+     *
+     * @param page    Página
+     * @param id      Identificador de cada item
+     * @param version Versão de cada item
+     * @param <T>     Tipo dos itens
+     * @return ETag forte
+     */
+    public static <T> String ofPage(Page<T> page, Function<T, ?> id, Function<T, Long> version) {
+        MessageDigest digest = sha256();
+        update(digest, page.getNumber() + ":" + page.getSize() + ":" + page.getTotalElements());
+        for (T item : page.getContent()) {
+            update(digest, "|" + id.apply(item) + ":" + version.apply(item));
+        }
+        return "\"p-" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    /**
+     * Extrai a versão esperada do cabeçalho {@code If-Match}.
+     *
+     * @param ifMatch Valor do cabeçalho, ou {@code null}
+     * @return Versão esperada, ou {@code null} se não há pré-condição ({@code If-Match} ausente ou {@code *})
+     * @throws PreconditionFailedException se a ETag for fraca ou não corresponder a uma versão
+     * @throws IllegalArgumentException    se mais de uma ETag for informada
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.contains(",")) {
+            throw new IllegalArgumentException("If-Match deve conter uma única ETag.");
+        }
+        // Comparação forte (RFC 9110): ETags fracas nunca satisfazem If-Match
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("ETag inválida em If-Match: " + tag);
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("ETag inválida em If-Match: " + tag);
+        }
+    }
+
+    /**
+     * Verifica a pré-condição {@code If-Match} contra a versão atual da entidade.
+     *
+     * @param expectedVersion Versão esperada, ou {@code null} se não há pré-condição
+     * @param currentVersion  Versão atual
+     * @throws PreconditionFailedException se as versões forem diferentes
+     */
+    public static void requireVersion(Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException("O recurso foi alterado: versão atual " + currentVersion
+                    + ", esperada " + expectedVersion + ".");
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
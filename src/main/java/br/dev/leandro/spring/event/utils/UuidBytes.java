@@ -0,0 +1,27 @@
+package br.dev.leandro.spring.event.utils;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Conversão de UUIDs para o formato das colunas {@code BINARY(16)}, para gravações feitas
+ * diretamente via JDBC.
+ */
+public final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    /**
+     * Bytes do UUID, na mesma ordem usada pelo Hibernate para {@code SqlTypes.BINARY}.
+     *
+     * @param id UUID
+     * @return 16 bytes
+     */
+    public static byte[] of(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,63 @@
+package db.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Preenche as colunas {@code *_bin} criadas em {@code V4__binary_uuid_keys.sql} para as linhas
+ * existentes.
+ * <p>
+ * Cada tabela é percorrida em faixas da chave primária de {@link #CHUNK_SIZE} linhas, cada uma em
+ * sua própria transação ({@link #canExecuteInTransaction()} é {@code false}): os bloqueios de
+ * linha duram só o lote e o histórico de undo não cresce com o tamanho da tabela. As linhas
+ * gravadas durante o preenchimento já chegam preenchidas pelos gatilhos da V4, e as faixas só
+ * alteram linhas ainda nulas, de modo que a migração pode ser reexecutada.
+ * </p>
+ */
+@Slf4j
+public class V4_1__BackfillBinaryUuidKeys extends BaseJavaMigration {
+
+    /** Linhas por faixa da chave primária. */
+    static final int CHUNK_SIZE = 1_000;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        backfill(jdbcTemplate, "organizers", "", "id_bin = UUID_TO_BIN(id)", "id_bin IS NULL");
+        backfill(jdbcTemplate, "events", "",
+                "id_bin = UUID_TO_BIN(id), organizer_id_bin = UUID_TO_BIN(organizer_id)", "id_bin IS NULL");
+        backfill(jdbcTemplate, "ticket_types", 0L, "event_id_bin = UUID_TO_BIN(event_id)", "event_id_bin IS NULL");
+    }
+
+    /**
+     * Percorre a tabela em faixas {@code (inferior, superior]} da chave primária.
+     *
+     * @param jdbcTemplate Acesso à conexão da migração
+     * @param table        Tabela
+     * @param lowest       Valor abaixo de todas as chaves ({@code ''} para CHAR, {@code 0} para BIGINT)
+     * @param assignments  Atribuições do {@code UPDATE}
+     * @param pending      Condição das linhas ainda não preenchidas
+     */
+    private static void backfill(JdbcTemplate jdbcTemplate, String table, Object lowest, String assignments,
+                                 String pending) {
+        String nextBound = "SELECT MAX(id) FROM (SELECT id FROM " + table
+                + " WHERE id > ? ORDER BY id LIMIT " + CHUNK_SIZE + ") chunk";
+        String update = "UPDATE " + table + " SET " + assignments + " WHERE id > ? AND id <= ? AND " + pending;
+        Object lower = lowest;
+        long updated = 0;
+        Object upper;
+        while ((upper = jdbcTemplate.queryForObject(nextBound, Object.class, lower)) != null) {
+            updated += jdbcTemplate.update(update, lower, upper);
+            lower = upper;
+        }
+        log.info("Chaves binárias preenchidas em {}: {} linhas", table, updated);
+    }
+}
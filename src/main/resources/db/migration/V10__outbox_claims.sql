@@ -0,0 +1,13 @@
+-- V10__outbox_claims.sql
+-- Reserva de lotes do outbox. O OutboxRelay bloqueia o lote (FOR UPDATE SKIP LOCKED) só pelo
+-- tempo de gravar claimed_until e confirma; a publicação no broker acontece fora de transação, e
+-- as mensagens confirmadas são apagadas em uma segunda transação curta. Enquanto a reserva vale,
+-- outras instâncias ignoram as linhas; vencida (instância que parou no meio do lote), o lote volta
+-- a ser lido.
+--
+-- O índice atende à verificação de mensagens anteriores do mesmo agregado fora do lote reservado,
+-- que preserva a ordem de publicação por agregado entre instâncias.
+
+ALTER TABLE outbox_messages
+    ADD COLUMN claimed_until DATETIME(6) NULL,
+    ADD INDEX idx_outbox_messages_aggregate (aggregate_id, id);
@@ -0,0 +1,62 @@
+-- V11__binary_uuid_keys_contract.sql
+-- Fase de contração da conversão das chaves UUID para BINARY(16), iniciada em
+-- V4__binary_uuid_keys.sql e V4_1__BackfillBinaryUuidKeys. Sai na versão da aplicação seguinte à
+-- da expansão, junto com o mapeamento BINARY(16) das entidades: até aqui os gatilhos da V4
+-- mantêm as colunas *_bin sincronizadas com as gravações da versão da expansão, que grava a chave
+-- como texto e por isso precisa estar fora de serviço antes desta migração. Ambientes que ainda
+-- não passaram pela versão da expansão a implantam primeiro, para que o preenchimento das linhas
+-- existentes rode com as duas versões atendendo.
+--
+-- A troca das chaves usa ALGORITHM=INPLACE, LOCK=NONE: a tabela é reconstruída, mas aceita
+-- leituras e escritas durante a operação.
+
+-- 1. Remove gatilhos, chaves estrangeiras e índices sobre as colunas antigas
+DROP TRIGGER trg_organizers_id_bin;
+DROP TRIGGER trg_events_id_bin;
+DROP TRIGGER trg_ticket_types_event_id_bin;
+DROP TRIGGER trg_events_organizer_id_bin_update;
+DROP TRIGGER trg_ticket_types_event_id_bin_update;
+
+ALTER TABLE ticket_types DROP FOREIGN KEY fk_ticket_event, ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE events DROP FOREIGN KEY fk_event_organizer, ALGORITHM = INPLACE, LOCK = NONE;
+
+DROP INDEX idx_ticket_types_event ON ticket_types;
+DROP INDEX idx_events_organizer_status ON events;
+DROP INDEX idx_events_status_start_id ON events;
+DROP INDEX idx_organizers_status_created_id ON organizers;
+
+-- 2. Troca das colunas
+ALTER TABLE organizers
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE events
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    DROP COLUMN organizer_id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    CHANGE COLUMN organizer_id_bin organizer_id BINARY(16) NOT NULL AFTER status,
+    ADD PRIMARY KEY (id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE ticket_types
+    DROP COLUMN event_id,
+    CHANGE COLUMN event_id_bin event_id BINARY(16) NOT NULL AFTER quantity_available,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 3. Índices e chaves estrangeiras sobre as colunas novas. Com foreign_key_checks desligado o
+-- MySQL cria as chaves estrangeiras sem copiar a tabela; os valores vêm de chaves já válidas.
+CREATE INDEX idx_organizers_status_created_id ON organizers (status, created_at, id);
+CREATE INDEX idx_events_status_start_id ON events (status, start_datetime, id);
+CREATE INDEX idx_events_organizer_status ON events (organizer_id, status);
+CREATE INDEX idx_ticket_types_event ON ticket_types (event_id);
+
+SET foreign_key_checks = 0;
+ALTER TABLE events
+    ADD CONSTRAINT fk_event_organizer FOREIGN KEY (organizer_id) REFERENCES organizers (id);
+ALTER TABLE ticket_types
+    ADD CONSTRAINT fk_ticket_event FOREIGN KEY (event_id) REFERENCES events (id);
+SET foreign_key_checks = 1;
@@ -0,0 +1,7 @@
+-- V12__events_updated_at_index.sql
+-- Índice para a atualização incremental da busca textual: cada réplica relê periodicamente os
+-- eventos alterados desde a última leitura (updated_at >= ?), inclusive os removidos, que passam
+-- ao status DELETED. Sem o índice, cada leitura percorreria a tabela inteira.
+
+CREATE INDEX idx_events_updated_at ON events (updated_at)
+    ALGORITHM = INPLACE LOCK = NONE;
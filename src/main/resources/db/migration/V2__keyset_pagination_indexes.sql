@@ -0,0 +1,7 @@
+-- V2__keyset_pagination_indexes.sql
+-- Índices compostos para a paginação por chave (GET /events/scroll e /events/organizers/scroll).
+-- A ordem das colunas segue o filtro por status e a ordenação (chave, id) das consultas.
+
+CREATE INDEX idx_events_status_start_id ON events (status, start_datetime, id);
+
+CREATE INDEX idx_organizers_status_created_id ON organizers (status, created_at, id);
@@ -0,0 +1,13 @@
+-- V3__read_path_indexes.sql
+-- Índices para os caminhos de leitura. O índice (status, start_datetime, id), usado por
+-- findAllByStatus ordenado por data e pela paginação por chave, foi criado na V2.
+--
+-- No InnoDB, as chaves estrangeiras já ganham um índice implícito (fk_event_organizer,
+-- fk_ticket_event). Ao criar um índice que também atende a FK, o MySQL descarta o implícito,
+-- portanto estes índices substituem os anteriores em vez de duplicá-los.
+
+-- Eventos de um organizador filtrados por status
+CREATE INDEX idx_events_organizer_status ON events (organizer_id, status);
+
+-- Tipos de ingresso de um evento (Event.ticketTypes)
+CREATE INDEX idx_ticket_types_event ON ticket_types (event_id);
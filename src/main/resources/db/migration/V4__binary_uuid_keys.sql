@@ -0,0 +1,27 @@
+-- V4__binary_uuid_keys.sql
+-- Converte as chaves UUID de CHAR(36) utf8mb4 (até 144 bytes por chave) para BINARY(16).
+-- Os valores existentes são preservados (UUID_TO_BIN sem troca de bytes, o mesmo layout que o
+-- Hibernate usa para SqlTypes.BINARY).
+--
+-- Fase de expansão: as colunas novas são adicionadas com ALGORITHM=INSTANT e mantidas
+-- sincronizadas por gatilhos de insert e update; as linhas existentes são preenchidas em lotes
+-- por V4_1__BackfillBinaryUuidKeys. A aplicação desta versão continua mapeando as colunas
+-- CHAR(36) e nada é removido aqui, de modo que a versão anterior e esta convivem durante a
+-- implantação. A troca das chaves (fase de contração) sai em uma versão posterior da aplicação,
+-- junto com o mapeamento BINARY(16) das entidades.
+
+-- Colunas novas e gatilhos de sincronização
+ALTER TABLE organizers ADD COLUMN id_bin BINARY(16) NULL, ALGORITHM = INSTANT;
+ALTER TABLE events ADD COLUMN id_bin BINARY(16) NULL, ADD COLUMN organizer_id_bin BINARY(16) NULL, ALGORITHM = INSTANT;
+ALTER TABLE ticket_types ADD COLUMN event_id_bin BINARY(16) NULL, ALGORITHM = INSTANT;
+
+CREATE TRIGGER trg_organizers_id_bin BEFORE INSERT ON organizers
+    FOR EACH ROW SET NEW.id_bin = UUID_TO_BIN(NEW.id);
+CREATE TRIGGER trg_events_id_bin BEFORE INSERT ON events
+    FOR EACH ROW SET NEW.id_bin = UUID_TO_BIN(NEW.id), NEW.organizer_id_bin = UUID_TO_BIN(NEW.organizer_id);
+CREATE TRIGGER trg_ticket_types_event_id_bin BEFORE INSERT ON ticket_types
+    FOR EACH ROW SET NEW.event_id_bin = UUID_TO_BIN(NEW.event_id);
+CREATE TRIGGER trg_events_organizer_id_bin_update BEFORE UPDATE ON events
+    FOR EACH ROW SET NEW.organizer_id_bin = UUID_TO_BIN(NEW.organizer_id);
+CREATE TRIGGER trg_ticket_types_event_id_bin_update BEFORE UPDATE ON ticket_types
+    FOR EACH ROW SET NEW.event_id_bin = UUID_TO_BIN(NEW.event_id);
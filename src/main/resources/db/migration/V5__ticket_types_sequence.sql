@@ -0,0 +1,14 @@
+-- V5__ticket_types_sequence.sql
+-- Tabela que emula a sequência ticket_types_seq no MySQL (SequenceStyleGenerator do Hibernate).
+-- Os ids são reservados em blocos de 50 (allocationSize), permitindo inserts em lote JDBC.
+-- O otimizador pooled trata o valor lido como o fim do bloco (ids de next_val - 49 a next_val),
+-- por isso o valor inicial é o maior id existente mais 50: o primeiro bloco começa logo após ele.
+
+CREATE TABLE ticket_types_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO ticket_types_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 50
+FROM ticket_types;
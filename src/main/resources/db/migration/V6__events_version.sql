@@ -0,0 +1,7 @@
+-- V6__events_version.sql
+-- Coluna de versão (bloqueio otimista) de events, usada também como ETag das respostas.
+-- ADD COLUMN com DEFAULT é instantâneo no MySQL 8 (somente metadados, sem cópia da tabela).
+
+ALTER TABLE events
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ALGORITHM = INSTANT;
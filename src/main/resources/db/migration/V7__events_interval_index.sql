@@ -0,0 +1,11 @@
+-- V7__events_interval_index.sql
+-- Índice para as consultas por janela de datas (GET /events?from=&to=): eventos que se
+-- sobrepõem a [from, to), isto é, start_datetime < to AND end_datetime > from.
+--
+-- O índice (status, start_datetime, id) da V2 só limita o início: para uma janela próxima de
+-- hoje, percorre todos os eventos passados. Este índice limita o término, descartando o passado;
+-- com start_datetime na chave, o filtro do início é avaliado no próprio índice. O otimizador
+-- escolhe entre os dois pela seletividade de cada faixa.
+
+CREATE INDEX idx_events_status_end_start ON events (status, end_datetime, start_datetime)
+    ALGORITHM = INPLACE LOCK = NONE;
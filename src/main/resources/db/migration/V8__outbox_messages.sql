@@ -0,0 +1,18 @@
+-- V8__outbox_messages.sql
+-- Outbox transacional: mudanças de eventos e organizadores gravadas na mesma transação da
+-- alteração e publicadas no RabbitMQ pelo OutboxRelay, que apaga cada linha após a confirmação
+-- do broker.
+--
+-- O id AUTO_INCREMENT é atribuído no insert, sob o bloqueio da linha do agregado: a mudança
+-- seguinte de um mesmo agregado sempre recebe um id maior, e a ordem por id é a ordem de
+-- publicação. Uma sequência com blocos por instância (como ticket_types_seq) não garante isso.
+
+CREATE TABLE outbox_messages
+(
+    id             BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    aggregate_type VARCHAR(32)  NOT NULL,
+    aggregate_id   BINARY(16)   NOT NULL,
+    event_type     VARCHAR(64)  NOT NULL,
+    payload        TEXT         NOT NULL,
+    created_at     DATETIME(6)  NOT NULL
+) ENGINE = InnoDB;
@@ -0,0 +1,21 @@
+-- V9__audit_history.sql
+-- Histórico de alterações de eventos e organizadores: uma linha por campo alterado, somente
+-- inserção. As linhas são gravadas em lote, fora da thread da requisição (AuditHistoryWriter).
+--
+-- O índice atende à consulta do histórico de um agregado, da alteração mais recente para a mais
+-- antiga (GET /events/{id}/history), inclusive a contagem da paginação.
+
+CREATE TABLE audit_history
+(
+    id             BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    aggregate_type VARCHAR(32)   NOT NULL,
+    aggregate_id   BINARY(16)    NOT NULL,
+    version        BIGINT,
+    field          VARCHAR(64)   NOT NULL,
+    old_value      VARCHAR(1000),
+    new_value      VARCHAR(1000),
+    changed_by     VARCHAR(255),
+    changed_at     DATETIME(6)   NOT NULL,
+    correlation_id VARCHAR(64),
+    INDEX idx_audit_history_aggregate (aggregate_type, aggregate_id, id)
+) ENGINE = InnoDB;
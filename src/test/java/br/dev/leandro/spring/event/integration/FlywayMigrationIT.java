@@ -0,0 +1,210 @@
+package br.dev.leandro.spring.event.integration;
+
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.TicketType;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Migrações do Flyway contra um MySQL em container, com dados gravados pelas versões anteriores
+ * do esquema. Ignorado quando não há Docker disponível.
+ */
+@Tag("integration")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Testes das Migrações do Flyway")
+class FlywayMigrationIT {
+
+    /** Mais de duas faixas de {@code V4_1__BackfillBinaryUuidKeys}. */
+    private static final int LEGACY_ROWS = 2_001;
+
+    /** Última migração da versão da aplicação que faz a expansão das chaves UUID. */
+    private static final String EXPAND_VERSION = "10";
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private JdbcTemplate jdbcTemplate;
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        flyway(null).clean();
+        jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve preencher as chaves binárias na expansão, inclusive das linhas gravadas depois")
+    void devePreencherChavesBinariasNaExpansao() {
+        // Dado
+        flyway("3").migrate();
+        List<String> organizerIds = legacyRows();
+
+        // Quando: esquema da versão da expansão
+        flyway(EXPAND_VERSION).migrate();
+
+        // Então
+        assertEquals(0, count("SELECT COUNT(*) FROM organizers WHERE NOT id_bin <=> UUID_TO_BIN(id)"));
+        assertEquals(0, count("SELECT COUNT(*) FROM events WHERE NOT id_bin <=> UUID_TO_BIN(id) "
+                + "OR NOT organizer_id_bin <=> UUID_TO_BIN(organizer_id)"));
+        assertEquals(0, count("SELECT COUNT(*) FROM ticket_types WHERE NOT event_id_bin <=> UUID_TO_BIN(event_id)"));
+
+        // Quando: gravação da versão da expansão, que grava as chaves como texto
+        String eventId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO events (id, name, location, start_datetime, end_datetime, status, "
+                + "organizer_id, version) VALUES (?, 'Evento novo', 'São Paulo', NOW(), NOW() + INTERVAL 1 DAY, "
+                + "'ACTIVE', ?, 0)", eventId, organizerIds.getFirst());
+
+        // Então: os gatilhos preenchem as colunas novas
+        assertEquals(eventId, jdbcTemplate.queryForObject(
+                "SELECT BIN_TO_UUID(id_bin) FROM events WHERE id = ?", String.class, eventId));
+    }
+
+    @Test
+    @DisplayName("Deve trocar as chaves na contração preservando os valores e as referências")
+    void deveTrocarChavesNaContracao() {
+        // Dado
+        flyway("3").migrate();
+        List<String> organizerIds = legacyRows();
+        flyway(EXPAND_VERSION).migrate();
+
+        // Quando
+        flyway(null).migrate();
+
+        // Então
+        assertEquals("binary", jdbcTemplate.queryForObject("SELECT DATA_TYPE FROM information_schema.COLUMNS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'events' AND COLUMN_NAME = 'id'", String.class));
+        assertEquals(LEGACY_ROWS, count("SELECT COUNT(*) FROM events e JOIN organizers o ON o.id = e.organizer_id "
+                + "JOIN ticket_types t ON t.event_id = e.id"));
+        assertEquals(1, count("SELECT COUNT(*) FROM organizers WHERE id = UUID_TO_BIN('" + organizerIds.getLast() + "')"));
+
+        // Quando / Então: a aplicação desta versão grava e lê com o mapeamento BINARY(16)
+        Event event = persist(UUID.fromString(organizerIds.getFirst()), 2);
+        sessionFactory.inSession(session -> assertEquals(2,
+                session.find(Event.class, event.getId()).getTicketTypes().size()));
+    }
+
+    @Test
+    @DisplayName("Deve gerar ids de tipos de ingresso acima dos já existentes")
+    void deveGerarIdsAcimaDosExistentes() {
+        // Dado: tipos de ingresso gravados com AUTO_INCREMENT antes da V5
+        flyway("3").migrate();
+        List<String> organizerIds = legacyRows();
+        flyway(null).migrate();
+
+        // Quando
+        Event event = persist(UUID.fromString(organizerIds.getFirst()), 3);
+
+        // Então
+        event.getTicketTypes().forEach(ticketType -> assertTrue(ticketType.getId() > LEGACY_ROWS,
+                () -> "id " + ticketType.getId() + " dentro da faixa existente"));
+        assertEquals(LEGACY_ROWS + 3, count("SELECT COUNT(DISTINCT id) FROM ticket_types"));
+    }
+
+    /**
+     * Grava {@link #LEGACY_ROWS} organizadores, eventos e tipos de ingresso com as chaves como texto.
+     *
+     * @return Ids dos organizadores
+     */
+    private List<String> legacyRows() {
+        List<String> organizerIds = new ArrayList<>();
+        List<Object[]> organizers = new ArrayList<>();
+        List<Object[]> events = new ArrayList<>();
+        List<Object[]> ticketTypes = new ArrayList<>();
+        for (int i = 0; i < LEGACY_ROWS; i++) {
+            String organizerId = UUID.randomUUID().toString();
+            String eventId = UUID.randomUUID().toString();
+            organizerIds.add(organizerId);
+            organizers.add(new Object[]{organizerId, "user-" + i});
+            events.add(new Object[]{eventId, "Evento " + i, organizerId});
+            ticketTypes.add(new Object[]{eventId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO organizers (id, user_id, organization_name, status, contact_email, "
+                + "contact_phone, document_number, version) VALUES (?, ?, 'Produtora', 'ACTIVE', "
+                + "'contato@exemplo.com', '11999999999', '12345678000199', 0)", organizers);
+        jdbcTemplate.batchUpdate("INSERT INTO events (id, name, location, start_datetime, end_datetime, status, "
+                + "organizer_id) VALUES (?, ?, 'São Paulo', NOW(), NOW() + INTERVAL 1 DAY, 'ACTIVE', ?)", events);
+        jdbcTemplate.batchUpdate("INSERT INTO ticket_types (name, price, quantity_available, event_id) "
+                + "VALUES ('Pista', 10.00, 100, ?)", ticketTypes);
+        return organizerIds;
+    }
+
+    private Event persist(UUID organizerId, int ticketTypes) {
+        if (sessionFactory == null) {
+            sessionFactory = new Configuration()
+                    .addAnnotatedClass(Event.class)
+                    .addAnnotatedClass(TicketType.class)
+                    .setProperty(AvailableSettings.JAKARTA_JDBC_URL, MYSQL.getJdbcUrl())
+                    .setProperty(AvailableSettings.JAKARTA_JDBC_USER, MYSQL.getUsername())
+                    .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, MYSQL.getPassword())
+                    .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                    .setProperty(AvailableSettings.JAKARTA_VALIDATION_MODE, "none")
+                    .buildSessionFactory();
+        }
+        Event event = Event.builder()
+                .name("Evento novo")
+                .location("São Paulo")
+                .startDatetime(LocalDateTime.now().plusDays(1))
+                .endDatetime(LocalDateTime.now().plusDays(2))
+                .status(EventStatus.ACTIVE)
+                .organizerId(organizerId)
+                .ticketTypes(new ArrayList<>())
+                .build();
+        for (int i = 0; i < ticketTypes; i++) {
+            event.getTicketTypes().add(TicketType.builder()
+                    .name("Lote " + i)
+                    .price(BigDecimal.TEN)
+                    .quantityAvailable(100)
+                    .event(event)
+                    .build());
+        }
+        sessionFactory.inTransaction(session -> session.persist(event));
+        return event;
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .locations("classpath:db/migration")
+                .cleanDisabled(false);
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+}
@@ -0,0 +1,100 @@
+package br.dev.leandro.spring.event.support;
+
+import br.dev.leandro.spring.event.datasource.SqlStatementCounter;
+import br.dev.leandro.spring.event.filter.SqlStatementBudgetFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Asserções sobre o número de instruções SQL executadas, para fixar nos testes a contagem de cada
+ * endpoint.
+ * <p>
+ * Em testes com servidor ({@code @SpringBootTest} com porta aleatória), importe a classe com
+ * {@code @Import(SqlStatementAssertions.class)} e use
+ * {@link #assertStatementCount(String, String, int, Supplier)}: a contagem vem do histograma do
+ * {@link SqlStatementBudgetFilter}, que é registrado depois de a resposta chegar ao cliente, por
+ * isso a asserção consulta o histograma a cada {@code 10 ms} até o registro. As requisições do
+ * teste não devem ser concorrentes. Para código executado na thread do próprio teste (MockMvc,
+ * serviços), use {@link #assertStatementCount(int, Runnable)}.
+ * </p>
+ */
+public class SqlStatementAssertions {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementAssertions(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Executa a requisição e verifica quantas instruções SQL ela executou.
+     *
+     * @param method   Método HTTP
+     * @param uri      Padrão da rota (por exemplo, {@code /events/{id}})
+     * @param expected Número esperado de instruções
+     * @param request  Requisição
+     * @param <T>      Tipo da resposta
+     * @return Resposta da requisição
+     */
+    public <T> T assertStatementCount(String method, String uri, int expected, Supplier<T> request) {
+        long countBefore = count(method, uri);
+        double totalBefore = total(method, uri);
+
+        T response = request.get();
+
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (count(method, uri) == countBefore) {
+            if (System.nanoTime() > deadline) {
+                fail("Nenhuma requisição registrada para " + method + " " + uri);
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrompido aguardando o registro de " + method + " " + uri);
+            }
+        }
+        assertEquals(countBefore + 1, count(method, uri), "Mais de uma requisição registrada para " + method + " " + uri);
+        assertEquals(expected, (int) (total(method, uri) - totalBefore),
+                () -> "Instruções SQL executadas por " + method + " " + uri);
+        return response;
+    }
+
+    /**
+     * Executa a ação na thread corrente e verifica quantas instruções SQL ela executou.
+     *
+     * @param expected Número esperado de instruções
+     * @param action   Ação
+     */
+    public static void assertStatementCount(int expected, Runnable action) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            action.run();
+            assertEquals(expected, scope.count(), "Instruções SQL executadas");
+        }
+    }
+
+    private long count(String method, String uri) {
+        DistributionSummary summary = summary(method, uri);
+        return summary == null ? 0 : summary.count();
+    }
+
+    private double total(String method, String uri) {
+        DistributionSummary summary = summary(method, uri);
+        return summary == null ? 0 : summary.totalAmount();
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        return meterRegistry.find(SqlStatementBudgetFilter.STATEMENTS_METRIC)
+                .tags("method", method, "uri", uri)
+                .summary();
+    }
+}
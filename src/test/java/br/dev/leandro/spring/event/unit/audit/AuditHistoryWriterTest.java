@@ -0,0 +1,162 @@
+package br.dev.leandro.spring.event.unit.audit;
+
+import br.dev.leandro.spring.event.audit.AuditChange;
+import br.dev.leandro.spring.event.audit.AuditHistoryWriter;
+import br.dev.leandro.spring.event.config.AuditHistoryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link AuditHistoryWriter}, gravando num banco H2 em memória. A thread de
+ * gravação não é iniciada: os lotes são gravados por {@link AuditHistoryWriter#flush()}.
+ */
+class AuditHistoryWriterTest {
+
+    private static final UUID EVENTO = UUID.fromString("00000000-0000-7000-8000-00000000000a");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+    private final AuditHistoryProperties properties = new AuditHistoryProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JdbcTemplate jdbcTemplate;
+    private AuditHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:audit-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE audit_history (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    aggregate_type VARCHAR(32) NOT NULL,
+                    aggregate_id BINARY(16) NOT NULL,
+                    version BIGINT,
+                    field VARCHAR(64) NOT NULL,
+                    old_value VARCHAR(1000),
+                    new_value VARCHAR(1000),
+                    changed_by VARCHAR(255),
+                    changed_at TIMESTAMP(6) NOT NULL,
+                    correlation_id VARCHAR(64))
+                """);
+        properties.setCapacity(4);
+        properties.setBatchSize(3);
+        properties.setMaxValueLength(10);
+        properties.setOfferTimeout(Duration.ofMillis(20));
+        writer = new AuditHistoryWriter(jdbcTemplate, new DataSourceTransactionManager(dataSource), properties,
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve gravar a fila em lotes, na ordem, truncando os valores longos")
+    void deveGravarEmLotes() {
+        // Dado
+        for (int i = 1; i <= 4; i++) {
+            writer.offer(change("name", "Evento " + i, "Evento " + i + " (edição especial)"));
+        }
+        assertEquals(4, writer.depth());
+
+        // Quando
+        int gravadas = writer.flush();
+
+        // Então
+        assertEquals(4, gravadas);
+        assertEquals(0, writer.depth());
+        List<String> valores = jdbcTemplate.queryForList("SELECT new_value FROM audit_history ORDER BY id", String.class);
+        assertEquals(List.of("Evento 1 (", "Evento 2 (", "Evento 3 (", "Evento 4 ("), valores);
+        assertEquals(2L, meterRegistry.get("audit.history.flush").timer().count(), "Dois lotes: 3 + 1");
+        assertEquals(4.0, meterRegistry.get("audit.history.written").counter().count());
+        assertEquals(EVENTO, jdbcTemplate.queryForObject(
+                "SELECT aggregate_id FROM audit_history WHERE id = 1", UUID.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar na thread de quem registra quando a fila continua cheia após a espera")
+    void deveGravarDiretamenteComFilaCheia() {
+        // Dado
+        for (int i = 0; i < properties.getCapacity(); i++) {
+            writer.offer(change("location", "A", "B"));
+        }
+
+        // Quando
+        writer.offer(change("location", "B", "C"));
+
+        // Então
+        assertEquals(4, writer.depth());
+        assertEquals(List.of("C"), jdbcTemplate.queryForList("SELECT new_value FROM audit_history", String.class));
+        assertEquals(1.0, meterRegistry.get("audit.history.sync").counter().count());
+        assertEquals(1L, meterRegistry.get("audit.history.backpressure").timer().count());
+        assertEquals(4.0, meterRegistry.get("audit.history.queue.depth").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve reter o lote com falha e gravá-lo quando o banco voltar")
+    void deveReterLoteComFalha() {
+        // Dado
+        jdbcTemplate.execute("ALTER TABLE audit_history RENAME TO audit_history_old");
+        writer.offer(change("name", "A", "B"));
+        writer.offer(change("name", "B", "C"));
+
+        // Quando
+        int gravadas = writer.flush();
+
+        // Então
+        assertEquals(0, gravadas);
+        assertEquals(2, writer.depth(), "O lote continua ocupando a fila");
+        assertEquals(1.0, meterRegistry.get("audit.history.write.failures").counter().count());
+
+        // Quando: o banco volta
+        jdbcTemplate.execute("ALTER TABLE audit_history_old RENAME TO audit_history");
+
+        // Então
+        assertEquals(2, writer.flush());
+        assertEquals(0, writer.depth());
+        assertEquals(List.of("B", "C"), jdbcTemplate.queryForList(
+                "SELECT new_value FROM audit_history ORDER BY id", String.class));
+    }
+
+    @Test
+    @DisplayName("Deve bloquear quem registra, sem descartar, enquanto a fila está cheia e o banco indisponível")
+    void deveBloquearComFilaCheiaEBancoIndisponivel() throws Exception {
+        // Dado
+        for (int i = 0; i < properties.getCapacity(); i++) {
+            writer.offer(change("location", "A", "B"));
+        }
+        jdbcTemplate.execute("ALTER TABLE audit_history RENAME TO audit_history_old");
+
+        // Quando
+        CompletableFuture<Void> registro = CompletableFuture.runAsync(() -> writer.offer(change("location", "B", "C")));
+
+        // Então
+        assertThrows(TimeoutException.class, () -> registro.get(200, TimeUnit.MILLISECONDS));
+
+        // Quando: o banco volta e a fila é gravada
+        jdbcTemplate.execute("ALTER TABLE audit_history_old RENAME TO audit_history");
+        writer.flush();
+        registro.get(5, TimeUnit.SECONDS);
+        writer.flush();
+
+        // Então
+        assertEquals(0, writer.depth());
+        assertTrue(meterRegistry.get("audit.history.write.failures").counter().count() >= 1);
+        assertEquals(5L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_history", Long.class));
+    }
+
+    private static AuditChange change(String field, String oldValue, String newValue) {
+        return new AuditChange("event", EVENTO, 2L, field, oldValue, newValue, "ana", NOW, "corr-1");
+    }
+}
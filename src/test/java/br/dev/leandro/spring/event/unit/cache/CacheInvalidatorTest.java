@@ -0,0 +1,62 @@
+package br.dev.leandro.spring.event.unit.cache;
+
+import br.dev.leandro.spring.event.cache.CacheGenerations;
+import br.dev.leandro.spring.event.cache.CacheInvalidator;
+import br.dev.leandro.spring.event.cache.TieredCacheManager;
+import br.dev.leandro.spring.event.cache.TieredCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link CacheInvalidator}.
+ */
+class CacheInvalidatorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TieredCacheManager cacheManager;
+    private CacheGenerations cacheGenerations;
+    private CacheInvalidator cacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TieredCacheManager(new TieredCacheProperties(), null, meterRegistry);
+        cacheGenerations = new CacheGenerations(cacheManager);
+        cacheInvalidator = new CacheInvalidator(cacheManager, cacheGenerations, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas a entrada do recurso alterado")
+    void deveRemoverApenasAEntradaAlterada() {
+        Cache events = cacheManager.getCache("events");
+        events.put("a", "evento-a");
+        events.put("b", "evento-b");
+
+        cacheInvalidator.evict("events", "a");
+
+        assertNull(events.get("a"));
+        assertNotNull(events.get("b"));
+        assertEquals(1.0, meterRegistry.get("cache.invalidations")
+                .tag("cache", "events").tag("scope", "key").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve trocar a geração das páginas somente do cache informado")
+    void deveTrocarGeracaoSomenteDoCacheInformado() {
+        String eventos = cacheGenerations.current("events");
+        String organizadores = cacheGenerations.current("organizers");
+        assertEquals(eventos, cacheGenerations.current("events"), "A geração deve ser estável sem escritas");
+
+        cacheInvalidator.invalidatePages("events");
+
+        assertNotEquals(eventos, cacheGenerations.current("events"));
+        assertEquals(organizadores, cacheGenerations.current("organizers"));
+        assertEquals(1.0, meterRegistry.get("cache.invalidations")
+                .tag("cache", "events").tag("scope", "pages").counter().count());
+    }
+}
@@ -0,0 +1,57 @@
+package br.dev.leandro.spring.event.unit.cache;
+
+import br.dev.leandro.spring.event.cache.CachedPage;
+import br.dev.leandro.spring.event.cache.PageKeys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.SerializationUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para {@link PageKeys} e {@link CachedPage}.
+ */
+class PageKeysTest {
+
+    @Test
+    @DisplayName("Deve gerar a mesma chave para ordenações equivalentes")
+    void deveGerarMesmaChaveParaOrdenacoesEquivalentes() {
+        String implicita = PageKeys.of("g1", PageRequest.of(0, 20, Sort.by("name")));
+        String explicita = PageKeys.of("g1", PageRequest.of(0, 20, Sort.by(Sort.Order.asc("name"))));
+
+        assertEquals(implicita, explicita);
+        assertEquals("page:g1:0:20:name,ASC", implicita);
+    }
+
+    @Test
+    @DisplayName("Deve gerar chaves distintas para gerações, páginas e ordenações distintas")
+    void deveGerarChavesDistintas() {
+        String base = PageKeys.of("g1", PageRequest.of(0, 20));
+
+        assertNotEquals(base, PageKeys.of("g2", PageRequest.of(0, 20)));
+        assertNotEquals(base, PageKeys.of("g1", PageRequest.of(1, 20)));
+        assertNotEquals(base, PageKeys.of("g1", PageRequest.of(0, 20, Sort.by(Sort.Order.desc("name")))));
+    }
+
+    @Test
+    @DisplayName("Deve serializar a página em cache e reconstruí-la")
+    void deveSerializarEReconstruirPagina() {
+        PageRequest pageable = PageRequest.of(1, 2);
+        Page<String> original = new PageImpl<>(List.of("a", "b"), pageable, 5);
+
+        byte[] bytes = SerializationUtils.serialize(CachedPage.of(original));
+        @SuppressWarnings("unchecked")
+        CachedPage<String> copia = (CachedPage<String>) SerializationUtils.deserialize(bytes);
+        Page<String> reconstruida = copia.toPage(pageable);
+
+        assertEquals(original.getContent(), reconstruida.getContent());
+        assertEquals(5, reconstruida.getTotalElements());
+        assertEquals(1, reconstruida.getNumber());
+    }
+}
@@ -0,0 +1,310 @@
+package br.dev.leandro.spring.event.unit.cache;
+
+import br.dev.leandro.spring.event.cache.CacheGenerations;
+import br.dev.leandro.spring.event.cache.CacheInvalidation;
+import br.dev.leandro.spring.event.cache.CacheInvalidationChannel;
+import br.dev.leandro.spring.event.cache.CacheInvalidator;
+import br.dev.leandro.spring.event.cache.TieredCache;
+import br.dev.leandro.spring.event.cache.TieredCacheManager;
+import br.dev.leandro.spring.event.cache.TieredCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o {@link TieredCache}.
+ */
+class TieredCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache remoteCache;
+    private TieredCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        remoteCache = new ConcurrentMapCache("events", false);
+        cache = new TieredCache("events", Caffeine.newBuilder().maximumSize(100).build(), remoteCache, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Testes de leitura")
+    class LeituraTests {
+
+        @Test
+        @DisplayName("Deve promover para o nível local um valor encontrado no nível compartilhado")
+        void devePromoverValorDoNivelCompartilhado() {
+            remoteCache.put("k", "v");
+
+            assertEquals("v", cache.get("k", String.class));
+            assertEquals("v", cache.getLocalCache().getIfPresent("k"));
+            assertEquals(1.0, meterRegistry.get("cache.remote.gets").tag("result", "hit").counter().count());
+        }
+
+        @Test
+        @DisplayName("Deve carregar uma única vez e gravar nos dois níveis")
+        void deveCarregarUmaVez() {
+            AtomicInteger cargas = new AtomicInteger();
+
+            assertEquals("v", cache.get("k", () -> "v" + (cargas.incrementAndGet() > 1 ? "!" : "")));
+            assertEquals("v", cache.get("k", () -> "v" + (cargas.incrementAndGet() > 1 ? "!" : "")));
+
+            assertEquals(1, cargas.get());
+            assertNotNull(remoteCache.get("k"));
+            assertEquals(1, meterRegistry.get("cache.load.latency").timer().count());
+        }
+
+        @Test
+        @DisplayName("Deve propagar exceções de negócio do carregador sem encapsulá-las")
+        void devePropagarExcecaoDoCarregador() {
+            IllegalStateException erro = new IllegalStateException("falha");
+
+            IllegalStateException lancada = assertThrows(IllegalStateException.class,
+                    () -> cache.get("k", () -> {
+                        throw erro;
+                    }));
+
+            assertSame(erro, lancada);
+            assertNull(cache.get("k"));
+        }
+
+        @Test
+        @DisplayName("Deve carregar uma única vez para chamadas concorrentes em threads virtuais")
+        void deveCarregarUmaVezParaChamadasConcorrentes() throws Exception {
+            AtomicInteger cargas = new AtomicInteger();
+            CountDownLatch liberar = new CountDownLatch(1);
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<String>> chamadas = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    chamadas.add(executor.submit(() -> cache.get("k", () -> {
+                        cargas.incrementAndGet();
+                        liberar.await();
+                        return "v";
+                    })));
+                }
+                Thread.sleep(200);
+                liberar.countDown();
+                for (Future<String> chamada : chamadas) {
+                    assertEquals("v", chamada.get(5, TimeUnit.SECONDS));
+                }
+            }
+
+            assertEquals(1, cargas.get());
+            assertEquals(19.0, meterRegistry.get("cache.load.coalesced").tag("cache", "events").counter().count());
+        }
+
+        @Test
+        @DisplayName("Deve servir o valor anterior enquanto a chave removida é recarregada")
+        void deveServirValorAnteriorDuranteRecarga() throws Exception {
+            // Dado
+            TieredCache comStale = new TieredCache("organizers", Caffeine.newBuilder().maximumSize(100).build(),
+                    Caffeine.newBuilder().maximumSize(100).build(), null, meterRegistry);
+            comStale.put("k", "v1");
+            comStale.evict("k");
+            CountDownLatch carregando = new CountDownLatch(1);
+            CountDownLatch liberar = new CountDownLatch(1);
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<String> recarga = executor.submit(() -> comStale.get("k", () -> {
+                    carregando.countDown();
+                    liberar.await();
+                    return "v2";
+                }));
+                carregando.await(5, TimeUnit.SECONDS);
+
+                // Quando
+                String durante = comStale.get("k", () -> "nao-deve-carregar");
+                liberar.countDown();
+
+                // Então
+                assertEquals("v1", durante);
+                assertEquals("v2", recarga.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals("v2", comStale.get("k", () -> "nao-deve-carregar"));
+            assertEquals(1.0, meterRegistry.get("cache.stale.served").tag("cache", "organizers").counter().count());
+        }
+
+        @Test
+        @DisplayName("Não deve manter em cache um valor removido durante a carga")
+        void naoDeveManterValorRemovidoDuranteCarga() {
+            String valor = cache.get("k", () -> {
+                cache.evict("k");
+                return "desatualizado";
+            });
+
+            assertEquals("desatualizado", valor);
+            assertNull(cache.get("k"));
+            assertNull(remoteCache.get("k"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de escrita e remoção")
+    class EscritaTests {
+
+        @Test
+        @DisplayName("Deve remover a chave dos dois níveis")
+        void deveRemoverDosDoisNiveis() {
+            cache.put("k", "v");
+
+            cache.evict("k");
+
+            assertNull(cache.getLocalCache().getIfPresent("k"));
+            assertNull(remoteCache.get("k"));
+        }
+
+        @Test
+        @DisplayName("Deve ignorar falhas do nível compartilhado")
+        void deveIgnorarFalhasDoNivelCompartilhado() {
+            Cache remotoComFalha = mock(Cache.class);
+            when(remotoComFalha.get(any())).thenThrow(new IllegalStateException("redis indisponível"));
+            doThrow(new IllegalStateException("redis indisponível")).when(remotoComFalha).put(any(), any());
+            TieredCache tiered = new TieredCache("events", Caffeine.newBuilder().build(), remotoComFalha, meterRegistry);
+
+            assertEquals("v", tiered.get("k", () -> "v"));
+            assertEquals("v", tiered.get("k", String.class));
+            assertEquals(2.0, meterRegistry.get("cache.remote.errors").counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de invalidação entre réplicas")
+    class InvalidacaoEntreReplicasTests {
+
+        private final List<CacheInvalidationChannel.Listener> replicas = new ArrayList<>();
+        private final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager();
+
+        @Test
+        @DisplayName("Deve descartar o nível local das demais réplicas ao remover uma chave")
+        void deveDescartarNivelLocalDasDemaisReplicas() {
+            // Dado
+            UUID id = UUID.randomUUID();
+            Cache replicaA = replica().getCache("events");
+            Cache replicaB = replica().getCache("events");
+            assertEquals("v1", replicaA.get(id, () -> "v1"));
+            assertEquals("v1", replicaB.get(id, () -> "outro"));
+
+            // Quando
+            replicaA.evict(id);
+
+            // Então
+            assertNull(((TieredCache) replicaB).getLocalCache().getIfPresent(id));
+            assertEquals("v2", replicaB.get(id, () -> "v2"));
+        }
+
+        @Test
+        @DisplayName("Deve levar às demais réplicas a remoção da entrada e a troca da geração das páginas")
+        void deveLevarInvalidacaoDePaginasAsDemaisReplicas() {
+            // Dado
+            UUID id = UUID.randomUUID();
+            TieredCacheManager managerA = replica();
+            TieredCacheManager managerB = replica();
+            CacheGenerations geracoesA = new CacheGenerations(managerA);
+            CacheGenerations geracoesB = new CacheGenerations(managerB);
+            managerB.getCache("events").get(id, () -> "v1");
+            String geracao = geracoesA.current("events");
+            assertEquals(geracao, geracoesB.current("events"));
+
+            // Quando
+            new CacheInvalidator(managerA, geracoesA, meterRegistry).evictWithPages("events", id);
+
+            // Então
+            assertNull(((TieredCache) managerB.getCache("events")).getLocalCache().getIfPresent(id));
+            assertNotEquals(geracao, geracoesB.current("events"));
+            assertEquals(geracoesA.current("events"), geracoesB.current("events"));
+        }
+
+        @Test
+        @DisplayName("Deve descartar todo o nível local ao se reinscrever no canal")
+        void deveDescartarNivelLocalAoReinscrever() {
+            // Dado
+            TieredCacheManager manager = replica();
+            manager.getCache("events").put("k", "v");
+
+            // Quando
+            replicas.getLast().invalidateAll();
+
+            // Então
+            assertNull(((TieredCache) manager.getCache("events")).getLocalCache().getIfPresent("k"));
+        }
+
+        @Test
+        @DisplayName("Deve preservar o tipo da chave na mensagem de invalidação")
+        void devePreservarTipoDaChave() {
+            UUID id = UUID.randomUUID();
+
+            assertEquals(id, CacheInvalidation.decode(new CacheInvalidation("a", "events", id).encode()).key());
+            assertEquals("page:1|2", CacheInvalidation.decode(
+                    new CacheInvalidation("a", "events", "page:1|2").encode()).key());
+            assertEquals(7L, CacheInvalidation.decode(new CacheInvalidation("a", "events", 7L).encode()).key());
+            assertNull(CacheInvalidation.decode(new CacheInvalidation("a", "events", 7).encode()).key(),
+                    "Chaves de outros tipos descartam o cache inteiro");
+            assertThrows(IllegalArgumentException.class, () -> CacheInvalidation.decode("a|events"));
+        }
+
+        /**
+         * Réplica com o próprio nível local, o nível compartilhado comum e um canal que entrega as
+         * invalidações às demais réplicas.
+         */
+        private TieredCacheManager replica() {
+            int index = replicas.size();
+            CacheInvalidationChannel channel = new CacheInvalidationChannel() {
+                @Override
+                public void publish(String cacheName, Object key) {
+                    for (int i = 0; i < replicas.size(); i++) {
+                        if (i != index) {
+                            replicas.get(i).invalidate(cacheName, key);
+                        }
+                    }
+                }
+
+                @Override
+                public void subscribe(Listener listener) {
+                    replicas.add(listener);
+                }
+            };
+            return new TieredCacheManager(new TieredCacheProperties(), remoteCacheManager, channel, meterRegistry);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve limitar o nível local ao tamanho configurado")
+    void deveLimitarTamanhoDoNivelLocal() {
+        TieredCacheProperties properties = new TieredCacheProperties();
+        TieredCacheProperties.Spec spec = new TieredCacheProperties.Spec();
+        spec.setMaximumSize(10);
+        properties.getCaches().put("events", spec);
+        TieredCacheManager manager = new TieredCacheManager(properties, null, meterRegistry);
+        manager.initializeCaches();
+
+        TieredCache limitado = (TieredCache) manager.getCache("events");
+        for (int i = 0; i < 1_000; i++) {
+            limitado.put(i, i);
+        }
+        limitado.getLocalCache().cleanUp();
+
+        assertTrue(limitado.getLocalCache().estimatedSize() <= 10);
+        assertTrue(manager.getCacheNames().contains("events"));
+    }
+}
@@ -0,0 +1,133 @@
+package br.dev.leandro.spring.event.unit.controller;
+
+import br.dev.leandro.spring.event.controller.EventController;
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.exception.PreconditionFailedException;
+import br.dev.leandro.spring.event.exception.handler.GlobalExceptionHandler;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.service.AuditHistoryService;
+import br.dev.leandro.spring.event.service.EventBulkImportService;
+import br.dev.leandro.spring.event.service.EventExportService;
+import br.dev.leandro.spring.event.service.EventSearchService;
+import br.dev.leandro.spring.event.service.EventService;
+import br.dev.leandro.spring.event.service.EventStatusTransitionService;
+import br.dev.leandro.spring.event.service.EventWindowService;
+import br.dev.leandro.spring.event.utils.ETags;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes das requisições condicionais (ETag, If-None-Match e If-Match) do {@link EventController}.
+ */
+class EventControllerConditionalRequestTest {
+
+    private static final UUID ID = UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63");
+
+    private EventService eventService;
+    private MockMvc mockMvc;
+    private EventDto eventDto;
+
+    @BeforeEach
+    void setUp() {
+        eventService = mock(EventService.class);
+        EventController controller = new EventController(eventService, mock(EventMapper.class),
+                mock(EventBulkImportService.class), mock(EventExportService.class), mock(EventSearchService.class),
+                mock(EventWindowService.class), mock(AuditHistoryService.class),
+                mock(EventStatusTransitionService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
+        eventDto = new EventDto(ID, "Evento", "Descrição", LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2), "Local", EventStatus.ACTIVE, 3L);
+    }
+
+    @Test
+    @DisplayName("Deve retornar a versão como ETag sem expor a versão no corpo")
+    void deveRetornarETag() throws Exception {
+        when(eventService.getById(ID)).thenReturn(eventDto);
+
+        mockMvc.perform(get("/events/{id}", ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.name").value("Evento"))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem corpo quando If-None-Match corresponder à versão")
+    void deveResponder304() throws Exception {
+        when(eventService.getById(ID)).thenReturn(eventDto);
+
+        MvcResult result = mockMvc.perform(get("/events/{id}", ID).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andReturn();
+
+        assertEquals(0, result.getResponse().getContentLength());
+        assertEquals("", result.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 para a página de listagem não modificada")
+    void deveResponder304ParaPagina() throws Exception {
+        PageRequest pageable = PageRequest.of(0, 20);
+        when(eventService.getAll(any())).thenReturn(new PageImpl<>(List.of(eventDto), pageable, 1));
+        String etag = ETags.ofPage(new PageImpl<>(List.of(eventDto), pageable, 1), EventDto::id, EventDto::version);
+
+        mockMvc.perform(get("/events").param("page", "0").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(get("/events").param("page", "0").param("size", "20").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Deve repassar a versão do If-Match e responder 412 quando ela estiver desatualizada")
+    void deveResponder412() throws Exception {
+        doThrow(new PreconditionFailedException("O recurso foi alterado"))
+                .when(eventService).delete(ID, 2L);
+
+        mockMvc.perform(delete("/events/{id}", ID).header(HttpHeaders.IF_MATCH, "\"2\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/events/{id}", ID).header(HttpHeaders.IF_MATCH, "W/\"3\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(delete("/events/{id}", ID).header(HttpHeaders.IF_MATCH, "*"))
+                .andExpect(status().isNoContent());
+
+        verify(eventService).delete(eq(ID), isNull());
+    }
+
+    @Test
+    @DisplayName("Deve mudar a ETag da página quando um item mudar de versão")
+    void deveMudarETagDaPagina() {
+        PageRequest pageable = PageRequest.of(0, 20);
+        EventDto alterado = new EventDto(ID, "Evento", "Descrição", eventDto.startDatetime(),
+                eventDto.endDatetime(), "Local", EventStatus.ACTIVE, 4L);
+
+        assertNotEquals(
+                ETags.ofPage(new PageImpl<>(List.of(eventDto), pageable, 1), EventDto::id, EventDto::version),
+                ETags.ofPage(new PageImpl<>(List.of(alterado), pageable, 1), EventDto::id, EventDto::version));
+    }
+}
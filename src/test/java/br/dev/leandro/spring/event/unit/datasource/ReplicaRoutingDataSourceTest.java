@@ -0,0 +1,184 @@
+package br.dev.leandro.spring.event.unit.datasource;
+
+import br.dev.leandro.spring.event.datasource.ReadYourWritesTracker;
+import br.dev.leandro.spring.event.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o {@link ReplicaRoutingDataSource}, com bancos H2 em memória no papel de
+ * primário e réplicas. O atraso de cada réplica é lido da tabela {@code replica_status}.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag AS Seconds_Behind_Source FROM replica_status";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(10));
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+    private ReplicaRoutingDataSource router;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = database("primario");
+        replica1 = database("replica1");
+        replica2 = database("replica2");
+        setLag(replica1, 0);
+        setLag(replica2, 1);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica1", replica1);
+        replicas.put("replica2", replica2);
+        router = new ReplicaRoutingDataSource(primary, replicas, tracker, Duration.ofSeconds(5),
+                Duration.ofMinutes(1), LAG_QUERY, "Seconds_Behind_Source", meterRegistry);
+        router.checkReplicas();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve distribuir as leituras entre as réplicas saudáveis")
+    void deveDistribuirEntreReplicas() throws SQLException {
+        String primeira = origin(router);
+        String segunda = origin(router);
+
+        assertNotEquals(primeira, segunda);
+        assertTrue(primeira.contains("replica") && segunda.contains("replica"));
+        assertEquals(2.0, routed("replica"));
+        assertEquals(1.0, meterRegistry.get("datasource.replica.lag").tag("replica", "replica2").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve retirar a réplica atrasada e usar o primário quando nenhuma está saudável")
+    void deveRetirarReplicaAtrasada() throws SQLException {
+        // Dado
+        setLag(replica1, 30);
+        router.checkReplicas();
+
+        // Quando / Então
+        assertTrue(origin(router).contains("replica2"));
+        assertTrue(origin(router).contains("replica2"));
+        assertEquals(0.0, meterRegistry.get("datasource.replica.healthy").tag("replica", "replica1").gauge().value());
+
+        // Dado
+        setLag(replica2, 30);
+        router.checkReplicas();
+
+        // Quando / Então
+        assertTrue(origin(router).contains("primario"));
+        assertEquals(1.0, routed("no-healthy-replica"));
+    }
+
+    @Test
+    @DisplayName("Deve considerar indisponível a réplica sem status de replicação")
+    void deveConsiderarIndisponivelReplicaSemStatus() throws SQLException {
+        try (Connection connection = replica1.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM replica_status");
+        }
+
+        router.checkReplicas();
+
+        assertEquals(0.0, meterRegistry.get("datasource.replica.healthy").tag("replica", "replica1").gauge().value());
+        assertEquals(-1.0, meterRegistry.get("datasource.replica.lag").tag("replica", "replica1").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve enviar ao primário as leituras do usuário que escreveu há pouco")
+    void deveLerAsPropriasEscritasNoPrimario() throws SQLException {
+        // Dado
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("ana", null, "ROLE_USER"));
+        assertTrue(origin(router).contains("replica"));
+        TransactionExecution escrita = mock(TransactionExecution.class);
+        when(escrita.isNewTransaction()).thenReturn(true);
+
+        // Quando
+        tracker.afterCommit(escrita, null);
+
+        // Então
+        assertTrue(origin(router).contains("primario"));
+        assertEquals(1.0, routed("read-your-writes"));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bia", null, "ROLE_USER"));
+        assertTrue(origin(router).contains("replica"), "Outros usuários continuam lendo das réplicas");
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário e retirar a réplica quando a conexão com ela falha")
+    void deveUsarPrimarioQuandoReplicaFalha() throws SQLException {
+        // Dado
+        AtomicBoolean fora = new AtomicBoolean();
+        DataSource instavel = new DelegatingDataSource(replica1) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (fora.get()) {
+                    throw new SQLException("Connection refused");
+                }
+                return super.getConnection();
+            }
+        };
+        ReplicaRoutingDataSource comFalha = new ReplicaRoutingDataSource(primary, Map.of("instavel", instavel),
+                tracker, Duration.ofSeconds(5), Duration.ofMinutes(1), LAG_QUERY, "Seconds_Behind_Source",
+                meterRegistry);
+        comFalha.checkReplicas();
+        fora.set(true);
+
+        // Quando / Então
+        assertTrue(origin(comFalha).contains("primario"));
+        assertEquals(1.0, routed("replica-error"));
+        assertTrue(origin(comFalha).contains("primario"));
+        assertEquals(1.0, routed("no-healthy-replica"), "A réplica fica fora até a próxima verificação");
+    }
+
+    private double routed(String reason) {
+        return meterRegistry.find("datasource.routing").tag("reason", reason).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private static String origin(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+
+    private static DataSource database(String name) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE replica_status (lag BIGINT)");
+        }
+        return dataSource;
+    }
+
+    private static void setLag(DataSource dataSource, long lag) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM replica_status");
+            statement.execute("INSERT INTO replica_status VALUES (" + lag + ")");
+        }
+    }
+}
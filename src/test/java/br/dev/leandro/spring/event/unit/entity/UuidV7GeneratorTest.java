@@ -0,0 +1,51 @@
+package br.dev.leandro.spring.event.unit.entity;
+
+import br.dev.leandro.spring.event.entity.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link UuidV7Generator}.
+ */
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar UUID versão 7 com variante IETF e timestamp corrente")
+    void deveGerarUuidVersao7() {
+        long antes = System.currentTimeMillis();
+
+        UUID uuid = UuidV7Generator.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= antes && timestamp <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("Deve gerar valores crescentes na ordem dos bytes gravados no banco")
+    void deveGerarValoresCrescentesNaOrdemDosBytes() {
+        byte[] anterior = bytes(UuidV7Generator.next());
+        for (int i = 0; i < 10_000; i++) {
+            // Dado / Quando
+            byte[] atual = bytes(UuidV7Generator.next());
+
+            // Então: BINARY(16) é comparado byte a byte, sem sinal
+            assertTrue(Arrays.compareUnsigned(anterior, atual) < 0);
+            anterior = atual;
+        }
+    }
+
+    private static byte[] bytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
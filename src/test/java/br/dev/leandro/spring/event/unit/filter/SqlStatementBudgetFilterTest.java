@@ -0,0 +1,130 @@
+package br.dev.leandro.spring.event.unit.filter;
+
+import br.dev.leandro.spring.event.config.SqlStatementBudgetProperties;
+import br.dev.leandro.spring.event.datasource.SqlStatementCounter;
+import br.dev.leandro.spring.event.filter.CorrelationIdProperties;
+import br.dev.leandro.spring.event.filter.SqlStatementBudgetFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link SqlStatementBudgetFilter}.
+ */
+@Tag("unit")
+@DisplayName("Testes do Filtro de Orçamento de Instruções SQL")
+class SqlStatementBudgetFilterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+    private final SqlStatementBudgetProperties properties = new SqlStatementBudgetProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SqlStatementBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties.setDefaultBudget(5);
+        properties.getEndpoints().put("GET /events/{id}", 1);
+        filter = new SqlStatementBudgetFilter(properties, new CorrelationIdProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar no histograma as instruções da requisição, pelo padrão da rota")
+    void deveRegistrarInstrucoesPorEndpoint() throws Exception {
+        // Dado / Quando
+        filter.doFilter(get("/events/42"), new MockHttpServletResponse(), rota("/events/{id}", 1));
+
+        // Então
+        DistributionSummary summary = meterRegistry.get(SqlStatementBudgetFilter.STATEMENTS_METRIC)
+                .tags("method", "GET", "uri", "/events/{id}").summary();
+        assertEquals(1, summary.count());
+        assertEquals(1.0, summary.totalAmount());
+        assertNull(meterRegistry.find(SqlStatementBudgetFilter.BUDGET_EXCEEDED_METRIC).counter());
+    }
+
+    @Test
+    @DisplayName("Deve contar a requisição acima do orçamento do endpoint")
+    void deveContarRequisicaoAcimaDoOrcamento() throws Exception {
+        // Dado / Quando
+        filter.doFilter(get("/events/42"), new MockHttpServletResponse(), rota("/events/{id}", 3));
+        filter.doFilter(get("/events"), new MockHttpServletResponse(), rota("/events", 3));
+
+        // Então: o orçamento padrão (5) vale para a listagem
+        Counter exceeded = meterRegistry.get(SqlStatementBudgetFilter.BUDGET_EXCEEDED_METRIC)
+                .tags("method", "GET", "uri", "/events/{id}").counter();
+        assertEquals(1.0, exceeded.count());
+        assertEquals(1, meterRegistry.find(SqlStatementBudgetFilter.BUDGET_EXCEEDED_METRIC).counters().size());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a contagem mesmo quando a requisição falha")
+    void deveRegistrarQuandoRequisicaoFalha() {
+        // Dado
+        FilterChain falha = (request, response) -> {
+            counter.inspect("select 1");
+            throw new IllegalStateException("falha");
+        };
+
+        // Quando / Então
+        assertThrows(IllegalStateException.class,
+                () -> filter.doFilter(get("/events/42"), new MockHttpServletResponse(), falha));
+        assertEquals(1.0, meterRegistry.get(SqlStatementBudgetFilter.STATEMENTS_METRIC)
+                .tags("uri", "UNKNOWN").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Escopos aninhados devem contar as mesmas instruções")
+    void escoposAninhadosDevemContarAsMesmasInstrucoes() {
+        // Dado / Quando
+        try (SqlStatementCounter.Scope externo = SqlStatementCounter.open()) {
+            counter.inspect("select 1");
+            try (SqlStatementCounter.Scope interno = SqlStatementCounter.open()) {
+                counter.inspect("select 2");
+                counter.inspect("select 3");
+                assertEquals(2, interno.count());
+            }
+            counter.inspect("select 4");
+
+            // Então
+            assertEquals(4, externo.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve contar quando desabilitado")
+    void naoDeveContarQuandoDesabilitado() throws Exception {
+        // Dado
+        properties.setEnabled(false);
+
+        // Quando
+        filter.doFilter(get("/events/42"), new MockHttpServletResponse(), rota("/events/{id}", 3));
+
+        // Então
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    /**
+     * Simula o controller: resolve o padrão da rota e executa as instruções.
+     */
+    private FilterChain rota(String pattern, int statements) {
+        return (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            for (int i = 0; i < statements; i++) {
+                counter.inspect("select " + i);
+            }
+        };
+    }
+}
@@ -0,0 +1,203 @@
+package br.dev.leandro.spring.event.unit.outbox;
+
+import br.dev.leandro.spring.event.config.OutboxProperties;
+import br.dev.leandro.spring.event.entity.OutboxMessage;
+import br.dev.leandro.spring.event.outbox.OutboxPublisher;
+import br.dev.leandro.spring.event.outbox.OutboxRelay;
+import br.dev.leandro.spring.event.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.Invocation;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Relay do Outbox")
+class OutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0);
+    private static final UUID EVENTO_A = UUID.fromString("00000000-0000-7000-8000-00000000000a");
+    private static final UUID EVENTO_B = UUID.fromString("00000000-0000-7000-8000-00000000000b");
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> enviadas = new CopyOnWriteArrayList<>();
+    private final List<Integer> transacoesAbertasNaPublicacao = new CopyOnWriteArrayList<>();
+    private final OutboxProperties properties = new OutboxProperties();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties.setBatchSize(10);
+        properties.setConfirmTimeout(Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("Deve publicar o lote na ordem, apagar as confirmadas e exportar as métricas")
+    void devePublicarEApagarConfirmadas() {
+        // Dado
+        List<OutboxMessage> lote = List.of(
+                mensagem(1L, EVENTO_A, "event.created", NOW.minusSeconds(30)),
+                mensagem(2L, EVENTO_B, "event.created", NOW.minusSeconds(20)),
+                mensagem(3L, EVENTO_A, "event.updated", NOW.minusSeconds(10)));
+        when(outboxMessageRepository.findNextBatch(any(), any())).thenReturn(lote);
+        when(outboxMessageRepository.count()).thenReturn(4L);
+        when(outboxMessageRepository.findOldestCreatedAt()).thenReturn(Optional.of(NOW.minusSeconds(5)));
+        OutboxRelay relay = relay(message -> CompletableFuture.completedFuture(null));
+
+        // Quando
+        int publicadas = relay.drain();
+
+        // Então
+        assertEquals(3, publicadas);
+        assertEquals(List.of(1L, 2L, 3L), enviadas);
+        verify(outboxMessageRepository).claim(List.of(1L, 2L, 3L), NOW.plus(properties.getClaimTimeout()));
+        verify(outboxMessageRepository).deleteAllByIdIn(List.of(1L, 2L, 3L));
+        verify(outboxMessageRepository, never()).release(any());
+        assertEquals(List.of(0, 0, 0), transacoesAbertasNaPublicacao, "A publicação ocorre fora de transação");
+        assertEquals(2.0, meterRegistry.get("outbox.published").tag("type", "event.created").counter().count());
+        assertEquals(4.0, meterRegistry.get("outbox.pending").gauge().value());
+        assertEquals(5.0, meterRegistry.get("outbox.lag").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve reter as mensagens seguintes do agregado cuja publicação falhou")
+    void deveReterMensagensDoAgregadoComFalha() {
+        // Dado
+        List<OutboxMessage> lote = List.of(
+                mensagem(1L, EVENTO_A, "event.created", NOW),
+                mensagem(2L, EVENTO_B, "event.created", NOW),
+                mensagem(3L, EVENTO_A, "event.updated", NOW),
+                mensagem(4L, EVENTO_B, "event.updated", NOW));
+        when(outboxMessageRepository.findNextBatch(any(), any())).thenReturn(lote);
+        OutboxRelay relay = relay(message -> message.getId() == 1L
+                ? CompletableFuture.failedFuture(new IllegalStateException("nack"))
+                : CompletableFuture.completedFuture(null));
+
+        // Quando
+        int publicadas = relay.drain();
+
+        // Então
+        assertEquals(2, publicadas);
+        assertEquals(List.of(1L, 2L, 4L), enviadas, "A mensagem 3 só seguiria após a confirmação da 1");
+        verify(outboxMessageRepository).deleteAllByIdIn(List.of(2L, 4L));
+        verify(outboxMessageRepository).release(Set.of(1L, 3L));
+        assertEquals(1.0, meterRegistry.get("outbox.failed").tag("type", "event.created").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve tratar como falha a mensagem sem confirmação dentro do prazo e liberar a vaga")
+    void deveTratarConfirmacaoAtrasadaComoFalha() {
+        // Dado
+        properties.setMaxInFlight(1);
+        List<OutboxMessage> lote = List.of(
+                mensagem(1L, EVENTO_A, "event.created", NOW),
+                mensagem(2L, EVENTO_B, "event.created", NOW));
+        when(outboxMessageRepository.findNextBatch(any(), any())).thenReturn(lote);
+        Map<Long, CompletableFuture<Void>> confirmacoes = Map.of(
+                1L, new CompletableFuture<>(),
+                2L, CompletableFuture.completedFuture(null));
+        OutboxRelay relay = relay(message -> confirmacoes.get(message.getId()));
+
+        // Quando
+        int publicadas = relay.drain();
+
+        // Então
+        assertEquals(0, publicadas, "Com uma única vaga, a mensagem 2 não obtém vaga enquanto a 1 aguarda");
+        assertEquals(List.of(1L), enviadas);
+        assertTrue(confirmacoes.get(1L).isCancelled());
+        verify(outboxMessageRepository, never()).deleteAllByIdIn(any());
+
+        // Quando: novo lote com a vaga liberada
+        when(outboxMessageRepository.findNextBatch(any(), any())).thenReturn(List.of(lote.get(1)));
+        enviadas.clear();
+
+        // Então
+        assertEquals(1, relay.drain());
+        assertEquals(List.of(2L), enviadas);
+    }
+
+    @Test
+    @DisplayName("Não deve reservar mensagens de agregado com mensagem anterior fora do lote")
+    void naoDeveReservarMensagensAposMensagemAnteriorForaDoLote() {
+        // Dado: a mensagem 2 do evento A está reservada por outra instância
+        List<OutboxMessage> lote = List.of(
+                mensagem(1L, EVENTO_B, "event.created", NOW),
+                mensagem(3L, EVENTO_A, "event.updated", NOW),
+                mensagem(4L, EVENTO_B, "event.updated", NOW));
+        when(outboxMessageRepository.findNextBatch(any(), any())).thenReturn(lote);
+        OutboxMessageRepository.FirstMessage anterior = mock(OutboxMessageRepository.FirstMessage.class);
+        when(anterior.getAggregateId()).thenReturn(EVENTO_A);
+        when(anterior.getFirstId()).thenReturn(2L);
+        when(outboxMessageRepository.findFirstOutside(Set.of(EVENTO_B, EVENTO_A), List.of(1L, 3L, 4L)))
+                .thenReturn(List.of(anterior));
+        OutboxRelay relay = relay(message -> CompletableFuture.completedFuture(null));
+
+        // Quando
+        int publicadas = relay.drain();
+
+        // Então
+        assertEquals(2, publicadas);
+        assertEquals(List.of(1L, 4L), enviadas);
+        verify(outboxMessageRepository).claim(List.of(1L, 4L), NOW.plus(properties.getClaimTimeout()));
+        verify(outboxMessageRepository).deleteAllByIdIn(List.of(1L, 4L));
+    }
+
+    private OutboxRelay relay(OutboxPublisher publisher) {
+        OutboxPublisher gravando = message -> {
+            enviadas.add(message.getId());
+            transacoesAbertasNaPublicacao.add(transacoesAbertas());
+            return publisher.publish(message);
+        };
+        return new OutboxRelay(outboxMessageRepository, gravando, transactionManager, properties, meterRegistry,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    private int transacoesAbertas() {
+        Collection<Invocation> invocacoes = mockingDetails(transactionManager).getInvocations();
+        long abertas = invocacoes.stream().filter(i -> i.getMethod().getName().equals("getTransaction")).count();
+        long encerradas = invocacoes.stream()
+                .filter(i -> i.getMethod().getName().equals("commit") || i.getMethod().getName().equals("rollback"))
+                .count();
+        return (int) (abertas - encerradas);
+    }
+
+    private static OutboxMessage mensagem(Long id, UUID aggregateId, String type, LocalDateTime createdAt) {
+        return OutboxMessage.builder()
+                .id(id)
+                .aggregateType("event")
+                .aggregateId(aggregateId)
+                .eventType(type)
+                .payload("{}")
+                .createdAt(createdAt)
+                .build();
+    }
+}
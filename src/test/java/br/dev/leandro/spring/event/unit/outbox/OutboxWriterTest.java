@@ -0,0 +1,96 @@
+package br.dev.leandro.spring.event.unit.outbox;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.dto.OrganizerDto;
+import br.dev.leandro.spring.event.entity.OutboxMessage;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.entity.enums.OrganizerStatus;
+import br.dev.leandro.spring.event.outbox.OutboxEventType;
+import br.dev.leandro.spring.event.outbox.OutboxWriter;
+import br.dev.leandro.spring.event.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes da Gravação do Outbox")
+class OutboxWriterTest {
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private OutboxWriter outboxWriter;
+
+    @BeforeEach
+    void setUp() {
+        outboxWriter = new OutboxWriter(outboxMessageRepository, entityManager, objectMapper, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve incluir a versão do evento no conteúdo da mensagem")
+    void deveIncluirVersaoDoEvento() throws Exception {
+        // Dado
+        EventDto evento = new EventDto(UUID.randomUUID(), "Festival", "Descrição",
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), "São Paulo",
+                EventStatus.ACTIVE, 3L);
+        when(outboxMessageRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Quando
+        OutboxMessage message = outboxWriter.append(OutboxEventType.EVENT_UPDATED, evento.id(), () -> evento);
+
+        // Então
+        JsonNode payload = objectMapper.readTree(message.getPayload());
+        assertEquals(3L, payload.get("version").asLong());
+        assertEquals(evento.id().toString(), payload.get("id").asText());
+        assertFalse(objectMapper.writeValueAsString(evento).contains("version"),
+                "O ObjectMapper da API continua omitindo a versão");
+        verify(entityManager).flush();
+    }
+
+    @Test
+    @DisplayName("Deve incluir a versão do organizador nas mensagens gravadas em lote")
+    void deveIncluirVersaoNoLote() throws Exception {
+        // Dado
+        UUID id = UUID.randomUUID();
+        OrganizerDto organizador = new OrganizerDto("user-1", "Produtora", "contato@exemplo.com", "11999999999",
+                "12345678000199", OrganizerStatus.ACTIVE, "admin", "admin", null, null, 7L);
+
+        // Quando
+        int gravadas = outboxWriter.appendAll(OutboxEventType.ORGANIZER_UPDATED, Map.of(id, organizador));
+
+        // Então
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertEquals(1, gravadas);
+        JsonNode payload = objectMapper.readTree((String) rows.getValue().getFirst()[3]);
+        assertEquals(7L, payload.get("version").asLong());
+    }
+}
@@ -0,0 +1,149 @@
+package br.dev.leandro.spring.event.unit.repository;
+
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.TicketType;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica a leitura dos eventos com os tipos de ingresso: o número de consultas não depende da
+ * quantidade de eventos, e {@code toString}/{@code equals} não disparam a carga da associação.
+ */
+@DataJpaTest(properties = RecordingStatementInspector.PROPERTY)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class EventDetailFetchTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final UUID organizador = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("Deve carregar o evento e os tipos de ingresso em uma única consulta")
+    void deveCarregarEventoComIngressos() {
+        // Dado
+        UUID id = gravar(0, 3).getId();
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.clear();
+
+        // Quando
+        Event event = eventRepository.findWithTicketTypesByIdAndStatus(id, EventStatus.ACTIVE).orElseThrow();
+
+        // Então
+        assertTrue(Hibernate.isInitialized(event.getTicketTypes()));
+        assertEquals(List.of("Lote 0", "Lote 1", "Lote 2"),
+                event.getTicketTypes().stream().map(TicketType::getName).toList());
+        assertEquals(1, RecordingStatementInspector.statements("select").size());
+    }
+
+    @Test
+    @DisplayName("Deve manter constante o número de consultas ao aumentar a página")
+    void deveManterConstanteNumeroDeConsultas() {
+        // Dado
+        for (int i = 0; i < 12; i++) {
+            gravar(i, 2);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Quando
+        int paginaDeDois = consultasParaPagina(2);
+        int paginaDeDez = consultasParaPagina(10);
+
+        // Então: ids da página, contagem e eventos com os tipos de ingresso
+        assertEquals(3, paginaDeDois);
+        assertEquals(paginaDeDois, paginaDeDez);
+    }
+
+    @Test
+    @DisplayName("toString e equals não devem carregar os tipos de ingresso")
+    void naoDeveCarregarIngressosNoToStringOuEquals() {
+        // Dado
+        UUID id = gravar(0, 2).getId();
+        entityManager.flush();
+        entityManager.clear();
+        Event event = eventRepository.findByIdAndStatus(id, EventStatus.ACTIVE).orElseThrow();
+        RecordingStatementInspector.clear();
+
+        // Quando
+        String texto = event.toString();
+        boolean igual = event.equals(Event.builder().id(id).build());
+        int hash = event.hashCode();
+
+        // Então
+        assertTrue(texto.contains(id.toString()));
+        assertTrue(igual);
+        assertEquals(Event.builder().id(id).build().hashCode(), hash);
+        assertFalse(Hibernate.isInitialized(event.getTicketTypes()));
+        assertTrue(RecordingStatementInspector.statements("select").isEmpty());
+    }
+
+    private int consultasParaPagina(int tamanho) {
+        entityManager.clear();
+        RecordingStatementInspector.clear();
+        // Com a página cheia, o Spring Data também executa a consulta de count
+        Page<UUID> ids = eventRepository.findIdsByStatus(EventStatus.ACTIVE,
+                PageRequest.of(0, tamanho, Sort.by("startDatetime")));
+        List<Event> events = eventRepository.findWithTicketTypesByIdIn(ids.getContent());
+        assertEquals(tamanho, events.size());
+        events.forEach(event -> assertEquals(2, event.getTicketTypes().size()));
+        assertTrue(RecordingStatementInspector.statements("select").stream()
+                .noneMatch(sql -> sql.toLowerCase(Locale.ROOT).contains("offset")
+                        && sql.toLowerCase(Locale.ROOT).contains("ticket_types")),
+                "A paginação não deve ser feita sobre o join com os tipos de ingresso");
+        return RecordingStatementInspector.statements("select").size();
+    }
+
+    private Event gravar(int dias, int tiposDeIngresso) {
+        Event event = Event.builder()
+                .name("Evento " + dias)
+                .location("São Paulo")
+                .startDatetime(LocalDateTime.now().plusDays(dias + 1))
+                .endDatetime(LocalDateTime.now().plusDays(dias + 2))
+                .status(EventStatus.ACTIVE)
+                .organizerId(organizador)
+                .build();
+        List<TicketType> tipos = new ArrayList<>();
+        for (int i = 0; i < tiposDeIngresso; i++) {
+            tipos.add(TicketType.builder()
+                    .name("Lote " + i)
+                    .price(BigDecimal.TEN)
+                    .quantityAvailable(100)
+                    .event(event)
+                    .build());
+        }
+        event.setTicketTypes(tipos);
+        return eventRepository.save(event);
+    }
+}
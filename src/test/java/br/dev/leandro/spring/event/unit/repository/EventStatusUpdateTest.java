@@ -0,0 +1,150 @@
+package br.dev.leandro.spring.event.unit.repository;
+
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.outbox.OutboxEventType;
+import br.dev.leandro.spring.event.outbox.OutboxWriter;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica a transição de status em lote no banco: bloqueio dos eventos do bloco, troca de status
+ * em um único UPDATE com incremento da versão e gravação do outbox em lote JDBC.
+ */
+@DataJpaTest(properties = RecordingStatementInspector.PROPERTY)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class EventStatusUpdateTest {
+
+    private static final Set<EventStatus> ORIGENS = EventStatus.sourcesOf(EventStatus.CANCELLED);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID organizador = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("Deve trocar o status do bloco em um único UPDATE, incrementando a versão")
+    void deveTrocarStatusEmUmUpdate() {
+        // Dado
+        List<Event> eventos = List.of(
+                gravar(EventStatus.ACTIVE, 10),
+                gravar(EventStatus.ACTIVE, 11),
+                gravar(EventStatus.DELETED, 12),
+                gravar(EventStatus.ACTIVE, 13));
+        List<UUID> ids = eventos.stream().map(Event::getId).toList();
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.clear();
+
+        // Quando
+        List<Event> deOutroOrganizador = eventRepository.lockAllByIdInAndStatusIn(ids, ORIGENS, UUID.randomUUID());
+        List<Event> doOrganizador = eventRepository.lockAllByIdInAndStatusIn(ids, ORIGENS, organizador);
+        List<Event> bloqueados = eventRepository.lockAllByIdInAndStatusIn(ids, ORIGENS, null);
+        int alterados = eventRepository.updateStatus(ids, ORIGENS, EventStatus.CANCELLED, "ana", LocalDateTime.now());
+
+        // Então
+        assertEquals(3, bloqueados.size(), "O evento excluído não permite a transição");
+        assertTrue(deOutroOrganizador.isEmpty());
+        assertEquals(bloqueados, doOrganizador);
+        assertEquals(3, alterados);
+        assertTrue(RecordingStatementInspector.statements("select").getFirst()
+                .toLowerCase(Locale.ROOT).contains("for update"));
+        assertEquals(1, RecordingStatementInspector.statements("update").size());
+        Event cancelado = eventRepository.findByIdAndStatus(ids.getFirst(), EventStatus.CANCELLED).orElseThrow();
+        assertEquals(1L, cancelado.getVersion());
+        assertEquals("ana", cancelado.getUpdatedBy());
+        assertTrue(eventRepository.findByIdAndStatus(ids.get(2), EventStatus.DELETED).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve ler o próximo bloco do filtro em ordem de id, a partir do último processado")
+    void deveLerBlocosDoFiltro() {
+        // Dado
+        List<UUID> ids = List.of(
+                gravar(EventStatus.ACTIVE, 10).getId(),
+                gravar(EventStatus.DRAFT, 11).getId(),
+                gravar(EventStatus.ACTIVE, 40).getId());
+        entityManager.flush();
+        entityManager.clear();
+        LocalDateTime ate = LocalDateTime.now().plusDays(30);
+
+        // Quando
+        List<Event> primeiro = eventRepository.lockNextByFilter(ORIGENS, organizador, null, ate, null,
+                PageRequest.ofSize(1));
+        List<Event> segundo = eventRepository.lockNextByFilter(ORIGENS, organizador, null, ate,
+                primeiro.getLast().getId(), PageRequest.ofSize(10));
+
+        // Então
+        assertEquals(List.of(ids.get(0)), primeiro.stream().map(Event::getId).toList());
+        assertEquals(List.of(ids.get(1)), segundo.stream().map(Event::getId).toList(),
+                "O evento fora do período não entra no filtro");
+        assertTrue(eventRepository.lockNextByFilter(ORIGENS, UUID.randomUUID(), null, null, null,
+                PageRequest.ofSize(10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve gravar as mensagens do outbox em lote, na ordem informada")
+    void deveGravarOutboxEmLote() {
+        // Dado
+        OutboxWriter writer = new OutboxWriter(outboxMessageRepository, entityManager,
+                new ObjectMapper().findAndRegisterModules(), jdbcTemplate);
+        Map<UUID, Object> mensagens = new LinkedHashMap<>();
+        mensagens.put(UUID.randomUUID(), Map.of("status", "CANCELLED"));
+        mensagens.put(UUID.randomUUID(), Map.of("status", "CANCELLED"));
+
+        // Quando
+        int gravadas = writer.appendAll(OutboxEventType.EVENT_UPDATED, mensagens);
+
+        // Então
+        assertEquals(2, gravadas);
+        assertEquals(List.copyOf(mensagens.keySet()), outboxMessageRepository.findNextBatch(LocalDateTime.now(), PageRequest.ofSize(10))
+                .stream().map(message -> message.getAggregateId()).toList());
+    }
+
+    private Event gravar(EventStatus status, int dias) {
+        return eventRepository.save(Event.builder()
+                .name("Evento " + dias)
+                .location("São Paulo")
+                .startDatetime(LocalDateTime.now().plusDays(dias))
+                .endDatetime(LocalDateTime.now().plusDays(dias + 1))
+                .status(status)
+                .organizerId(organizador)
+                .build());
+    }
+}
@@ -0,0 +1,114 @@
+package br.dev.leandro.spring.event.unit.repository;
+
+import br.dev.leandro.spring.event.entity.OutboxMessage;
+import br.dev.leandro.spring.event.repository.OutboxMessageRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica a leitura em lotes, com bloqueio e na ordem de gravação, a reserva e a remoção das
+ * mensagens publicadas do outbox.
+ */
+@DataJpaTest(properties = RecordingStatementInspector.PROPERTY)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class OutboxMessageRepositoryTest {
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Deve ler o lote na ordem de gravação, com FOR UPDATE, e apagar as publicadas")
+    void deveLerLoteEmOrdemEApagarPublicadas() {
+        // Dado
+        UUID agregado = UUID.randomUUID();
+        List<Long> ids = List.of(
+                gravar(agregado, "event.created").getId(),
+                gravar(UUID.randomUUID(), "event.created").getId(),
+                gravar(agregado, "event.updated").getId());
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.clear();
+
+        // Quando
+        List<OutboxMessage> lote = outboxMessageRepository.findNextBatch(LocalDateTime.now(), PageRequest.ofSize(2));
+
+        // Então
+        assertEquals(ids.subList(0, 2), lote.stream().map(OutboxMessage::getId).toList());
+        assertEquals(agregado, lote.getFirst().getAggregateId());
+        assertTrue(RecordingStatementInspector.statements("select").getFirst().toLowerCase(Locale.ROOT).contains("for update"));
+
+        // Quando
+        outboxMessageRepository.deleteAllByIdIn(ids.subList(0, 2));
+
+        // Então
+        assertEquals(1, outboxMessageRepository.count());
+        assertEquals("event.updated", outboxMessageRepository.findNextBatch(LocalDateTime.now(), PageRequest.ofSize(10))
+                .getFirst().getEventType());
+        assertTrue(outboxMessageRepository.findOldestCreatedAt().isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar mensagens reservadas até a reserva vencer ou ser desfeita")
+    void deveIgnorarMensagensReservadas() {
+        // Dado
+        UUID agregado = UUID.randomUUID();
+        long primeira = gravar(agregado, "event.created").getId();
+        long segunda = gravar(agregado, "event.updated").getId();
+        long outra = gravar(UUID.randomUUID(), "event.created").getId();
+        LocalDateTime agora = LocalDateTime.now();
+
+        // Quando
+        outboxMessageRepository.claim(List.of(primeira), agora.plusMinutes(2));
+        entityManager.clear();
+
+        // Então
+        assertEquals(List.of(segunda, outra), ids(outboxMessageRepository.findNextBatch(agora, PageRequest.ofSize(10))));
+        assertEquals(List.of(primeira, segunda, outra),
+                ids(outboxMessageRepository.findNextBatch(agora.plusMinutes(3), PageRequest.ofSize(10))),
+                "A reserva vencida volta ao lote");
+        List<OutboxMessageRepository.FirstMessage> anteriores =
+                outboxMessageRepository.findFirstOutside(Set.of(agregado), List.of(segunda, outra));
+        assertEquals(1, anteriores.size());
+        assertEquals(agregado, anteriores.getFirst().getAggregateId());
+        assertEquals(primeira, anteriores.getFirst().getFirstId());
+
+        // Quando
+        outboxMessageRepository.release(List.of(primeira));
+        entityManager.clear();
+
+        // Então
+        assertEquals(List.of(primeira, segunda, outra),
+                ids(outboxMessageRepository.findNextBatch(agora, PageRequest.ofSize(10))));
+    }
+
+    private static List<Long> ids(List<OutboxMessage> messages) {
+        return messages.stream().map(OutboxMessage::getId).toList();
+    }
+
+    private OutboxMessage gravar(UUID aggregateId, String type) {
+        return outboxMessageRepository.save(OutboxMessage.builder()
+                .aggregateType("event")
+                .aggregateId(aggregateId)
+                .eventType(type)
+                .payload("{\"id\":\"" + aggregateId + "\"}")
+                .build());
+    }
+}
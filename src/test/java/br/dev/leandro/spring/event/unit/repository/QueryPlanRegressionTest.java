@@ -0,0 +1,123 @@
+package br.dev.leandro.spring.event.unit.repository;
+
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.entity.enums.OrganizerStatus;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.repository.OrganizerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Teste de regressão dos planos de consulta dos repositórios.
+ * <p>
+ * Cada consulta gerada pelo Hibernate é capturada e submetida ao {@code EXPLAIN} do H2. O teste
+ * falha se o plano fizer varredura completa da tabela ou usar um índice sem restringir a sua
+ * primeira coluna (o H2 reporta o índice escolhido mesmo quando o percorre por inteiro).
+ * </p>
+ */
+@DataJpaTest(properties = RecordingStatementInspector.PROPERTY)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class QueryPlanRegressionTest {
+
+    private static final Pattern INDEX_USAGE = Pattern.compile("/\\* PUBLIC\\.(\\w+)(?:: ([^*]*))? \\*/");
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OrganizerRepository organizerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("Consultas de eventos devem usar índice")
+    void consultasDeEventosDevemUsarIndice() {
+        eventRepository.findByIdAndStatus(UUID.randomUUID(), EventStatus.ACTIVE);
+        eventRepository.findDtoByIdAndStatus(UUID.randomUUID(), EventStatus.ACTIVE);
+        // Página 1 força também a consulta de count
+        eventRepository.findDtoAllByStatus(EventStatus.ACTIVE, PageRequest.of(1, 10));
+        eventRepository.findDtoAllByStatus(EventStatus.ACTIVE, PageRequest.of(1, 10, Sort.by("startDatetime")));
+        eventRepository.findWithTicketTypesByIdAndStatus(UUID.randomUUID(), EventStatus.ACTIVE);
+        eventRepository.findIdsByStatus(EventStatus.ACTIVE, PageRequest.of(1, 10, Sort.by("startDatetime")));
+        eventRepository.findWithTicketTypesByIdIn(List.of(UUID.randomUUID(), UUID.randomUUID()));
+        eventRepository.findFirstSliceByStatus(EventStatus.ACTIVE, PageRequest.of(0, 10));
+        eventRepository.findSliceByStatusAfter(EventStatus.ACTIVE, LocalDateTime.now(), UUID.randomUUID(),
+                PageRequest.of(0, 10));
+        try (Stream<Event> events = eventRepository.streamAllByStatus(EventStatus.ACTIVE)) {
+            assertEquals(0, events.count());
+        }
+        LocalDateTime from = LocalDateTime.now();
+        eventRepository.findOverlapping(EventStatus.ACTIVE, from, from.plusDays(7), PageRequest.of(1, 10));
+        try (Stream<Event> events = eventRepository.streamOverlapping(EventStatus.ACTIVE, from, from.plusDays(7))) {
+            assertEquals(0, events.count());
+        }
+
+        assertAllStatementsUseIndex();
+    }
+
+    @Test
+    @DisplayName("Consultas de organizadores devem usar índice")
+    void consultasDeOrganizadoresDevemUsarIndice() {
+        organizerRepository.findByIdAndStatus(UUID.randomUUID(), OrganizerStatus.ACTIVE);
+        organizerRepository.findDtoByIdAndStatus(UUID.randomUUID(), OrganizerStatus.ACTIVE);
+        organizerRepository.findDtoAllByStatus(OrganizerStatus.ACTIVE, PageRequest.of(1, 10));
+        organizerRepository.findFirstSliceByStatus(OrganizerStatus.ACTIVE, PageRequest.of(0, 10));
+        organizerRepository.findSliceByStatusAfter(OrganizerStatus.ACTIVE, LocalDateTime.now(), UUID.randomUUID(),
+                PageRequest.of(0, 10));
+        organizerRepository.existsByUserId("user-1");
+
+        assertAllStatementsUseIndex();
+    }
+
+    private void assertAllStatementsUseIndex() {
+        List<String> statements = RecordingStatementInspector.statements("select");
+        assertFalse(statements.isEmpty(), "Nenhuma consulta capturada");
+        for (String sql : statements) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+            assertFalse(plan.contains("tableScan"), () -> "Varredura completa:\n" + sql + "\n" + plan);
+
+            Matcher matcher = INDEX_USAGE.matcher(plan);
+            assertTrue(matcher.find(), () -> "Plano sem índice:\n" + sql + "\n" + plan);
+            do {
+                String index = matcher.group(1);
+                String condition = matcher.group(2) == null ? "" : matcher.group(2).toUpperCase(Locale.ROOT);
+                String leadingColumn = leadingColumn(index);
+                assertTrue(condition.matches("(?s).*\\b" + leadingColumn + " (=|>|<|IN|IS).*"),
+                        () -> "Índice " + index + " percorrido sem restringir " + leadingColumn + ":\n" + sql + "\n" + plan);
+            } while (matcher.find());
+        }
+    }
+
+    private String leadingColumn(String index) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS
+                WHERE INDEX_NAME = ? AND ORDINAL_POSITION = 1
+                """, String.class, index);
+    }
+}
@@ -0,0 +1,131 @@
+package br.dev.leandro.spring.event.unit.repository;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.dto.OrganizerDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.Organizer;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.entity.enums.OrganizerStatus;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.repository.OrganizerRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica as leituras por projeção: os DTOs são montados direto do resultado da consulta, sem
+ * carregar entidades no contexto de persistência nem consultar os tipos de ingresso.
+ */
+@DataJpaTest(properties = RecordingStatementInspector.PROPERTY)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class ReadProjectionTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OrganizerRepository organizerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    @DisplayName("Deve ler eventos como DTO sem gerenciar entidades")
+    void deveLerEventosComoDto() {
+        // Dado
+        Event ativo = gravar(EventStatus.ACTIVE, 10);
+        gravar(EventStatus.ACTIVE, 20);
+        Event cancelado = gravar(EventStatus.CANCELLED, 5);
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.clear();
+
+        // Quando
+        EventDto dto = eventRepository.findDtoByIdAndStatus(ativo.getId(), EventStatus.ACTIVE).orElseThrow();
+        Page<EventDto> page = eventRepository.findDtoAllByStatus(EventStatus.ACTIVE,
+                PageRequest.of(0, 1, Sort.by("startDatetime")));
+
+        // Então
+        assertEquals(ativo.getId(), dto.id());
+        assertEquals(ativo.getName(), dto.name());
+        assertEquals(ativo.getDescription(), dto.description());
+        assertEquals(ativo.getLocation(), dto.location());
+        assertEquals(EventStatus.ACTIVE, dto.status());
+        assertEquals(0L, dto.version());
+        assertEquals(List.of(ativo.getId()), page.getContent().stream().map(EventDto::id).toList());
+        assertEquals(2, page.getTotalElements());
+        assertTrue(eventRepository.findDtoByIdAndStatus(cancelado.getId(), EventStatus.ACTIVE).isEmpty());
+        assertEquals(0, managedEntities(), "A projeção não deve registrar entidades no contexto de persistência");
+        assertTrue(RecordingStatementInspector.statements("select").stream()
+                        .noneMatch(sql -> sql.toLowerCase(Locale.ROOT).contains("ticket_types")),
+                "A projeção não deve consultar os tipos de ingresso");
+    }
+
+    @Test
+    @DisplayName("Deve ler organizadores como DTO sem gerenciar entidades")
+    void deveLerOrganizadoresComoDto() {
+        // Dado
+        Organizer ativo = organizerRepository.save(Organizer.builder()
+                .userId(UUID.randomUUID().toString())
+                .organizationName("Produtora Exemplo")
+                .contactEmail("contato@exemplo.com")
+                .contactPhone("11999999999")
+                .documentNumber("12345678000199")
+                .status(OrganizerStatus.ACTIVE)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Quando
+        OrganizerDto dto = organizerRepository.findDtoByIdAndStatus(ativo.getId(), OrganizerStatus.ACTIVE)
+                .orElseThrow();
+        Page<OrganizerDto> page = organizerRepository.findDtoAllByStatus(OrganizerStatus.ACTIVE,
+                PageRequest.of(0, 10));
+
+        // Então
+        assertEquals(ativo.getUserId(), dto.userId());
+        assertEquals("Produtora Exemplo", dto.organizationName());
+        assertEquals("contato@exemplo.com", dto.contactEmail());
+        assertEquals(OrganizerStatus.ACTIVE, dto.status());
+        assertEquals(List.of(dto), page.getContent());
+        assertEquals(0, managedEntities());
+    }
+
+    private int managedEntities() {
+        return entityManager.unwrap(SessionImplementor.class).getPersistenceContext().getNumberOfManagedEntities();
+    }
+
+    private Event gravar(EventStatus status, int dias) {
+        return eventRepository.save(Event.builder()
+                .name("Evento " + dias)
+                .description("Descrição " + dias)
+                .location("São Paulo")
+                .startDatetime(LocalDateTime.now().plusDays(dias))
+                .endDatetime(LocalDateTime.now().plusDays(dias + 1))
+                .status(status)
+                .organizerId(UUID.randomUUID())
+                .build());
+    }
+}
@@ -0,0 +1,48 @@
+package br.dev.leandro.spring.event.unit.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registra o SQL de cada instrução preparada pelo Hibernate.
+ * <p>
+ * Com lote JDBC, a instrução é preparada uma vez por lote, de modo que o número de registros
+ * corresponde ao número de idas ao banco.
+ * </p>
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    /** Propriedade que registra este inspetor na fábrica de sessões dos testes. */
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "br.dev.leandro.spring.event.unit.repository.RecordingStatementInspector";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    /**
+     * Descarta as instruções registradas.
+     */
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * Retorna as instruções registradas que começam com o comando informado.
+     *
+     * @param command Comando SQL (por exemplo, {@code select} ou {@code insert})
+     * @return Instruções na ordem em que foram preparadas
+     */
+    public static List<String> statements(String command) {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith(command))
+                .toList();
+    }
+}
@@ -0,0 +1,99 @@
+package br.dev.leandro.spring.event.unit.repository;
+
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.Organizer;
+import br.dev.leandro.spring.event.entity.TicketType;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.entity.enums.OrganizerStatus;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.repository.OrganizerRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que os tipos de ingresso criados em cascata com o evento são inseridos em lote JDBC.
+ */
+@DataJpaTest(properties = RecordingStatementInspector.PROPERTY)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class TicketTypeBatchInsertTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OrganizerRepository organizerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UUID organizerId;
+
+    @BeforeEach
+    void setUp() {
+        Organizer organizer = organizerRepository.save(Organizer.builder()
+                .userId(UUID.randomUUID().toString())
+                .organizationName("Organização Teste")
+                .status(OrganizerStatus.ACTIVE)
+                .contactEmail("contato@teste.com")
+                .contactPhone("11999999999")
+                .documentNumber("12345678900")
+                .build());
+        entityManager.flush();
+        organizerId = organizer.getId();
+    }
+
+    @Test
+    @DisplayName("Deve manter constante o número de inserts ao aumentar os tipos de ingresso")
+    void deveManterConstanteNumeroDeInserts() {
+        // Dado / Quando
+        int umTipo = insertsAoCriarEvento(1);
+        int dezTipos = insertsAoCriarEvento(10);
+        int cinquentaTipos = insertsAoCriarEvento(50);
+
+        // Então: um insert do evento e um lote com os tipos de ingresso
+        assertEquals(2, umTipo);
+        assertEquals(umTipo, dezTipos);
+        assertEquals(umTipo, cinquentaTipos);
+    }
+
+    private int insertsAoCriarEvento(int ticketTypes) {
+        Event event = Event.builder()
+                .name("Evento Teste")
+                .location("São Paulo")
+                .startDatetime(LocalDateTime.now().plusDays(10))
+                .endDatetime(LocalDateTime.now().plusDays(11))
+                .status(EventStatus.ACTIVE)
+                .organizerId(organizerId)
+                .build();
+        List<TicketType> tipos = new ArrayList<>();
+        for (int i = 0; i < ticketTypes; i++) {
+            tipos.add(TicketType.builder()
+                    .name("Lote " + i)
+                    .price(BigDecimal.TEN)
+                    .quantityAvailable(100)
+                    .event(event)
+                    .build());
+        }
+        event.setTicketTypes(tipos);
+
+        RecordingStatementInspector.clear();
+        eventRepository.save(event);
+        entityManager.flush();
+        return RecordingStatementInspector.statements("insert").size();
+    }
+}
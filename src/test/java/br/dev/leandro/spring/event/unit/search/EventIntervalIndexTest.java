@@ -0,0 +1,121 @@
+package br.dev.leandro.spring.event.unit.search;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.search.EventIntervalIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link EventIntervalIndex}.
+ */
+class EventIntervalIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 6, 1, 0, 0);
+
+    private final EventIntervalIndex index = new EventIntervalIndex();
+
+    @Test
+    @DisplayName("Deve retornar os eventos que se sobrepõem à janela, inclusive os longos iniciados antes dela")
+    void deveRetornarEventosSobrepostos() {
+        EventDto festival = event(BASE.minusDays(10), BASE.plusDays(5));
+        EventDto antes = event(BASE.minusDays(2), BASE);
+        EventDto dentro = event(BASE.plusHours(10), BASE.plusHours(12));
+        EventDto cruzaFim = event(BASE.plusHours(23), BASE.plusDays(2));
+        EventDto depois = event(BASE.plusDays(1), BASE.plusDays(1).plusHours(2));
+        List.of(depois, cruzaFim, dentro, antes, festival).forEach(index::put);
+
+        Page<EventDto> pagina = index.overlapping(BASE, BASE.plusDays(1), Pageable.unpaged());
+
+        assertEquals(List.of(festival, dentro, cruzaFim), pagina.getContent(),
+                "Término igual ao início da janela e início igual ao fim ficam de fora");
+    }
+
+    @Test
+    @DisplayName("Deve paginar na ordem (início, id) com o total da janela")
+    void devePaginarNaOrdemDeInicio() {
+        UUID menor = UUID.fromString("00000000-0000-7000-8000-000000000001");
+        UUID maior = UUID.fromString("00000000-0000-7000-8000-000000000002");
+        EventDto empateMaior = event(maior, BASE.plusHours(1), BASE.plusHours(2));
+        EventDto empateMenor = event(menor, BASE.plusHours(1), BASE.plusHours(2));
+        EventDto ultimo = event(BASE.plusHours(3), BASE.plusHours(4));
+        EventDto primeiro = event(BASE, BASE.plusHours(1));
+        List.of(ultimo, empateMaior, primeiro, empateMenor).forEach(index::put);
+
+        Page<EventDto> segunda = index.overlapping(BASE, BASE.plusDays(1), PageRequest.of(1, 2));
+
+        assertEquals(List.of(empateMaior, ultimo), segunda.getContent());
+        assertEquals(4, segunda.getTotalElements());
+        assertEquals(List.of(primeiro, empateMenor),
+                index.overlapping(BASE, BASE.plusDays(1), PageRequest.of(0, 2)).getContent());
+    }
+
+    @Test
+    @DisplayName("Deve mover o evento quando as datas mudam e removê-lo")
+    void deveMoverERemoverEvento() {
+        EventDto original = event(BASE.plusHours(1), BASE.plusHours(2));
+        index.put(original);
+        EventDto remarcado = event(original.id(), BASE.plusDays(3), BASE.plusDays(3).plusHours(1));
+
+        index.put(remarcado);
+
+        assertTrue(index.overlapping(BASE, BASE.plusDays(1), Pageable.unpaged()).isEmpty());
+        assertEquals(List.of(remarcado), index.overlapping(BASE.plusDays(3), BASE.plusDays(4), Pageable.unpaged()).getContent());
+        assertEquals(1, index.size());
+
+        index.remove(original.id());
+
+        assertTrue(index.overlapping(BASE.plusDays(3), BASE.plusDays(4), Pageable.unpaged()).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Deve substituir no lugar o evento cujo início não mudou")
+    void deveSubstituirNoLugar() {
+        EventDto original = event(BASE, BASE.plusHours(2));
+        EventDto vizinho = event(BASE.plusHours(1), BASE.plusHours(2));
+        index.put(original);
+        index.put(vizinho);
+        EventDto prorrogado = event(original.id(), BASE, BASE.plusDays(2));
+
+        index.put(prorrogado);
+
+        assertEquals(List.of(prorrogado), index.overlapping(BASE.plusDays(1), BASE.plusDays(3), Pageable.unpaged()).getContent());
+        assertEquals(List.of(prorrogado, vizinho), index.overlapping(BASE, BASE.plusHours(3), Pageable.unpaged()).getContent());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Deve incluir, mover e remover um lote de eventos de uma vez")
+    void deveAtualizarLote() {
+        EventDto mantido = event(BASE.plusHours(2), BASE.plusHours(3));
+        EventDto removido = event(BASE.plusHours(1), BASE.plusHours(2));
+        EventDto movido = event(BASE.plusHours(4), BASE.plusHours(5));
+        List.of(mantido, removido, movido).forEach(index::put);
+        EventDto remarcado = event(movido.id(), BASE, BASE.plusHours(1));
+        EventDto novo = event(BASE.plusHours(6), BASE.plusHours(7));
+
+        index.update(List.of(remarcado, novo), List.of(removido.id(), UUID.randomUUID()));
+
+        assertEquals(List.of(remarcado, mantido, novo),
+                index.overlapping(BASE, BASE.plusDays(1), Pageable.unpaged()).getContent());
+        assertEquals(3, index.size());
+    }
+
+    private static EventDto event(LocalDateTime start, LocalDateTime end) {
+        return event(UUID.randomUUID(), start, end);
+    }
+
+    private static EventDto event(UUID id, LocalDateTime start, LocalDateTime end) {
+        return new EventDto(id, "Evento", null, start, end, "Local", EventStatus.ACTIVE, 1L);
+    }
+}
@@ -0,0 +1,144 @@
+package br.dev.leandro.spring.event.unit.search;
+
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.search.EventSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link EventSearchIndex}.
+ */
+class EventSearchIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 5, 10, 19, 0);
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por relevância, com o nome pesando mais que a descrição")
+    void deveOrdenarPorRelevancia() {
+        EventDto naDescricao = event("Encontro de tecnologia", "Palestras sobre Java e Spring", "Recife");
+        EventDto noNome = event("Conferência Java", "Dois dias de palestras", "Recife");
+        index.index(naDescricao);
+        index.index(noNome);
+
+        List<EventDto> resultado = index.search("java", 10);
+
+        assertEquals(List.of(noNome.id(), naDescricao.id()), resultado.stream().map(EventDto::id).toList());
+        assertEquals(noNome, resultado.getFirst(), "O resultado deve vir completo do índice, sem consultar o banco");
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos, maiúsculas e plurais simples")
+    void deveIgnorarAcentosEMaiusculas() {
+        EventDto evento = event("Festival de Música", "Shows ao ar livre", "São Paulo");
+        index.index(evento);
+
+        assertEquals(1, index.search("sao paulo", 10).size());
+        assertEquals(1, index.search("MUSICA", 10).size());
+        assertEquals(1, index.search("festivais", 10).size());
+        assertEquals(1, index.search("show", 10).size());
+        assertEquals(1, index.search("fest*", 10).size());
+    }
+
+    @Test
+    @DisplayName("Deve exigir todos os termos e aceitar alternativas e exclusões")
+    void deveExigirTodosOsTermos() {
+        index.index(event("Workshop de Kotlin", null, "Curitiba"));
+        index.index(event("Workshop de Java", null, "Recife"));
+
+        assertEquals(1, index.search("workshop java", 10).size());
+        assertEquals(2, index.search("kotlin | java", 10).size());
+        assertEquals(1, index.search("workshop -recife", 10).size());
+        assertTrue(index.search("workshop \"", 10).size() <= 2, "Sintaxe inválida não deve lançar exceção");
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações e remoções imediatamente")
+    void deveRefletirAtualizacoesERemocoes() {
+        EventDto evento = event("Hackathon", "Maratona de programação", "Natal");
+        index.index(evento);
+
+        EventDto atualizado = new EventDto(evento.id(), "Hackathon Fintech", evento.description(),
+                evento.startDatetime(), evento.endDatetime(), "Fortaleza", EventStatus.ACTIVE, 2L);
+        index.index(atualizado);
+
+        assertTrue(index.search("natal", 10).isEmpty());
+        assertEquals(List.of(atualizado), index.search("fortaleza", 10));
+        assertEquals(1, index.size());
+
+        index.remove(evento.id());
+
+        assertTrue(index.search("hackathon", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Deve manter fora do índice eventos que não estão ativos")
+    void deveIgnorarEventosNaoAtivos() {
+        EventDto evento = event("Meetup de dados", null, "Belém");
+        index.index(evento);
+
+        index.index(new EventDto(evento.id(), evento.name(), null, START, START.plusHours(2),
+                evento.location(), EventStatus.DELETED, 2L));
+
+        assertTrue(index.search("meetup", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o índice em paralelo substituindo o conteúdo anterior")
+    void deveReconstruirEmParalelo() {
+        index.index(event("Evento antigo", null, "Manaus"));
+        List<EventDto> catalogo = IntStream.range(0, 1_000)
+                .mapToObj(i -> event("Evento " + i, "Descrição do evento " + i, i % 2 == 0 ? "Recife" : "Olinda"))
+                .toList();
+
+        long indexados = index.rebuild(catalogo.iterator(), 4, 64);
+
+        assertEquals(1_000, indexados);
+        assertEquals(1_000, index.size());
+        assertTrue(index.search("manaus", 10).isEmpty());
+        assertEquals(100, index.search("olinda", 100).size());
+        assertEquals(1, index.search("\"evento 742\"", 10).size());
+    }
+
+    @Test
+    @DisplayName("Deve incluir e remover vários eventos em uma única escrita")
+    void deveIndexarVariosEventos() {
+        EventDto cancelado = event("Feira de livros", "Lançamentos", "Olinda");
+        index.index(cancelado);
+        EventDto novo = event("Feira de artesanato", "Peças locais", "Olinda");
+
+        index.indexAll(List.of(novo, new EventDto(cancelado.id(), cancelado.name(), cancelado.description(),
+                START, START.plusHours(3), cancelado.location(), EventStatus.CANCELLED, 2L)));
+
+        assertEquals(List.of(novo.id()), index.search("feira", 10).stream().map(EventDto::id).toList());
+        assertEquals(1, index.size());
+    }
+
+    private static EventDto event(String name, String description, String location) {
+        return new EventDto(UUID.randomUUID(), name, description, START, START.plusHours(3), location,
+                EventStatus.ACTIVE, 1L);
+    }
+}
@@ -0,0 +1,132 @@
+package br.dev.leandro.spring.event.unit.security;
+
+import br.dev.leandro.spring.event.config.JwtCacheProperties;
+import br.dev.leandro.spring.event.security.CachingJwtDecoder;
+import br.dev.leandro.spring.event.security.VerifiedJwtCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o {@link CachingJwtDecoder} e o {@link VerifiedJwtCache}.
+ */
+class CachingJwtDecoderTest {
+
+    private JwtDecoder delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedJwtCache cache;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JwtDecoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedJwtCache(new JwtCacheProperties(), meterRegistry, Clock.systemUTC());
+        decoder = new CachingJwtDecoder(delegate, cache);
+    }
+
+    @Test
+    @DisplayName("Deve verificar o token apenas na primeira requisição")
+    void deveVerificarTokenApenasUmaVez() {
+        // Dado
+        Jwt jwt = jwt("token-a", Instant.now().plusSeconds(300));
+        when(delegate.decode("token-a")).thenReturn(jwt);
+
+        // Quando
+        Jwt primeiro = decoder.decode("token-a");
+        Jwt segundo = decoder.decode("token-a");
+
+        // Então
+        assertSame(jwt, primeiro);
+        assertSame(jwt, segundo);
+        verify(delegate, times(1)).decode("token-a");
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", VerifiedJwtCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", VerifiedJwtCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Não deve servir do cache um token já expirado")
+    void naoDeveServirTokenExpirado() {
+        // Dado
+        Jwt expirado = jwt("token-b", Instant.now().minusSeconds(1));
+        when(delegate.decode("token-b")).thenReturn(expirado);
+
+        // Quando
+        decoder.decode("token-b");
+        decoder.decode("token-b");
+
+        // Então
+        verify(delegate, times(2)).decode("token-b");
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar tokens rejeitados pelo decodificador")
+    void naoDeveArmazenarTokenRejeitado() {
+        // Dado
+        when(delegate.decode("token-c")).thenThrow(new BadJwtException("assinatura inválida"));
+
+        // Quando / Então
+        assertThrows(BadJwtException.class, () -> decoder.decode("token-c"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("token-c"));
+        verify(delegate, times(2)).decode("token-c");
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    @DisplayName("Deve converter as autoridades de um token apenas uma vez")
+    void deveConverterAutoridadesUmaVez() {
+        // Dado
+        Jwt jwt = jwt("token-d", Instant.now().plusSeconds(300));
+        @SuppressWarnings("unchecked")
+        Converter<Jwt, Collection<GrantedAuthority>> converter = mock(Converter.class);
+        when(converter.convert(jwt)).thenReturn(new ArrayList<>(List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        // Quando
+        Collection<GrantedAuthority> primeiro = cache.authorities(jwt, converter);
+        Collection<GrantedAuthority> segundo = cache.authorities(jwt, converter);
+
+        // Então
+        assertSame(primeiro, segundo);
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_USER")), primeiro);
+        assertThrows(UnsupportedOperationException.class, () -> primeiro.add(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        verify(converter, times(1)).convert(jwt);
+    }
+
+    @Test
+    @DisplayName("Deve usar o resumo SHA-256 do token como chave")
+    void deveUsarResumoDoTokenComoChave() {
+        String chave = cache.key("token-e");
+
+        assertEquals(64, chave.length());
+        assertFalse(chave.contains("token-e"));
+        assertEquals(chave, cache.key("token-e"));
+        assertNotEquals(chave, cache.key("token-f"));
+    }
+
+    private static Jwt jwt(String tokenValue, Instant expiresAt) {
+        return Jwt.withTokenValue(tokenValue)
+                .header("alg", "RS256")
+                .subject("usuario-teste")
+                .issuedAt(expiresAt.minusSeconds(600))
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package br.dev.leandro.spring.event.unit.security;
+
+import br.dev.leandro.spring.event.config.JwksProperties;
+import br.dev.leandro.spring.event.security.PrefetchingJwkSource;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSetCacheRefreshEvaluator;
+import com.nimbusds.jose.jwk.source.JWKSetSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link PrefetchingJwkSource}.
+ */
+class PrefetchingJwkSourceTest {
+
+    private StubOrigin origin;
+    private PrefetchingJwkSource jwkSource;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        origin = new StubOrigin(new JWKSet(rsaKey("kid-1")));
+        jwkSource = new PrefetchingJwkSource(origin, new JwksProperties());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jwkSource.destroy();
+    }
+
+    @Test
+    @DisplayName("Deve buscar as chaves na inicialização e servir as requisições do cache")
+    void deveBuscarChavesNaInicializacao() throws KeySourceException {
+        // Dado
+        jwkSource.afterPropertiesSet();
+        assertEquals(1, origin.calls.get());
+
+        // Quando
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1, jwkSource.get(selector("kid-1"), null).size());
+        }
+
+        // Então
+        assertEquals(1, origin.calls.get(), "Nenhuma requisição deve ir à rede com a chave conhecida");
+    }
+
+    @Test
+    @DisplayName("Deve buscar novamente as chaves quando o kid for desconhecido")
+    void deveBuscarNovamenteComKidDesconhecido() throws JOSEException, KeySourceException {
+        // Dado: o Keycloak rotaciona a chave depois da carga inicial
+        jwkSource.afterPropertiesSet();
+        origin.jwkSet = new JWKSet(rsaKey("kid-2"));
+
+        // Quando
+        int encontradas = jwkSource.get(selector("kid-2"), null).size();
+
+        // Então
+        assertEquals(1, encontradas);
+        assertEquals(2, origin.calls.get());
+    }
+
+    @Test
+    @DisplayName("Deve limitar as buscas disparadas por kids desconhecidos")
+    void deveLimitarBuscasPorKidDesconhecido() throws KeySourceException {
+        // Dado
+        jwkSource.afterPropertiesSet();
+
+        // Quando
+        for (int i = 0; i < 50; i++) {
+            try {
+                jwkSource.get(selector("kid-" + i + "-forjado"), null);
+            } catch (KeySourceException e) {
+                // limite atingido: a busca é recusada sem ir à rede
+            }
+        }
+
+        // Então
+        assertTrue(origin.calls.get() <= 3, "Buscas à origem: " + origin.calls.get());
+        assertEquals(1, jwkSource.get(selector("kid-1"), null).size());
+    }
+
+    @Test
+    @DisplayName("Não deve impedir a inicialização quando o Keycloak estiver indisponível")
+    void naoDeveFalharInicializacaoSemKeycloak() {
+        // Dado
+        origin.failing = true;
+
+        // Quando / Então
+        assertDoesNotThrow(() -> jwkSource.afterPropertiesSet());
+    }
+
+    private static JWKSelector selector(String kid) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(kid).build());
+    }
+
+    private static RSAKey rsaKey(String kid) throws JOSEException {
+        return new RSAKeyGenerator(2048).keyID(kid).generate().toPublicJWK();
+    }
+
+    private static final class StubOrigin implements JWKSetSource<SecurityContext> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile JWKSet jwkSet;
+        private volatile boolean failing;
+
+        private StubOrigin(JWKSet jwkSet) {
+            this.jwkSet = jwkSet;
+        }
+
+        @Override
+        public JWKSet getJWKSet(JWKSetCacheRefreshEvaluator refreshEvaluator, long currentTime, SecurityContext context)
+                throws KeySourceException {
+            calls.incrementAndGet();
+            if (failing) {
+                throw new KeySourceException("Keycloak indisponível");
+            }
+            return jwkSet;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package br.dev.leandro.spring.event.unit.security.keycloak;
+
+import br.dev.leandro.spring.event.exception.ResourceNotFoundException;
+import br.dev.leandro.spring.event.security.keycloak.KeycloakAdminTokenProvider;
+import br.dev.leandro.spring.event.security.keycloak.KeycloakClientProperties;
+import br.dev.leandro.spring.event.security.keycloak.KeycloakProperties;
+import br.dev.leandro.spring.event.security.keycloak.KeycloakUserClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o {@link KeycloakAdminTokenProvider} e o {@link KeycloakUserClient}.
+ */
+class KeycloakClientTest {
+
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger tokens = new AtomicInteger();
+    private MutableClock clock;
+    private KeycloakAdminTokenProvider tokenProvider;
+    private KeycloakUserClient userClient;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        KeycloakProperties keycloakProperties = new KeycloakProperties();
+        keycloakProperties.setRealm("event-management");
+        keycloakProperties.setClientId("user-service-admin");
+        keycloakProperties.setClientSecret("segredo");
+        KeycloakClientProperties clientProperties = new KeycloakClientProperties();
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://keycloak")
+                .exchangeFunction(this::exchange)
+                .build();
+        tokenProvider = new KeycloakAdminTokenProvider(webClient, keycloakProperties, clientProperties, clock);
+        userClient = new KeycloakUserClient(webClient, tokenProvider, keycloakProperties, clientProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar o token administrativo até a janela de renovação")
+    void deveReutilizarToken() {
+        assertEquals("token-1", tokenProvider.accessToken().block());
+        clock.advance(Duration.ofSeconds(200));
+
+        assertEquals("token-1", tokenProvider.accessToken().block());
+        assertEquals(1, tokens.get());
+    }
+
+    @Test
+    @DisplayName("Deve renovar o token antes de expirar sem fazer a chamada esperar")
+    void deveRenovarTokenAntesDeExpirar() {
+        // Dado: o token expira em 300s e é renovado 30s antes
+        tokenProvider.accessToken().block();
+        clock.advance(Duration.ofSeconds(280));
+
+        // Quando
+        String emUso = tokenProvider.accessToken().block();
+
+        // Então: a chamada usa o token corrente e a renovação ocorre em segundo plano
+        assertEquals("token-1", emUso);
+        assertEquals(2, tokens.get());
+        assertEquals("token-2", tokenProvider.accessToken().block());
+    }
+
+    @Test
+    @DisplayName("Deve buscar novo token quando o corrente já expirou")
+    void deveBuscarNovoTokenQuandoExpirado() {
+        tokenProvider.accessToken().block();
+        clock.advance(Duration.ofSeconds(301));
+
+        assertEquals("token-2", tokenProvider.accessToken().block());
+    }
+
+    @Test
+    @DisplayName("Deve servir consultas repetidas de usuário a partir do cache")
+    void deveServirUsuarioDoCache() {
+        // Quando
+        UserRepresentation primeiro = userClient.findUser("u-1").block();
+        UserRepresentation segundo = userClient.findUser("u-1").block();
+
+        // Então
+        assertEquals("maria", primeiro.getUsername());
+        assertSame(primeiro, segundo);
+        assertEquals(1, requests.stream().filter(r -> r.url().getPath().endsWith("/users/u-1")).count());
+        ClientRequest consulta = requests.stream().filter(r -> r.url().getPath().endsWith("/users/u-1")).findFirst().orElseThrow();
+        assertEquals("Bearer token-1", consulta.headers().getFirst(HttpHeaders.AUTHORIZATION));
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", "keycloak-users").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar usuário inexistente")
+    void naoDeveArmazenarUsuarioInexistente() {
+        assertThrows(ResourceNotFoundException.class, () -> userClient.findUser("inexistente").block());
+        assertThrows(ResourceNotFoundException.class, () -> userClient.findUser("inexistente").block());
+
+        assertEquals(2, requests.stream().filter(r -> r.url().getPath().endsWith("/users/inexistente")).count());
+    }
+
+    @Test
+    @DisplayName("Deve consultar os papéis de realm do usuário")
+    void deveConsultarPapeisDeRealm() {
+        assertEquals("USER", userClient.findRealmRoles("u-1").block().get(0).getName());
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request) {
+        requests.add(request);
+        String path = request.url().getPath();
+        if (path.endsWith("/protocol/openid-connect/token")) {
+            return json("{\"access_token\":\"token-" + tokens.incrementAndGet() + "\",\"expires_in\":300}");
+        }
+        if (path.endsWith("/users/u-1")) {
+            return json("{\"id\":\"u-1\",\"username\":\"maria\"}");
+        }
+        if (path.endsWith("/users/u-1/role-mappings/realm")) {
+            return json("[{\"name\":\"USER\"}]");
+        }
+        return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+    }
+
+    private static Mono<ClientResponse> json(String body) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package br.dev.leandro.spring.event.unit.service;
+
+import br.dev.leandro.spring.event.audit.AuditChange;
+import br.dev.leandro.spring.event.audit.AuditHistoryWriter;
+import br.dev.leandro.spring.event.config.AuditHistoryProperties;
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.filter.CorrelationIdProperties;
+import br.dev.leandro.spring.event.mapper.AuditHistoryMapper;
+import br.dev.leandro.spring.event.repository.AuditHistoryRepository;
+import br.dev.leandro.spring.event.service.AuditHistoryService;
+import br.dev.leandro.spring.event.service.AuditHistoryServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Serviço de Histórico de Auditoria")
+class AuditHistoryServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0);
+    private static final UUID ID = UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63");
+
+    @Mock
+    private AuditHistoryWriter writer;
+
+    @Mock
+    private AuditHistoryRepository auditHistoryRepository;
+
+    @Mock
+    private AuditHistoryMapper auditHistoryMapper;
+
+    private final AuditHistoryProperties properties = new AuditHistoryProperties();
+    private AuditHistoryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AuditHistoryServiceImpl(writer, auditHistoryRepository, auditHistoryMapper, properties,
+                new CorrelationIdProperties(), Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Deve registrar uma entrada por campo alterado, ignorando a versão")
+    void deveRegistrarCamposAlterados() {
+        // Dado
+        MDC.put("correlationId", "corr-1");
+        EventDto antes = evento("Evento", "Local A", 3L);
+        EventDto depois = evento("Evento", "Local B", 4L);
+
+        // Quando
+        int registradas = service.recordUpdate(AuditHistoryService.EVENT, ID, antes, depois, 4L, "ana");
+
+        // Então
+        assertEquals(1, registradas);
+        verify(writer).offerAll(List.of(
+                new AuditChange("event", ID, 4L, "location", "Local A", "Local B", "ana", NOW, "corr-1")));
+    }
+
+    @Test
+    @DisplayName("Deve enfileirar as alterações de vários agregados de uma só vez")
+    void deveRegistrarVariasAlteracoesDeUmaVez() {
+        // Dado
+        UUID outro = UUID.fromString("0190a6f2-1c3e-7b4d-9a8e-123456789abc");
+        EventDto evento = evento("Evento", "Local A", 3L);
+
+        // Quando
+        int registradas = service.recordUpdates(AuditHistoryService.EVENT, List.of(
+                new AuditHistoryService.Update<>(ID, evento, evento("Evento", "Local B", 4L), 4L),
+                new AuditHistoryService.Update<>(outro, evento, evento, 4L),
+                new AuditHistoryService.Update<>(outro, evento, evento("Outro", "Local A", 5L), 5L)), "ana");
+
+        // Então
+        assertEquals(2, registradas);
+        verify(writer).offerAll(List.of(
+                new AuditChange("event", ID, 4L, "location", "Local A", "Local B", "ana", NOW, null),
+                new AuditChange("event", outro, 5L, "name", "Evento", "Outro", "ana", NOW, null)));
+        verifyNoMoreInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("Não deve registrar nada sem mudanças ou com o histórico desabilitado")
+    void naoDeveRegistrarSemMudancas() {
+        EventDto evento = evento("Evento", "Local A", 3L);
+
+        assertEquals(0, service.recordUpdate(AuditHistoryService.EVENT, ID, evento, evento, 3L, "ana"));
+
+        properties.setEnabled(false);
+        assertEquals(0, service.recordUpdate(AuditHistoryService.EVENT, ID, evento,
+                evento("Outro", "Local A", 4L), 4L, "ana"));
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o histórico sem a ordenação pedida pelo cliente")
+    void deveConsultarHistoricoSemOrdenacao() {
+        // Dado
+        when(auditHistoryRepository.findHistory(any(), any(), any())).thenReturn(Page.empty());
+
+        // Quando
+        service.history(AuditHistoryService.EVENT, ID, PageRequest.of(1, 20, Sort.by("field")));
+
+        // Então
+        verify(auditHistoryRepository).findHistory(AuditHistoryService.EVENT, ID, PageRequest.of(1, 20));
+    }
+
+    private static EventDto evento(String name, String location, Long version) {
+        return new EventDto(ID, name, "Descrição", NOW.plusDays(1), NOW.plusDays(2), location,
+                EventStatus.ACTIVE, version);
+    }
+}
@@ -0,0 +1,218 @@
+package br.dev.leandro.spring.event.unit.service;
+
+import br.dev.leandro.spring.event.config.BulkImportProperties;
+import br.dev.leandro.spring.event.dto.BulkImportReportDto;
+import br.dev.leandro.spring.event.dto.BulkRecordResultDto;
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.outbox.OutboxEventType;
+import br.dev.leandro.spring.event.outbox.OutboxWriter;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.service.EventBulkImportService.Format;
+import br.dev.leandro.spring.event.service.EventBulkImportServiceImpl;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.hibernate.Session;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes da Importação de Eventos em Lote")
+class EventBulkImportServiceImplTest {
+
+    private static final String ORGANIZER_ID = "6785e97d-53d1-4be2-9233-3f8cfb549f63";
+    private static final String FUTURE = LocalDateTime.now().plusDays(30).withNano(0).toString();
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BulkImportProperties properties;
+    private EventBulkImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new BulkImportProperties();
+        properties.setChunkSize(2);
+        lenient().when(entityManager.unwrap(Session.class)).thenReturn(session);
+        lenient().when(eventRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            events.forEach(event -> event.setId(UUID.randomUUID()));
+            return events;
+        });
+        service = new EventBulkImportServiceImpl(eventRepository, Mappers.getMapper(EventMapper.class),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                JsonMapper.builder().findAndAddModules()
+                        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build(),
+                outboxWriter, transactionManager, entityManager, properties, meterRegistry);
+
+        Jwt jwtMock = Mockito.mock(Jwt.class);
+        lenient().when(jwtMock.getClaim("preferred_username")).thenReturn("usuario-teste");
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(jwtMock, null));
+    }
+
+    @AfterEach
+    void teardown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve importar NDJSON em blocos e reportar cada registro")
+    void deveImportarNdjsonEmBlocos() {
+        // Dado
+        String ndjson = String.join("\n",
+                evento("Evento 1"),
+                "",
+                "{json quebrado",
+                evento("Evento 2"),
+                "{\"name\":\"\",\"location\":\"SP\",\"startDatetime\":\"" + FUTURE + "\",\"endDatetime\":\"" + FUTURE + "\"}",
+                evento("Evento 3"));
+
+        // Quando
+        BulkImportReportDto report = service.importEvents(ORGANIZER_ID, input(ndjson), Format.NDJSON);
+
+        // Então
+        assertEquals(5, report.total());
+        assertEquals(3, report.imported());
+        assertEquals(2, report.failed());
+        assertEquals(List.of(1L, 3L, 4L, 5L, 6L), report.results().stream().map(BulkRecordResultDto::record).toList());
+        assertTrue(report.results().get(1).errors().getFirst().startsWith("JSON inválido"));
+        assertEquals(List.of("name: Nome do evento é obrigatório"), report.results().get(3).errors());
+
+        // Blocos de 2: [Evento 1, Evento 2] e [Evento 3]
+        ArgumentCaptor<List<Event>> chunks = ArgumentCaptor.captor();
+        verify(eventRepository, times(2)).saveAll(chunks.capture());
+        assertEquals(List.of(2, 1), chunks.getAllValues().stream().map(List::size).toList());
+        Event primeiro = chunks.getAllValues().getFirst().getFirst();
+        assertEquals(EventStatus.DRAFT, primeiro.getStatus());
+        assertEquals(UUID.fromString(ORGANIZER_ID), primeiro.getOrganizerId());
+        assertEquals("usuario-teste", primeiro.getCreatedBy());
+        ArgumentCaptor<Map<UUID, EventDto>> mensagens = ArgumentCaptor.captor();
+        verify(outboxWriter, times(2)).appendAll(eq(OutboxEventType.EVENT_CREATED), mensagens.capture());
+        assertEquals(List.of(2, 1), mensagens.getAllValues().stream().map(Map::size).toList());
+        assertEquals(primeiro.getId(), mensagens.getAllValues().getFirst().keySet().iterator().next());
+        verify(entityManager, times(2)).clear();
+        verify(session, times(2)).setJdbcBatchSize(properties.getJdbcBatchSize());
+        assertEquals(3.0, meterRegistry.get("events.bulk.records").tag("result", "imported").counter().count());
+        assertEquals(2.0, meterRegistry.get("events.bulk.records").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve importar CSV com cabeçalho")
+    void deveImportarCsv() {
+        // Dado
+        String csv = "name,description,location,startDatetime,endDatetime\n"
+                + "Festival,,Recife," + FUTURE + "," + FUTURE + "\n"
+                + "Sem data,,Recife,," + FUTURE + "\n"
+                + "Data ruim,,Recife,amanhã," + FUTURE + "\n";
+
+        // Quando
+        BulkImportReportDto report = service.importEvents(ORGANIZER_ID, input(csv), Format.CSV);
+
+        // Então
+        assertEquals(3, report.total());
+        assertEquals(1, report.imported());
+        assertNotNull(report.results().getFirst().id());
+        assertEquals(List.of("startDatetime: Data de início é obrigatória"), report.results().get(1).errors());
+        assertTrue(report.results().get(2).errors().getFirst().startsWith("Registro inválido"));
+        verify(outboxWriter).appendAll(eq(OutboxEventType.EVENT_CREATED),
+                argThat(payloads -> payloads.keySet().equals(Set.of(report.results().getFirst().id()))));
+    }
+
+    @Test
+    @DisplayName("Deve regravar um a um o bloco que falhar e rejeitar apenas o registro recusado pelo banco")
+    void deveRejeitarApenasORegistroComFalha() {
+        // Dado: o banco recusa qualquer lote com o evento "Recusado"
+        doAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            if (events.stream().anyMatch(event -> event.getName().equals("Recusado"))) {
+                throw new DataIntegrityViolationException("falha");
+            }
+            events.forEach(event -> event.setId(UUID.randomUUID()));
+            return events;
+        }).when(eventRepository).saveAll(any());
+        String ndjson = String.join("\n", evento("A"), evento("Recusado"), evento("C"), evento("x".repeat(256)));
+
+        // Quando
+        BulkImportReportDto report = service.importEvents(ORGANIZER_ID, input(ndjson), Format.NDJSON);
+
+        // Então
+        assertEquals(2, report.imported());
+        assertEquals(List.of(true, false, true, false),
+                report.results().stream().map(BulkRecordResultDto::imported).toList());
+        assertEquals(List.of("Falha ao persistir o registro no banco de dados."), report.results().get(1).errors());
+        assertEquals(List.of("name: Nome deve ter no máximo 255 caracteres"), report.results().get(3).errors());
+        // [A, Recusado] falha e é regravado como [A] e [Recusado]; [C] é gravado direto
+        verify(eventRepository, times(4)).saveAll(any());
+        verify(outboxWriter, times(2)).appendAll(eq(OutboxEventType.EVENT_CREATED), any());
+        assertEquals(2.0, meterRegistry.get("events.bulk.records").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve interromper a leitura ao exceder o limite de registros")
+    void deveInterromperAoExcederLimite() {
+        // Dado
+        properties.setMaxRecords(2);
+        String ndjson = String.join("\n", evento("A"), evento("B"), evento("C"), evento("D"));
+
+        // Quando
+        BulkImportReportDto report = service.importEvents(ORGANIZER_ID, input(ndjson), Format.NDJSON);
+
+        // Então
+        assertEquals(3, report.total());
+        assertEquals(2, report.imported());
+        assertFalse(report.results().getLast().imported());
+    }
+
+    private static String evento(String name) {
+        return "{\"name\":\"" + name + "\",\"location\":\"São Paulo\",\"startDatetime\":\"" + FUTURE
+                + "\",\"endDatetime\":\"" + FUTURE + "\"}";
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,133 @@
+package br.dev.leandro.spring.event.unit.service;
+
+import br.dev.leandro.spring.event.cache.CacheInvalidator;
+import br.dev.leandro.spring.event.cache.ReadThroughCache;
+import br.dev.leandro.spring.event.dto.EventDetailDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.TicketType;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.exception.ResourceNotFoundException;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.outbox.OutboxWriter;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.service.AuditHistoryService;
+import br.dev.leandro.spring.event.service.EventSearchService;
+import br.dev.leandro.spring.event.service.EventServiceImpl;
+import br.dev.leandro.spring.event.service.EventWindowService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static br.dev.leandro.spring.event.support.SqlStatementAssertions.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Fixa o número de instruções SQL das leituras de {@code GET /events/{id}/full} e
+ * {@code GET /events/full}, com o {@code SqlStatementCounter} registrado como inspetor da fábrica
+ * de sessões, como na aplicação.
+ */
+@DataJpaTest(properties = EventDetailStatementCountTest.STATEMENT_COUNTER)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class EventDetailStatementCountTest {
+
+    static final String STATEMENT_COUNTER = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "br.dev.leandro.spring.event.datasource.SqlStatementCounter";
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EventServiceImpl eventService;
+
+    @BeforeEach
+    void setUp() {
+        eventService = new EventServiceImpl(eventRepository, Mappers.getMapper(EventMapper.class),
+                mock(ReadThroughCache.class), mock(CacheInvalidator.class), mock(EventSearchService.class),
+                mock(EventWindowService.class), mock(OutboxWriter.class), mock(AuditHistoryService.class),
+                transactionManager);
+    }
+
+    @Test
+    @DisplayName("Deve ler o evento com os tipos de ingresso em uma instrução")
+    void deveLerDetalheEmUmaInstrucao() {
+        // Dado
+        UUID id = gravar(0).getId();
+        entityManager.flush();
+        entityManager.clear();
+        AtomicReference<EventDetailDto> detail = new AtomicReference<>();
+
+        // Quando / Então
+        assertStatementCount(1, () -> detail.set(eventService.getDetailById(id)));
+        assertEquals(2, detail.get().ticketTypes().size());
+        assertStatementCount(1, () -> assertThrows(ResourceNotFoundException.class,
+                () -> eventService.getDetailById(UUID.randomUUID())));
+    }
+
+    @Test
+    @DisplayName("Deve listar os detalhes com uma instrução sem eventos e duas com página incompleta")
+    void deveListarDetalhesComInstrucoesFixas() {
+        PageRequest pagina = PageRequest.of(0, 10, Sort.by("startDatetime"));
+
+        // Sem eventos, só a consulta dos ids: sem count (página incompleta) e sem o join
+        assertStatementCount(1, () -> assertTrue(eventService.getAllDetails(pagina).isEmpty()));
+
+        // Dado
+        for (int i = 0; i < 3; i++) {
+            gravar(i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        AtomicReference<Page<EventDetailDto>> page = new AtomicReference<>();
+
+        // Quando / Então: ids da página e eventos com os tipos de ingresso
+        assertStatementCount(2, () -> page.set(eventService.getAllDetails(pagina)));
+        assertEquals(3, page.get().getTotalElements());
+        page.get().forEach(detail -> assertEquals(2, detail.ticketTypes().size()));
+    }
+
+    private Event gravar(int dias) {
+        Event event = Event.builder()
+                .name("Evento " + dias)
+                .location("São Paulo")
+                .startDatetime(LocalDateTime.now().plusDays(dias + 1))
+                .endDatetime(LocalDateTime.now().plusDays(dias + 2))
+                .status(EventStatus.ACTIVE)
+                .organizerId(UUID.randomUUID())
+                .build();
+        event.setTicketTypes(new ArrayList<>(List.of(ticketType(event, "Pista"), ticketType(event, "Camarote"))));
+        return eventRepository.save(event);
+    }
+
+    private static TicketType ticketType(Event event, String name) {
+        return TicketType.builder()
+                .name(name)
+                .price(BigDecimal.TEN)
+                .quantityAvailable(100)
+                .event(event)
+                .build();
+    }
+}
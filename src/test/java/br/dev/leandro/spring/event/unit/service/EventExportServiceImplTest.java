@@ -0,0 +1,105 @@
+package br.dev.leandro.spring.event.unit.service;
+
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.service.EventExportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes da Exportação de Eventos")
+class EventExportServiceImplTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+    private EventExportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EventExportServiceImpl(eventRepository, Mappers.getMapper(EventMapper.class),
+                entityManager, transactionManager, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Deve escrever um evento por linha, desanexar cada entidade e fechar o cursor")
+    void deveEscreverUmEventoPorLinha() throws IOException {
+        // Dado
+        Event primeiro = evento("Evento 1");
+        Event segundo = evento("Evento 2");
+        AtomicBoolean fechado = new AtomicBoolean();
+        when(eventRepository.streamAllByStatus(EventStatus.ACTIVE))
+                .thenReturn(Stream.of(primeiro, segundo).onClose(() -> fechado.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Quando
+        long exportados = service.exportActive(output);
+
+        // Então
+        assertEquals(2, exportados);
+        String[] linhas = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, linhas.length);
+        assertEquals("Evento 1", objectMapper.readTree(linhas[0]).get("name").asText());
+        assertEquals(segundo.getId().toString(), objectMapper.readTree(linhas[1]).get("id").asText());
+        verify(entityManager).detach(primeiro);
+        verify(entityManager).detach(segundo);
+        assertTrue(fechado.get());
+    }
+
+    @Test
+    @DisplayName("Deve gerar corpo vazio quando não houver eventos")
+    void deveGerarCorpoVazio() throws IOException {
+        // Dado
+        when(eventRepository.streamAllByStatus(EventStatus.ACTIVE)).thenReturn(Stream.empty());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Quando / Então
+        assertEquals(0, service.exportActive(output));
+        assertEquals(0, output.size());
+    }
+
+    private static Event evento(String name) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .location("São Paulo")
+                .startDatetime(LocalDateTime.now().plusDays(1))
+                .endDatetime(LocalDateTime.now().plusDays(2))
+                .status(EventStatus.ACTIVE)
+                .build();
+    }
+}
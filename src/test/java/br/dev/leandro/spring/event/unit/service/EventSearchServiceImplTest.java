@@ -0,0 +1,100 @@
+package br.dev.leandro.spring.event.unit.service;
+
+import br.dev.leandro.spring.event.config.EventSearchProperties;
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.service.EventSearchServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes da Busca Textual de Eventos")
+class EventSearchServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EventSearchServiceImpl service;
+    private Event existente;
+
+    @BeforeEach
+    void setUp() {
+        EventSearchProperties properties = new EventSearchProperties();
+        properties.setRefreshInterval(Duration.ZERO);
+        service = new EventSearchServiceImpl(eventRepository, Mappers.getMapper(EventMapper.class), entityManager,
+                transactionManager, properties, new SimpleMeterRegistry(),
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        existente = evento("Festival de jazz", EventStatus.ACTIVE);
+        when(eventRepository.streamAllByStatus(EventStatus.ACTIVE)).thenReturn(Stream.of(existente));
+        service.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        service.destroy();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar ao índice os eventos alterados por outras réplicas desde a reconstrução")
+    void deveAplicarAlteracoesDeOutrasReplicas() {
+        // Dado: outra réplica removeu o evento existente e criou um novo
+        existente.setStatus(EventStatus.DELETED);
+        Event novo = evento("Festival de blues", EventStatus.ACTIVE);
+        when(eventRepository.streamUpdatedSince(NOW.minusMinutes(1))).thenReturn(Stream.of(existente, novo));
+
+        // Quando
+        long relidos = service.refresh();
+
+        // Então
+        assertEquals(2, relidos);
+        assertEquals(List.of(novo.getId()),
+                service.search("festival", 10).stream().map(EventDto::id).toList());
+        verify(entityManager).detach(novo);
+    }
+
+    private static Event evento(String name, EventStatus status) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .location("Recife")
+                .startDatetime(NOW.plusDays(2))
+                .endDatetime(NOW.plusDays(2).plusHours(3))
+                .status(status)
+                .version(1L)
+                .build();
+    }
+}
@@ -1,12 +1,23 @@
 package br.dev.leandro.spring.event.unit.service;
 
+import br.dev.leandro.spring.event.cache.CacheInvalidator;
+import br.dev.leandro.spring.event.cache.ReadThroughCache;
+import br.dev.leandro.spring.event.dto.CursorPageDto;
+import br.dev.leandro.spring.event.dto.EventDetailDto;
 import br.dev.leandro.spring.event.dto.EventDto;
 import br.dev.leandro.spring.event.entity.Event;
 import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.exception.PreconditionFailedException;
 import br.dev.leandro.spring.event.exception.ResourceNotFoundException;
 import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.outbox.OutboxEventType;
+import br.dev.leandro.spring.event.outbox.OutboxWriter;
+import br.dev.leandro.spring.event.pagination.KeysetCursor;
 import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.service.AuditHistoryService;
+import br.dev.leandro.spring.event.service.EventSearchService;
 import br.dev.leandro.spring.event.service.EventServiceImpl;
+import br.dev.leandro.spring.event.service.EventWindowService;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -17,17 +28,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -44,6 +58,27 @@ class EventServiceImplTest {
     @Mock
     private EventMapper eventMapper;
 
+    @Mock
+    private ReadThroughCache readThroughCache;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private EventSearchService eventSearchService;
+
+    @Mock
+    private EventWindowService eventWindowService;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    @Mock
+    private AuditHistoryService auditHistoryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private EventServiceImpl eventService;
 
@@ -64,7 +99,8 @@ class EventServiceImplTest {
                 startDateTime,
                 endDateTime,
                 "Local do Evento",
-                EventStatus.ACTIVE
+                EventStatus.ACTIVE,
+                0L
         );
 
         // Criar entidade de evento
@@ -79,8 +115,15 @@ class EventServiceImplTest {
                 .organizerId(UUID.fromString("af6dbc91-2458-49c4-9708-73fa9cb7317c"))
                 .ticketTypes(new ArrayList<>())
                 .createdBy("user-id-123")
+                .version(3L)
                 .build();
 
+        // Cache sempre em falta: as leituras delegam ao carregador
+        lenient().when(readThroughCache.get(anyString(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        lenient().when(readThroughCache.getPage(anyString(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+
         Jwt jwtMock = Mockito.mock(Jwt.class);
         lenient().when(jwtMock.getClaim("preferred_username")).thenReturn("usuario-teste");
 
@@ -122,7 +165,9 @@ class EventServiceImplTest {
             // Verificar interações
             verify(eventMapper, times(1)).toEntity(eventDto);
             verify(eventRepository, times(1)).save(event);
+            verify(outboxWriter, times(1)).append(eq(OutboxEventType.EVENT_CREATED), eq(event.getId()), any());
             verifyNoMoreInteractions(eventMapper, eventRepository);
+            verifyNoInteractions(cacheInvalidator, eventSearchService, eventWindowService);
         }
 
         @Test
@@ -164,6 +209,7 @@ class EventServiceImplTest {
             when(eventRepository.findByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE)).thenReturn(Optional.of(event));
 //            doNothing().when(eventMapper).updateEntityFromDto(eventDto, event);
             when(eventRepository.save(event)).thenReturn(event);
+            when(eventMapper.toDto(event)).thenReturn(eventDto);
 
             // Quando
             Event result = eventService.update(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), eventDto);
@@ -182,6 +228,11 @@ class EventServiceImplTest {
             verify(eventRepository, times(1)).findByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE);
             verify(eventMapper, times(1)).updateEntityFromDto(eventDto, event);
             verify(eventRepository, times(1)).save(event);
+            verify(eventMapper, times(2)).toDto(event);
+            verify(eventSearchService, times(1)).index(eventDto);
+            verify(eventWindowService, times(1)).index(eventDto);
+            verify(auditHistoryService, times(1)).recordUpdate(AuditHistoryService.EVENT, event.getId(),
+                    eventDto, eventDto, event.getVersion(), "usuario-teste");
             verifyNoMoreInteractions(eventRepository, eventMapper);
         }
 
@@ -201,6 +252,19 @@ class EventServiceImplTest {
             verifyNoInteractions(eventMapper);
         }
 
+        @Test
+        @DisplayName("Deve rejeitar a atualização quando a versão do If-Match estiver desatualizada")
+        void shouldRejectUpdateWithStaleVersion() {
+            // Dado
+            UUID eventId = UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63");
+            when(eventRepository.findByIdAndStatus(eventId, EventStatus.ACTIVE)).thenReturn(Optional.of(event));
+
+            // Quando / Então
+            assertThrows(PreconditionFailedException.class, () -> eventService.update(eventId, eventDto, 2L));
+            verify(eventRepository, never()).save(any(Event.class));
+            verifyNoInteractions(eventMapper, cacheInvalidator);
+        }
+
 
         @Test
         @DisplayName("Deve lidar com entrada nula ao atualizar evento")
@@ -219,6 +283,7 @@ class EventServiceImplTest {
             verify(eventRepository, times(1)).findByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE);
             verify(eventMapper, times(1)).updateEntityFromDto(nullDto, event);
             verify(eventRepository, times(1)).save(event);
+            verify(eventMapper, times(2)).toDto(event);
             verifyNoMoreInteractions(eventRepository, eventMapper);
         }
     }
@@ -230,8 +295,7 @@ class EventServiceImplTest {
         @DisplayName("Deve retornar EventDto quando o evento for encontrado")
         void shouldReturnEventDtoWhenEventFound() {
             // Dado
-            when(eventRepository.findByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE)).thenReturn(Optional.of(event));
-            when(eventMapper.toDto(event)).thenReturn(eventDto);
+            when(eventRepository.findDtoByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE)).thenReturn(Optional.of(eventDto));
 
             // Quando
             EventDto result = eventService.getById(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"));
@@ -247,16 +311,44 @@ class EventServiceImplTest {
             assertEquals(eventDto.status(), result.status(), "O status deve corresponder");
 
             // Verificar interações
-            verify(eventRepository, times(1)).findByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE);
-            verify(eventMapper, times(1)).toDto(event);
-            verifyNoMoreInteractions(eventRepository, eventMapper);
+            verify(eventRepository, times(1)).findDtoByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE);
+            verifyNoMoreInteractions(eventRepository);
+            verifyNoInteractions(eventMapper);
+        }
+
+        @Test
+        @DisplayName("Não deve abrir transação quando o evento estiver em cache")
+        void shouldNotOpenTransactionOnCacheHit() {
+            // Dado
+            when(readThroughCache.get(eq(EventServiceImpl.EVENTS_CACHE), eq(eventDto.id()), any()))
+                    .thenReturn(eventDto);
+
+            // Quando
+            EventDto result = eventService.getById(eventDto.id());
+
+            // Então
+            assertEquals(eventDto, result);
+            verifyNoInteractions(transactionManager, eventRepository);
+        }
+
+        @Test
+        @DisplayName("Deve consultar o banco em uma transação somente leitura quando faltar no cache")
+        void shouldLoadInReadOnlyTransactionOnCacheMiss() {
+            // Dado
+            when(eventRepository.findDtoByIdAndStatus(eventDto.id(), EventStatus.ACTIVE)).thenReturn(Optional.of(eventDto));
+
+            // Quando
+            eventService.getById(eventDto.id());
+
+            // Então
+            verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()));
         }
 
         @Test
         @DisplayName("Deve lançar ResourceNotFoundException quando o evento não for encontrado")
         void shouldThrowResourceNotFoundExceptionWhenEventNotFound() {
             // Dado
-            when(eventRepository.findByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE)).thenReturn(Optional.empty());
+            when(eventRepository.findDtoByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE)).thenReturn(Optional.empty());
 
             // Quando/Então
             ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
@@ -266,7 +358,7 @@ class EventServiceImplTest {
             assertEquals("Evento não encontrado!", exception.getMessage(), "A mensagem de exceção deve corresponder");
 
             // Verificar interações
-            verify(eventRepository, times(1)).findByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE);
+            verify(eventRepository, times(1)).findDtoByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE);
             verifyNoMoreInteractions(eventRepository);
             verifyNoInteractions(eventMapper);
         }
@@ -275,7 +367,7 @@ class EventServiceImplTest {
         @DisplayName("Deve lidar com ID nulo ao obter evento")
         void shouldHandleNullId() {
             // Dado
-            when(eventRepository.findByIdAndStatus(null, EventStatus.ACTIVE)).thenReturn(Optional.empty());
+            when(eventRepository.findDtoByIdAndStatus(null, EventStatus.ACTIVE)).thenReturn(Optional.empty());
 
             // Quando/Então
             ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
@@ -285,7 +377,7 @@ class EventServiceImplTest {
             assertEquals("Evento não encontrado!", exception.getMessage(), "A mensagem de exceção deve corresponder");
 
             // Verificar interações
-            verify(eventRepository, times(1)).findByIdAndStatus(null, EventStatus.ACTIVE);
+            verify(eventRepository, times(1)).findDtoByIdAndStatus(null, EventStatus.ACTIVE);
             verifyNoMoreInteractions(eventRepository);
             verifyNoInteractions(eventMapper);
         }
@@ -300,9 +392,8 @@ class EventServiceImplTest {
         void shouldReturnAllEventsWithPagination() {
             // Dado
             Pageable pageable = PageRequest.of(0, 10);
-            PageImpl<Event> page = new PageImpl<>(List.of(event));
-            when(eventRepository.findAllByStatus(EventStatus.ACTIVE, pageable)).thenReturn(page);
-            when(eventMapper.toDto(event)).thenReturn(eventDto);
+            PageImpl<EventDto> page = new PageImpl<>(List.of(eventDto));
+            when(eventRepository.findDtoAllByStatus(EventStatus.ACTIVE, pageable)).thenReturn(page);
 
             // Quando
             Page<EventDto> result = eventService.getAll(pageable);
@@ -315,9 +406,9 @@ class EventServiceImplTest {
             assertEquals(1, result.getTotalElements(), "O total de elementos deve ser 1");
 
             // Verificar interações
-            verify(eventRepository, times(1)).findAllByStatus(EventStatus.ACTIVE, pageable);
-            verify(eventMapper, times(1)).toDto(event);
-            verifyNoMoreInteractions(eventRepository, eventMapper);
+            verify(eventRepository, times(1)).findDtoAllByStatus(EventStatus.ACTIVE, pageable);
+            verifyNoMoreInteractions(eventRepository);
+            verifyNoInteractions(eventMapper);
         }
 
         @Test
@@ -325,8 +416,8 @@ class EventServiceImplTest {
         void shouldReturnEmptyPage() {
             // Dado
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Event> emptyPage = new PageImpl<>(List.of());
-            when(eventRepository.findAllByStatus(EventStatus.ACTIVE, pageable)).thenReturn(emptyPage);
+            Page<EventDto> emptyPage = new PageImpl<>(List.of());
+            when(eventRepository.findDtoAllByStatus(EventStatus.ACTIVE, pageable)).thenReturn(emptyPage);
 
             // Quando
             Page<EventDto> result = eventService.getAll(pageable);
@@ -337,7 +428,7 @@ class EventServiceImplTest {
             assertEquals(0, result.getTotalElements(), "O total de elementos deve ser 0");
 
             // Verificar interações
-            verify(eventRepository, times(1)).findAllByStatus(EventStatus.ACTIVE, pageable);
+            verify(eventRepository, times(1)).findDtoAllByStatus(EventStatus.ACTIVE, pageable);
             verifyNoMoreInteractions(eventRepository);
             verifyNoInteractions(eventMapper);
         }
@@ -349,8 +440,8 @@ class EventServiceImplTest {
             Pageable nullPageable = null;
 
             // Quando/Então
-            // Não precisamos mockar o comportamento aqui, pois o NullPointerException
-            // ocorrerá naturalmente quando tentarmos chamar findAllByStatus com null
+            // Não precisamos mockar o comportamento aqui: o serviço rejeita o pageable nulo
+            // antes de consultar o repositório
             NullPointerException exception = assertThrows(NullPointerException.class,
                     () -> eventService.getAll(nullPageable),
                     "Deve lançar NullPointerException quando pageable é nulo (comportamento atual da implementação)");
@@ -358,7 +449,137 @@ class EventServiceImplTest {
             // Não podemos verificar a mensagem exata pois depende da implementação interna
             // e pode variar entre versões do Java/Spring
 
-            // Não verificamos interações pois o método lança exceção antes de chamar o repository
+            verifyNoInteractions(eventRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Obtenção de Evento com Ingressos")
+    class GetEventDetailTests {
+        @Test
+        @DisplayName("Deve retornar o evento com os tipos de ingresso")
+        void shouldReturnEventDetail() {
+            // Dado
+            EventDetailDto detail = detalhe(event.getId());
+            when(eventRepository.findWithTicketTypesByIdAndStatus(event.getId(), EventStatus.ACTIVE))
+                    .thenReturn(Optional.of(event));
+            when(eventMapper.toDetailDto(event)).thenReturn(detail);
+
+            // Quando
+            EventDetailDto result = eventService.getDetailById(event.getId());
+
+            // Então
+            assertEquals(detail, result);
+            verifyNoInteractions(readThroughCache);
+        }
+
+        @Test
+        @DisplayName("Deve lançar ResourceNotFoundException quando o evento não for encontrado")
+        void shouldThrowWhenEventDetailNotFound() {
+            // Dado
+            UUID id = UUID.randomUUID();
+            when(eventRepository.findWithTicketTypesByIdAndStatus(id, EventStatus.ACTIVE)).thenReturn(Optional.empty());
+
+            // Quando/Então
+            assertThrows(ResourceNotFoundException.class, () -> eventService.getDetailById(id));
+            verifyNoInteractions(eventMapper);
+        }
+
+        @Test
+        @DisplayName("Deve montar a página na ordem dos ids, com uma consulta para todos os eventos")
+        void shouldReturnDetailsInPageOrder() {
+            // Dado
+            Pageable pageable = PageRequest.of(0, 3);
+            Event segundo = Event.builder().id(UUID.randomUUID()).status(EventStatus.ACTIVE).build();
+            UUID removido = UUID.randomUUID();
+            List<UUID> ids = List.of(segundo.getId(), removido, event.getId());
+            when(eventRepository.findIdsByStatus(EventStatus.ACTIVE, pageable))
+                    .thenReturn(new PageImpl<>(ids, pageable, 7));
+            when(eventRepository.findWithTicketTypesByIdIn(ids)).thenReturn(List.of(event, segundo));
+            when(eventMapper.toDetailDto(any(Event.class)))
+                    .thenAnswer(invocation -> detalhe(invocation.<Event>getArgument(0).getId()));
+
+            // Quando
+            Page<EventDetailDto> result = eventService.getAllDetails(pageable);
+
+            // Então
+            assertEquals(List.of(segundo.getId(), event.getId()),
+                    result.getContent().stream().map(EventDetailDto::id).toList(),
+                    "A ordem da página deve ser mantida e o evento ausente, omitido");
+            assertEquals(7, result.getTotalElements());
+            verify(eventRepository, times(1)).findWithTicketTypesByIdIn(ids);
+        }
+
+        @Test
+        @DisplayName("Não deve buscar os tipos de ingresso quando a página estiver vazia")
+        void shouldSkipFetchWhenPageEmpty() {
+            // Dado
+            Pageable pageable = PageRequest.of(2, 10);
+            when(eventRepository.findIdsByStatus(EventStatus.ACTIVE, pageable))
+                    .thenReturn(new PageImpl<>(List.of(), pageable, 5));
+
+            // Quando
+            Page<EventDetailDto> result = eventService.getAllDetails(pageable);
+
+            // Então
+            assertTrue(result.isEmpty());
+            assertEquals(5, result.getTotalElements());
+            verify(eventRepository, never()).findWithTicketTypesByIdIn(any());
+        }
+
+        private EventDetailDto detalhe(UUID id) {
+            return new EventDetailDto(id, "Evento Teste", null, event.getStartDatetime(), event.getEndDatetime(),
+                    "Local do Evento", EventStatus.ACTIVE, List.of());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Paginação por Cursor")
+    class ScrollEventsTests {
+
+        @Test
+        @DisplayName("Deve retornar a primeira página e o cursor da próxima")
+        void shouldReturnFirstSliceWithNextCursor() {
+            // Dado
+            when(eventRepository.findFirstSliceByStatus(EventStatus.ACTIVE, PageRequest.ofSize(1)))
+                    .thenReturn(new SliceImpl<>(List.of(event), PageRequest.ofSize(1), true));
+            when(eventMapper.toDto(event)).thenReturn(eventDto);
+
+            // Quando
+            CursorPageDto<EventDto> result = eventService.scroll(null, 1);
+
+            // Então
+            assertEquals(List.of(eventDto), result.content());
+            assertTrue(result.hasNext(), "Deve haver próxima página");
+            KeysetCursor next = KeysetCursor.decode(result.nextCursor());
+            assertEquals(event.getStartDatetime(), next.sortKey(), "O cursor deve apontar para a data do último item");
+            assertEquals(event.getId(), next.id(), "O cursor deve apontar para o ID do último item");
+        }
+
+        @Test
+        @DisplayName("Deve buscar a página seguinte a partir do cursor")
+        void shouldSeekAfterCursor() {
+            // Dado
+            KeysetCursor cursor = new KeysetCursor(event.getStartDatetime(), event.getId());
+            when(eventRepository.findSliceByStatusAfter(EventStatus.ACTIVE, event.getStartDatetime(), event.getId(), PageRequest.ofSize(20)))
+                    .thenReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(20), false));
+
+            // Quando
+            CursorPageDto<EventDto> result = eventService.scroll(cursor.encode(), 20);
+
+            // Então
+            assertTrue(result.content().isEmpty(), "A página deve estar vazia");
+            assertFalse(result.hasNext(), "Não deve haver próxima página");
+            assertNull(result.nextCursor(), "A última página não tem cursor");
+            verify(eventRepository, never()).findDtoAllByStatus(any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar cursor inválido e tamanho fora do limite")
+        void shouldRejectInvalidCursorAndSize() {
+            assertThrows(IllegalArgumentException.class, () -> eventService.scroll("não-é-cursor", 20));
+            assertThrows(IllegalArgumentException.class, () -> eventService.scroll(null, KeysetCursor.MAX_SIZE + 1));
+            verifyNoInteractions(eventRepository);
         }
     }
 
@@ -382,6 +603,10 @@ class EventServiceImplTest {
             verify(eventRepository, times(1)).findByIdAndStatus(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"), EventStatus.ACTIVE);
             verify(eventRepository, times(1)).save(event);
             verifyNoMoreInteractions(eventRepository);
+            verify(outboxWriter, times(1)).append(eq(OutboxEventType.EVENT_DELETED), eq(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63")), any());
+            verify(cacheInvalidator, times(1)).evictWithPages(EventServiceImpl.EVENTS_CACHE, UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"));
+            verify(eventSearchService, times(1)).remove(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"));
+            verify(eventWindowService, times(1)).remove(UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63"));
         }
 
         @Test
@@ -402,6 +627,23 @@ class EventServiceImplTest {
             verifyNoMoreInteractions(eventRepository);
         }
 
+        @Test
+        @DisplayName("Deve excluir quando a versão do If-Match for a atual e rejeitar quando estiver desatualizada")
+        void shouldCheckVersionOnDelete() {
+            // Dado
+            UUID eventId = UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63");
+            when(eventRepository.findByIdAndStatus(eventId, EventStatus.ACTIVE)).thenReturn(Optional.of(event));
+
+            // Quando / Então
+            assertThrows(PreconditionFailedException.class, () -> eventService.delete(eventId, 2L));
+            assertEquals(EventStatus.ACTIVE, event.getStatus());
+            verify(eventRepository, never()).save(any(Event.class));
+
+            when(eventRepository.save(event)).thenReturn(event);
+            eventService.delete(eventId, 3L);
+            assertEquals(EventStatus.DELETED, event.getStatus());
+        }
+
         @Test
         @DisplayName("Deve lidar com ID nulo ao excluir evento")
         void shouldHandleNullId() {
@@ -0,0 +1,234 @@
+package br.dev.leandro.spring.event.unit.service;
+
+import br.dev.leandro.spring.event.cache.CacheInvalidator;
+import br.dev.leandro.spring.event.config.StatusTransitionProperties;
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.dto.EventStatusTransitionDto;
+import br.dev.leandro.spring.event.dto.EventStatusTransitionReportDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.outbox.OutboxEventType;
+import br.dev.leandro.spring.event.outbox.OutboxWriter;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.service.AuditHistoryService;
+import br.dev.leandro.spring.event.service.EventSearchService;
+import br.dev.leandro.spring.event.service.EventStatusTransitionServiceImpl;
+import br.dev.leandro.spring.event.service.EventWindowService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Serviço de Transição de Status em Lote")
+class EventStatusTransitionServiceImplTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2026, 12, 1, 20, 0);
+    private static final UUID ORGANIZADOR = UUID.fromString("6785e97d-53d1-4be2-9233-3f8cfb549f63");
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventMapper eventMapper;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private EventSearchService eventSearchService;
+
+    @Mock
+    private EventWindowService eventWindowService;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    @Mock
+    private AuditHistoryService auditHistoryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final StatusTransitionProperties properties = new StatusTransitionProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventStatusTransitionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        properties.setChunkSize(2);
+        service = new EventStatusTransitionServiceImpl(eventRepository, eventMapper, cacheInvalidator,
+                eventSearchService, eventWindowService, outboxWriter, auditHistoryService, transactionManager,
+                properties, meterRegistry);
+        lenient().when(eventMapper.toDto(any(Event.class))).thenAnswer(invocation -> dto(invocation.getArgument(0)));
+        autenticar("ROLE_ORGANIZER");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve cancelar os eventos informados em blocos e remover do cache apenas os alterados")
+    void deveCancelarPorIdsEmBlocos() {
+        // Dado
+        Event a = evento(EventStatus.ACTIVE);
+        Event b = evento(EventStatus.ACTIVE);
+        Event c = evento(EventStatus.DRAFT);
+        UUID inexistente = UUID.randomUUID();
+        when(eventRepository.lockAllByIdInAndStatusIn(eq(List.of(a.getId(), b.getId())), anyCollection(), eq(ORGANIZADOR)))
+                .thenReturn(List.of(a, b));
+        when(eventRepository.lockAllByIdInAndStatusIn(eq(List.of(c.getId(), inexistente)), anyCollection(), eq(ORGANIZADOR)))
+                .thenReturn(List.of(c));
+        when(eventRepository.updateStatus(anyCollection(), anyCollection(), eq(EventStatus.CANCELLED), eq("ana"), any()))
+                .thenAnswer(invocation -> invocation.<List<UUID>>getArgument(0).size());
+
+        // Quando
+        EventStatusTransitionReportDto report = service.transition(new EventStatusTransitionDto(EventStatus.CANCELLED,
+                null, List.of(a.getId(), b.getId(), c.getId(), inexistente, a.getId()), null, null, null));
+
+        // Então
+        assertEquals(new EventStatusTransitionReportDto(EventStatus.CANCELLED, 4, 3, 1, 2), report);
+        verify(eventRepository, times(2)).updateStatus(anyCollection(), eq(EventStatus.sourcesOf(EventStatus.CANCELLED)),
+                eq(EventStatus.CANCELLED), eq("ana"), any());
+        verify(outboxWriter, times(2)).appendAll(eq(OutboxEventType.EVENT_UPDATED), anyMap());
+        verify(cacheInvalidator).evict("events", a.getId());
+        verify(cacheInvalidator).evict("events", c.getId());
+        verify(cacheInvalidator, never()).evict("events", inexistente);
+        verify(cacheInvalidator, times(1)).invalidatePages("events");
+        List<EventDto> primeiroBloco = List.of(transitado(a, EventStatus.CANCELLED), transitado(b, EventStatus.CANCELLED));
+        verify(eventSearchService).indexAll(primeiroBloco);
+        verify(eventWindowService).indexAll(primeiroBloco);
+        verify(eventSearchService, times(2)).indexAll(anyCollection());
+        verify(eventWindowService, times(2)).indexAll(anyCollection());
+        verify(eventSearchService, never()).index(any());
+        verify(eventWindowService, never()).index(any());
+        verify(auditHistoryService).recordUpdates(AuditHistoryService.EVENT, List.of(
+                new AuditHistoryService.Update<>(a.getId(), dto(a), primeiroBloco.get(0), 4L),
+                new AuditHistoryService.Update<>(b.getId(), dto(b), primeiroBloco.get(1), 4L)), "ana");
+        verify(auditHistoryService, times(2)).recordUpdates(eq(AuditHistoryService.EVENT), anyList(), eq("ana"));
+        assertEquals(3.0, meterRegistry.get("events.status-transition.rows").tag("target", "CANCELLED").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer o filtro em blocos até encontrar um bloco incompleto")
+    void deveExcluirPorFiltro() {
+        // Dado
+        UUID organizador = ORGANIZADOR;
+        Event a = evento(EventStatus.ACTIVE);
+        Event b = evento(EventStatus.ACTIVE);
+        Event c = evento(EventStatus.CANCELLED);
+        when(eventRepository.lockNextByFilter(anyCollection(), eq(organizador), any(), any(), eq(null), eq(PageRequest.ofSize(2))))
+                .thenReturn(List.of(a, b));
+        when(eventRepository.lockNextByFilter(anyCollection(), eq(organizador), any(), any(), eq(b.getId()), eq(PageRequest.ofSize(2))))
+                .thenReturn(List.of(c));
+        when(eventRepository.updateStatus(anyCollection(), anyCollection(), eq(EventStatus.DELETED), eq("ana"), any()))
+                .thenAnswer(invocation -> invocation.<List<UUID>>getArgument(0).size());
+
+        // Quando
+        EventStatusTransitionReportDto report = service.transition(new EventStatusTransitionDto(EventStatus.DELETED,
+                null, null, organizador, null, null));
+
+        // Então
+        assertEquals(new EventStatusTransitionReportDto(EventStatus.DELETED, 3, 3, 0, 2), report);
+        verify(outboxWriter).appendAll(eq(OutboxEventType.EVENT_DELETED), eq(Map.of(c.getId(),
+                transitado(c, EventStatus.DELETED))));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar ids e filtro juntos, nenhum dos dois ou transição sem origem permitida")
+    void deveRejeitarRequisicoesInvalidas() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> service.transition(new EventStatusTransitionDto(
+                EventStatus.CANCELLED, null, List.of(id), UUID.randomUUID(), null, null)));
+        assertThrows(IllegalArgumentException.class, () -> service.transition(new EventStatusTransitionDto(
+                EventStatus.CANCELLED, null, List.of(), null, null, null)));
+        assertThrows(IllegalArgumentException.class, () -> service.transition(new EventStatusTransitionDto(
+                EventStatus.ACTIVE, Set.of(EventStatus.DELETED), List.of(id), null, null, null)));
+        assertThrows(IllegalArgumentException.class, () -> service.transition(new EventStatusTransitionDto(
+                EventStatus.DRAFT, null, List.of(id), null, null, null)));
+        verifyNoInteractions(eventRepository, outboxWriter, cacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("Deve restringir o organizador aos próprios eventos e permitir ao ADMIN qualquer filtro")
+    void deveRestringirOrganizadorAosPropriosEventos() {
+        // Organizador: filtro sem organizador ou de outro organizador é rejeitado
+        assertThrows(IllegalArgumentException.class, () -> service.transition(new EventStatusTransitionDto(
+                EventStatus.CANCELLED, null, null, null, INICIO, null)));
+        assertThrows(AccessDeniedException.class, () -> service.transition(new EventStatusTransitionDto(
+                EventStatus.CANCELLED, null, null, UUID.randomUUID(), null, null)));
+        verifyNoInteractions(eventRepository);
+
+        // Organizador: ids de outros organizadores não são bloqueados
+        UUID deOutro = UUID.randomUUID();
+        EventStatusTransitionReportDto report = service.transition(new EventStatusTransitionDto(
+                EventStatus.CANCELLED, null, List.of(deOutro), null, null, null));
+        assertEquals(new EventStatusTransitionReportDto(EventStatus.CANCELLED, 1, 0, 1, 1), report);
+        verify(eventRepository).lockAllByIdInAndStatusIn(eq(List.of(deOutro)), anyCollection(), eq(ORGANIZADOR));
+
+        // ADMIN: filtro sem organizador alcança todos os eventos
+        autenticar("ROLE_ADMIN");
+        service.transition(new EventStatusTransitionDto(EventStatus.CANCELLED, null, null, null, INICIO, null));
+        verify(eventRepository).lockNextByFilter(anyCollection(), eq(null), eq(INICIO), eq(null), eq(null),
+                eq(PageRequest.ofSize(2)));
+        verify(eventRepository, never()).updateStatus(anyCollection(), anyCollection(), any(), any(), any());
+    }
+
+    private static void autenticar(String role) {
+        Jwt jwt = mock(Jwt.class);
+        lenient().when(jwt.getClaim("preferred_username")).thenReturn("ana");
+        lenient().when(jwt.getSubject()).thenReturn(ORGANIZADOR.toString());
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(jwt, null, role));
+    }
+
+    private static Event evento(EventStatus status) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .name("Festival")
+                .location("Parque")
+                .startDatetime(INICIO)
+                .endDatetime(INICIO.plusHours(4))
+                .status(status)
+                .version(3L)
+                .build();
+    }
+
+    private static EventDto dto(Event event) {
+        return new EventDto(event.getId(), event.getName(), event.getDescription(), event.getStartDatetime(),
+                event.getEndDatetime(), event.getLocation(), event.getStatus(), event.getVersion());
+    }
+
+    private static EventDto transitado(Event event, EventStatus status) {
+        return new EventDto(event.getId(), event.getName(), event.getDescription(), event.getStartDatetime(),
+                event.getEndDatetime(), event.getLocation(), status, event.getVersion() + 1);
+    }
+}
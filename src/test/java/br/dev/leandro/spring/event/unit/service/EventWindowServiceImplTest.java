@@ -0,0 +1,141 @@
+package br.dev.leandro.spring.event.unit.service;
+
+import br.dev.leandro.spring.event.config.EventWindowProperties;
+import br.dev.leandro.spring.event.dto.EventDto;
+import br.dev.leandro.spring.event.entity.Event;
+import br.dev.leandro.spring.event.entity.enums.EventStatus;
+import br.dev.leandro.spring.event.mapper.EventMapper;
+import br.dev.leandro.spring.event.repository.EventRepository;
+import br.dev.leandro.spring.event.service.EventWindowServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes das Consultas por Janela de Datas")
+class EventWindowServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventWindowServiceImpl service;
+    private Event proximo;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new EventWindowServiceImpl(eventRepository, Mappers.getMapper(EventMapper.class), entityManager,
+                transactionManager, new EventWindowProperties(), meterRegistry,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        proximo = evento(NOW.plusDays(2), NOW.plusDays(2).plusHours(3));
+        when(eventRepository.streamOverlapping(EventStatus.ACTIVE, NOW.minusDays(1), NOW.plusDays(56)))
+                .thenReturn(Stream.of(proximo));
+        service.afterSingletonsInstantiated();
+    }
+
+    @Test
+    @DisplayName("Deve responder janelas dentro do horizonte pela memória, sem consultar o banco")
+    void deveResponderPelaMemoria() {
+        // Quando
+        Page<EventDto> pagina = service.findOverlapping(NOW, NOW.plusDays(7), PageRequest.of(0, 20));
+
+        // Então
+        assertEquals(List.of(proximo.getId()), pagina.getContent().stream().map(EventDto::id).toList());
+        verify(entityManager).detach(proximo);
+        verify(eventRepository, never()).findOverlapping(any(), any(), any(), any());
+        assertEquals(1, meterRegistry.get("events.window").tag("source", "memory").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando a janela ultrapassa o horizonte")
+    void deveConsultarOBancoForaDoHorizonte() {
+        // Dado
+        LocalDateTime from = NOW.plusDays(50);
+        LocalDateTime to = NOW.plusDays(60);
+        when(eventRepository.findOverlapping(EventStatus.ACTIVE, from, to, PageRequest.of(0, 20)))
+                .thenReturn(new PageImpl<>(List.of()));
+
+        // Quando
+        Page<EventDto> pagina = service.findOverlapping(from, to, PageRequest.of(0, 20));
+
+        // Então
+        assertTrue(pagina.isEmpty());
+        assertEquals(1, meterRegistry.get("events.window").tag("source", "database").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações e remoções no horizonte em memória")
+    void deveRefletirAlteracoes() {
+        // Dado
+        EventDto novo = new EventDto(UUID.randomUUID(), "Novo", null, NOW.plusDays(3), NOW.plusDays(3).plusHours(1),
+                "Local", EventStatus.ACTIVE, 1L);
+        EventDto forDoHorizonte = new EventDto(UUID.randomUUID(), "Distante", null, NOW.plusDays(90),
+                NOW.plusDays(90).plusHours(1), "Local", EventStatus.ACTIVE, 1L);
+
+        // Quando
+        service.index(novo);
+        service.index(forDoHorizonte);
+        service.remove(proximo.getId());
+
+        // Então
+        assertEquals(List.of(novo), service.findOverlapping(NOW, NOW.plusDays(7), PageRequest.of(0, 20)).getContent());
+        service.index(new EventDto(novo.id(), novo.name(), null, novo.startDatetime(), novo.endDatetime(),
+                novo.location(), EventStatus.DELETED, 2L));
+        assertTrue(service.findOverlapping(NOW, NOW.plusDays(7), PageRequest.of(0, 20)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar janelas inválidas")
+    void deveRejeitarJanelasInvalidas() {
+        PageRequest pageable = PageRequest.of(0, 20);
+
+        assertThrows(IllegalArgumentException.class, () -> service.findOverlapping(NOW, NOW, pageable));
+        assertThrows(IllegalArgumentException.class, () -> service.findOverlapping(NOW, NOW.minusDays(1), pageable));
+        assertThrows(IllegalArgumentException.class, () -> service.findOverlapping(NOW, NOW.plusYears(2), pageable));
+        assertThrows(IllegalArgumentException.class, () -> service.findOverlapping(null, NOW, pageable));
+    }
+
+    private static Event evento(LocalDateTime start, LocalDateTime end) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .name("Evento")
+                .location("Local")
+                .startDatetime(start)
+                .endDatetime(end)
+                .status(EventStatus.ACTIVE)
+                .version(1L)
+                .build();
+    }
+}